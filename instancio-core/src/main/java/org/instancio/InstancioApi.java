@@ -15,12 +15,14 @@
  */
 package org.instancio;
 
+import org.instancio.documentation.ExperimentalApi;
 import org.instancio.generator.AfterGenerate;
 import org.instancio.generator.Generator;
 import org.instancio.generators.Generators;
 import org.instancio.settings.Keys;
 import org.instancio.settings.Settings;
 
+import java.util.List;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
@@ -68,12 +70,82 @@ public interface InstancioApi<T> {
      *         .limit(5)
      *         .collect(Collectors.toList());
      * }</pre>
+     * <p>
+     * Each object is generated using a seed derived from the model's seed
+     * and the object's position in the stream. Therefore, the stream
+     * can be processed in parallel and, given the same seed, produces
+     * the same objects whether it is sequential or parallel. Note that
+     * when processed in parallel, custom generators, suppliers, and
+     * callbacks may be invoked concurrently.
      *
      * @return an infinite stream of distinct, populated objects
      * @since 1.1.9
      */
     Stream<T> stream();
 
+    /**
+     * Creates the object at the given index of the stream returned
+     * by {@link #stream()}, without creating the objects preceding it.
+     * <p>
+     * Given the same seed, the result is the same as the element
+     * at this index of a sequential or parallel stream:
+     * <pre>{@code
+     *     Person person = Instancio.of(Person.class)
+     *         .withSeed(12345)
+     *         .createAt(4_000_000);
+     * }</pre>
+     *
+     * @param index of the object in the stream, must not be negative
+     * @return a fully populated object
+     * @see #stream(long, long)
+     * @since 2.5.0
+     */
+    @ExperimentalApi
+    T createAt(long index);
+
+    /**
+     * Creates a stream of objects with indices from {@code fromInclusive}
+     * to {@code toExclusive}. Given the same seed, the stream contains the
+     * same objects as the corresponding range of the stream returned by
+     * {@link #stream()}. Objects preceding the range are not created,
+     * which allows a large data set to be split into slices that are
+     * generated independently, for example, by different processes:
+     * <pre>{@code
+     *     List<Person> slice = Instancio.of(Person.class)
+     *         .withSeed(12345)
+     *         .stream(4_000_000, 5_000_000)
+     *         .collect(Collectors.toList());
+     * }</pre>
+     *
+     * @param fromInclusive index of the first object, must not be negative
+     * @param toExclusive   index one past the last object
+     * @return a finite stream of distinct, populated objects
+     * @see #createAt(long)
+     * @since 2.5.0
+     */
+    @ExperimentalApi
+    Stream<T> stream(long fromInclusive, long toExclusive);
+
+    /**
+     * Creates a list of the given size containing the same objects as
+     * the first {@code size} elements of the stream returned by {@link #stream()}.
+     * <p>
+     * This method is intended for creating large numbers of objects.
+     * All objects are created in a single batch from the same model.
+     * As with {@link #create()}, {@code onComplete()} callbacks are invoked
+     * once each object has been created. However, unused selectors are
+     * reported only once, after all the objects have been created.
+     * <pre>{@code
+     *     List<Person> persons = Instancio.of(Person.class).createList(10_000);
+     * }</pre>
+     *
+     * @param size of the list, must not be negative
+     * @return a list of distinct, populated objects
+     * @since 2.5.0
+     */
+    @ExperimentalApi
+    List<T> createList(int size);
+
     /**
      * Creates a model containing all the information for populating a class.
      * <p>
@@ -15,6 +15,8 @@
  */
 package org.instancio;
 
+import org.instancio.documentation.ExperimentalApi;
+
 import java.util.Collection;
 
 /**
@@ -82,6 +84,40 @@ public interface Random {
      */
     long longRange(long min, long max);
 
+    /**
+     * Fills the given array with random {@code int} values within the given range.
+     * The result is the same as assigning each element the value
+     * returned by {@link #intRange(int, int)}.
+     *
+     * @param array to fill
+     * @param min   lower bound
+     * @param max   upper bound (inclusive)
+     * @since 2.5.0
+     */
+    @ExperimentalApi
+    default void fillIntRange(final int[] array, final int min, final int max) {
+        for (int i = 0; i < array.length; i++) {
+            array[i] = intRange(min, max);
+        }
+    }
+
+    /**
+     * Fills the given array with random {@code long} values within the given range.
+     * The result is the same as assigning each element the value
+     * returned by {@link #longRange(long, long)}.
+     *
+     * @param array to fill
+     * @param min   lower bound
+     * @param max   upper bound (inclusive)
+     * @since 2.5.0
+     */
+    @ExperimentalApi
+    default void fillLongRange(final long[] array, final long min, final long max) {
+        for (int i = 0; i < array.length; i++) {
+            array[i] = longRange(min, max);
+        }
+    }
+
     /**
      * Returns a random {@code float} within the given range.
      *
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio;
+
+import org.instancio.documentation.ExperimentalApi;
+import org.instancio.internal.util.StringUtils;
+import org.instancio.settings.Keys;
+import org.instancio.settings.Settings;
+import org.instancio.spi.RandomEngineProvider;
+
+/**
+ * A setting that specifies the algorithm used for generating
+ * random values. Regardless of the engine, objects generated
+ * using the same seed and the same engine are reproducible.
+ * However, different engines produce different values
+ * for the same seed.
+ *
+ * @see Settings
+ * @see Keys#RANDOM_ENGINE
+ * @since 2.5.0
+ */
+@ExperimentalApi
+public enum RandomEngineType {
+
+    /**
+     * Uses {@link java.util.Random} (default behaviour).
+     * This engine produces the same values for a given seed
+     * as previous versions of Instancio.
+     */
+    JDK,
+
+    /**
+     * Uses {@link java.util.SplittableRandom}, which is faster
+     * than {@link java.util.Random} and has better statistical quality.
+     */
+    SPLITTABLE,
+
+    /**
+     * Uses the xoroshiro128++ algorithm, which has a small state
+     * and is one of the fastest available generators.
+     */
+    XOROSHIRO128PP,
+
+    /**
+     * Uses the {@code L64X128MixRandom} algorithm provided by
+     * {@code java.util.random.RandomGenerator}. This engine
+     * requires Java 17 or higher.
+     */
+    L64X128MIX,
+
+    /**
+     * Uses the engine created by a {@link RandomEngineProvider}
+     * registered via the Service Provider Interface.
+     */
+    CUSTOM;
+
+    @Override
+    public String toString() {
+        return StringUtils.enumToString(this);
+    }
+}
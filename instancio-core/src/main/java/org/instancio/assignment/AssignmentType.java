@@ -40,7 +40,22 @@ public enum AssignmentType {
     /**
      * Indicates that values should be set via setter methods.
      */
-    METHOD;
+    METHOD,
+
+    /**
+     * Indicates that objects should be created via a constructor that
+     * accepts values for all of the class's fields. The values are generated
+     * first and then passed to the constructor, instead of instantiating
+     * the object and assigning values to its fields.
+     * <p>
+     * Constructor parameters are matched to fields by name and type if the
+     * class was compiled with the {@code -parameters} compiler flag,
+     * or by type otherwise. Objects of classes that do not have such
+     * a constructor are populated via fields, as with {@link #FIELD}.
+     *
+     * @since 2.5.0
+     */
+    CONSTRUCTOR;
 
     @Override
     public String toString() {
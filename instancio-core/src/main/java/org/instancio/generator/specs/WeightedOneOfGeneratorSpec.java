@@ -0,0 +1,58 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.generator.specs;
+
+import org.instancio.documentation.ExperimentalApi;
+import org.instancio.generator.GeneratorSpec;
+
+import java.util.Map;
+
+/**
+ * Generator spec for selecting a random value based on weights.
+ * The probability of a value being selected is its weight
+ * divided by the sum of all weights.
+ *
+ * @param <T> type of value
+ * @since 2.5.0
+ */
+@ExperimentalApi
+public interface WeightedOneOfGeneratorSpec<T> extends GeneratorSpec<T> {
+
+    /**
+     * Adds a choice with the given weight. Weights are relative,
+     * for example, weights {@code 80}, {@code 15} and {@code 5}
+     * are equivalent to {@code 0.8}, {@code 0.15} and {@code 0.05}.
+     * If the same value is added more than once, its weights are summed.
+     *
+     * @param value  to choose
+     * @param weight of the value, must be non-negative and finite
+     * @return spec builder
+     * @since 2.5.0
+     */
+    @ExperimentalApi
+    WeightedOneOfGeneratorSpec<T> choice(T value, double weight);
+
+    /**
+     * Adds choices from the given map of values to weights.
+     * The map can be combined with {@link #choice(Object, double)}.
+     *
+     * @param weights a map of values to their weights
+     * @return spec builder
+     * @since 2.5.0
+     */
+    @ExperimentalApi
+    WeightedOneOfGeneratorSpec<T> choices(Map<? extends T, ? extends Number> weights);
+}
@@ -15,6 +15,7 @@
  */
 package org.instancio.generators;
 
+import org.instancio.documentation.ExperimentalApi;
 import org.instancio.generator.GeneratorContext;
 import org.instancio.generator.specs.ArrayGeneratorSpec;
 import org.instancio.generator.specs.BooleanGeneratorSpec;
@@ -27,6 +28,7 @@ import org.instancio.generator.specs.NumberGeneratorSpec;
 import org.instancio.generator.specs.OneOfArrayGeneratorSpec;
 import org.instancio.generator.specs.OneOfCollectionGeneratorSpec;
 import org.instancio.generator.specs.StringGeneratorSpec;
+import org.instancio.generator.specs.WeightedOneOfGeneratorSpec;
 import org.instancio.internal.generator.array.ArrayGenerator;
 import org.instancio.internal.generator.array.OneOfArrayGenerator;
 import org.instancio.internal.generator.lang.BooleanGenerator;
@@ -43,8 +45,10 @@ import org.instancio.internal.generator.util.CollectionGeneratorSpecImpl;
 import org.instancio.internal.generator.util.EnumSetGenerator;
 import org.instancio.internal.generator.util.MapGeneratorSpecImpl;
 import org.instancio.internal.generator.util.OneOfCollectionGenerator;
+import org.instancio.internal.generator.util.WeightedOneOfGenerator;
 
 import java.util.Collection;
+import java.util.Map;
 
 /**
  * This class provides access to built-in generators.
@@ -199,6 +203,41 @@ public class Generators {
         return new OneOfCollectionGenerator<T>(context).oneOf(choices);
     }
 
+    /**
+     * Picks a random value based on weights. Each value is selected
+     * with probability proportional to its weight, for example:
+     *
+     * <pre>{@code
+     *   gen.weightedOneOf()
+     *       .choice(Status.ACTIVE, 80)
+     *       .choice(Status.SUSPENDED, 15)
+     *       .choice(Status.CLOSED, 5)
+     * }</pre>
+     *
+     * @param <T> element type
+     * @return generator for making a weighted selection
+     * @since 2.5.0
+     */
+    @ExperimentalApi
+    public <T> WeightedOneOfGeneratorSpec<T> weightedOneOf() {
+        return new WeightedOneOfGenerator<>(context);
+    }
+
+    /**
+     * Picks a random value based on weights provided as a map
+     * of values to weights. Each value is selected with probability
+     * proportional to its weight.
+     *
+     * @param weights a map of values to their weights
+     * @param <T>     element type
+     * @return generator for making a weighted selection
+     * @since 2.5.0
+     */
+    @ExperimentalApi
+    public <T> WeightedOneOfGeneratorSpec<T> weightedOneOf(final Map<T, ? extends Number> weights) {
+        return new WeightedOneOfGenerator<T>(context).choices(weights);
+    }
+
     /**
      * Customises generated arrays.
      *
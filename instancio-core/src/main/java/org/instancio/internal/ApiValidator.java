@@ -32,6 +32,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.function.Supplier;
 
+@SuppressWarnings("PMD.GodClass")
 public final class ApiValidator {
 
     // Note: include nested generic class in the example as it's used as a validation message for this use case
@@ -183,6 +184,17 @@ public final class ApiValidator {
         return size;
     }
 
+    public static long validateIndex(final long index) {
+        isTrue(index >= 0, "Index must not be negative: %s", index);
+        return index;
+    }
+
+    public static void validateIndexRange(final long fromInclusive, final long toExclusive) {
+        validateIndex(fromInclusive);
+        isTrue(fromInclusive <= toExclusive,
+                "Start index must not be greater than end index: %s, %s", fromInclusive, toExclusive);
+    }
+
     public static int validateLength(final int length) {
         isTrue(length >= 0, "Length must not be negative: %s", length);
         return length;
@@ -56,6 +56,11 @@ public class CallbackHandler implements GenerationListener {
         }
     }
 
+    /**
+     * Invokes callbacks for results collected since the last invocation
+     * and clears collected results so that the handler can be reused
+     * for generating the next root object.
+     */
     public void invokeCallbacks() {
         LOG.trace("Preparing to call {} callback(s)", resultsForCallbacks.size());
         resultsForCallbacks.forEach((node, results) -> {
@@ -68,6 +73,17 @@ public class CallbackHandler implements GenerationListener {
                 }
             }
         });
+        resultsForCallbacks.clear();
+    }
+
+    /**
+     * Discards results collected since the last invocation, for example,
+     * if generating a root object failed and callbacks were not invoked.
+     */
+    public void clearResults() {
+        if (!resultsForCallbacks.isEmpty()) {
+            resultsForCallbacks.clear();
+        }
     }
 
     private List<OnCompleteCallback<?>> getCallbacks(final Node node) {
@@ -18,7 +18,6 @@ package org.instancio.internal;
 import org.instancio.generator.AfterGenerate;
 import org.instancio.internal.context.ModelContext;
 import org.instancio.internal.nodes.Node;
-import org.instancio.internal.util.ReflectionUtils;
 
 class FieldNodePopulationFilter implements NodePopulationFilter {
 
@@ -46,11 +45,10 @@ class FieldNodePopulationFilter implements NodePopulationFilter {
             return false;
         }
         if (afterGenerate == AfterGenerate.POPULATE_NULLS) {
-            return ReflectionUtils.hasNonNullValue(fieldNode.getField(), objectContainingField);
+            return fieldNode.getFieldAccessor().hasNonNullValue(objectContainingField);
         }
         if (afterGenerate == AfterGenerate.POPULATE_NULLS_AND_DEFAULT_PRIMITIVES) {
-            return ReflectionUtils.hasNonNullOrNonDefaultPrimitiveValue(
-                    fieldNode.getField(), objectContainingField);
+            return fieldNode.getFieldAccessor().hasNonNullOrNonDefaultValue(objectContainingField);
         }
 
         return true;
@@ -22,7 +22,10 @@ import org.instancio.internal.nodes.Node;
 import org.instancio.settings.Keys;
 
 import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Queue;
+import java.util.Set;
 
 /**
  * Looks up generators and on-complete callbacks for all descendants
@@ -33,6 +36,9 @@ class GeneratedNullValueListener implements GenerationListener {
     private final ModelContext<?> context;
     private final boolean isLenientMode;
 
+    // Nodes whose selectors (including those of descendants) have already been marked as used
+    private final Set<Node> markedNodes = Collections.newSetFromMap(new IdentityHashMap<>());
+
     GeneratedNullValueListener(final ModelContext<?> context) {
         this.context = context;
         this.isLenientMode = context.getSettings().get(Keys.MODE) == Mode.LENIENT;
@@ -57,6 +63,10 @@ class GeneratedNullValueListener implements GenerationListener {
         while (!queue.isEmpty()) {
             final Node current = queue.poll();
 
+            if (!markedNodes.add(current)) {
+                continue;
+            }
+
             // mark as "used"
             context.isIgnored(current);
             context.isNullable(current);
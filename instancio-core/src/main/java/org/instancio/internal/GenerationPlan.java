@@ -0,0 +1,160 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal;
+
+import org.instancio.exception.InstancioException;
+import org.instancio.internal.nodes.Node;
+import org.instancio.internal.util.Verify;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A node tree compiled into a flat array of operations.
+ * <p>
+ * Each node is assigned an index, with the root node at index zero.
+ * The operation for generating the node's value and the indexes of
+ * the node's children are resolved once, when the model is created,
+ * and are stored at the node's index. The plan is executed by
+ * {@link InstancioEngine} using an explicit stack instead of recursion,
+ * therefore the depth of generated object graphs is not limited
+ * by the size of the call stack.
+ */
+final class GenerationPlan {
+
+    /**
+     * Operations for generating a node's value.
+     */
+    enum Op {
+        /**
+         * A node without children, such as a {@code String},
+         * or a class whose fields were not resolved (for example, to avoid cycles).
+         */
+        VALUE,
+        POJO,
+        ARRAY,
+        COLLECTION,
+        MAP,
+        RECORD,
+        CONTAINER
+    }
+
+    private static final int ROOT = 0;
+
+    private final Node[] nodes;
+    private final Op[] ops;
+    private final int[][] children;
+
+    private GenerationPlan(final Node rootNode) {
+        final List<Node> nodeList = new ArrayList<>();
+        final List<Op> opList = new ArrayList<>();
+        final List<int[]> childList = new ArrayList<>();
+        nodeList.add(rootNode);
+
+        // breadth-first traversal, without recursion; children
+        // are appended to the list of nodes as they are visited
+        int next = 0;
+        while (next < nodeList.size()) {
+            final Node node = nodeList.get(next++);
+            final List<Node> nodeChildren = node.getChildren();
+            final int[] indexes = new int[nodeChildren.size()];
+            for (int j = 0; j < indexes.length; j++) {
+                indexes[j] = nodeList.size();
+                nodeList.add(nodeChildren.get(j));
+            }
+            opList.add(toOp(node));
+            childList.add(indexes);
+        }
+
+        this.nodes = nodeList.toArray(new Node[0]);
+        this.ops = opList.toArray(new Op[0]);
+        this.children = childList.toArray(new int[0][]);
+    }
+
+    /**
+     * Compiles the tree with the given root node into a plan.
+     *
+     * @param rootNode of the tree
+     * @return the plan
+     */
+    static GenerationPlan compile(final Node rootNode) {
+        return new GenerationPlan(rootNode);
+    }
+
+    private static Op toOp(final Node node) {
+        if (node.getChildren().isEmpty()) {
+            return Op.VALUE;
+        }
+        switch (node.getNodeKind()) {
+            case DEFAULT:
+                return Op.POJO;
+            case ARRAY:
+                return Op.ARRAY;
+            case COLLECTION:
+                return Op.COLLECTION;
+            case MAP:
+                return Op.MAP;
+            case RECORD:
+                return Op.RECORD;
+            case CONTAINER:
+                return Op.CONTAINER;
+            default:
+                // unreachable
+                throw new InstancioException(String.format("Unhandled node kind '%s' for %s", node.getNodeKind(), node));
+        }
+    }
+
+    int getRoot() {
+        return ROOT;
+    }
+
+    int size() {
+        return nodes.length;
+    }
+
+    Node getNode(final int index) {
+        return nodes[index];
+    }
+
+    Op getOp(final int index) {
+        return ops[index];
+    }
+
+    /**
+     * Returns indexes of the children of the node at the given index.
+     * The array is not copied and must not be modified.
+     *
+     * @param index of the parent node
+     * @return indexes of the child nodes
+     */
+    @SuppressWarnings("PMD.MethodReturnsInternalArray")
+    int[] getChildren(final int index) {
+        return children[index];
+    }
+
+    /**
+     * Returns the index of the only child of the node at the given index,
+     * such as the element of an array or a collection.
+     *
+     * @param index of the parent node
+     * @return index of the child node
+     */
+    int getOnlyChild(final int index) {
+        final int[] nodeChildren = children[index];
+        Verify.state(nodeChildren.length == 1, "Expected one child, but were %s", nodeChildren.length);
+        return nodeChildren[0];
+    }
+}
@@ -29,64 +29,124 @@ import org.instancio.internal.handlers.UserSuppliedGeneratorHandler;
 import org.instancio.internal.handlers.UsingGeneratorResolverHandler;
 import org.instancio.internal.nodes.Node;
 import org.instancio.internal.reflection.instantiation.Instantiator;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.lang.reflect.Modifier;
-import java.util.Optional;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 
+/**
+ * Generates values for nodes using a chain of {@link NodeHandler}s.
+ * <p>
+ * The handler that is able to generate a value for a given node depends
+ * only on the node and the model. Therefore, once a handler produces
+ * a result for a node, it is bound to that node, and subsequent values
+ * for the node (for example, collection elements or objects created
+ * by a stream) are generated by that handler directly, without
+ * evaluating the rest of the chain. If the bound handler does not
+ * produce a result, the whole chain is evaluated again.
+ */
 class GeneratorFacade {
     private static final Logger LOG = LoggerFactory.getLogger(GeneratorFacade.class);
 
     private final ModelContext<?> context;
     private final Random random;
+    private final GeneratorResolver generatorResolver;
     private final NodeHandler[] nodeHandlers;
+    private final Map<Node, NodeHandler> boundHandlers = new IdentityHashMap<>();
 
     GeneratorFacade(final ModelContext<?> context) {
+        this(context, new GeneratorResolver(new GeneratorContext(context.getSettings(), context.getRandom())));
+    }
+
+    private GeneratorFacade(final ModelContext<?> context, final GeneratorResolver generatorResolver) {
+        this(context, generatorResolver, createNodeHandlers(context, generatorResolver));
+    }
+
+    GeneratorFacade(
+            final ModelContext<?> context,
+            final GeneratorResolver generatorResolver,
+            final List<NodeHandler> nodeHandlers) {
+
         this.context = context;
         this.random = context.getRandom();
+        this.generatorResolver = generatorResolver;
+        this.nodeHandlers = nodeHandlers.toArray(new NodeHandler[0]);
+    }
 
-        final GeneratorResolver generatorResolver = new GeneratorResolver(
-                new GeneratorContext(context.getSettings(), random));
+    private static List<NodeHandler> createNodeHandlers(
+            final ModelContext<?> context,
+            final GeneratorResolver generatorResolver) {
 
         final Instantiator instantiator = new Instantiator();
 
-        this.nodeHandlers = new NodeHandler[]{
+        return Arrays.asList(
                 new UserSuppliedGeneratorHandler(context, generatorResolver, instantiator),
                 new ArrayNodeHandler(context, generatorResolver),
                 new UsingGeneratorResolverHandler(context, generatorResolver),
                 new CollectionNodeHandler(context, instantiator),
                 new MapNodeHandler(context, instantiator),
-                new InstantiatingHandler(instantiator)
-        };
+                new InstantiatingHandler(instantiator));
+    }
+
+    /**
+     * Checks whether the value for the given node is produced by a generator,
+     * either supplied by the user or resolved for the node's target class.
+     *
+     * @param node to check
+     * @return {@code true} if the node's value is produced by a generator
+     */
+    boolean hasGenerator(final Node node) {
+        return context.getGenerator(node).isPresent()
+                || generatorResolver.get(node.getTargetClass()).isPresent();
     }
 
-    private boolean isIgnored(final Node node) {
+    boolean isIgnored(final Node node) {
         return context.isIgnored(node) || (node.getField() != null && Modifier.isStatic(node.getField().getModifiers()));
     }
 
-    Optional<GeneratorResult> generateNodeValue(final Node node) {
+    /**
+     * Generates a value for the given node.
+     *
+     * @param node to generate a value for
+     * @return generated result, or {@code null} if the node should be ignored
+     * or a value could not be generated
+     */
+    @Nullable
+    GeneratorResult generateNodeValue(final Node node) {
         if (isIgnored(node)) {
-            return Optional.empty();
+            return null;
         }
 
         if (shouldReturnNullForNullable(node)) {
-            return Optional.of(GeneratorResult.nullResult());
+            return GeneratorResult.nullResult();
+        }
+
+        final NodeHandler boundHandler = boundHandlers.get(node);
+        if (boundHandler != null) {
+            final GeneratorResult generatorResult = boundHandler.getResult(node);
+            if (generatorResult != null) {
+                return generatorResult;
+            }
         }
 
-        Optional<GeneratorResult> generatorResult = Optional.empty();
         for (NodeHandler handler : nodeHandlers) {
-            generatorResult = handler.getResult(node);
-            if (generatorResult.isPresent()) {
+            final GeneratorResult generatorResult = handler.getResult(node);
+            if (generatorResult != null) {
                 LOG.trace("{} generated using '{}'", node, handler.getClass().getName());
-                break;
+                boundHandlers.put(node, handler);
+                return generatorResult;
             }
         }
 
-        return generatorResult;
+        return null;
     }
 
-    private boolean shouldReturnNullForNullable(final Node node) {
+    boolean shouldReturnNullForNullable(final Node node) {
         final boolean precondition = context.isNullable(node);
         return random.diceRoll(precondition);
     }
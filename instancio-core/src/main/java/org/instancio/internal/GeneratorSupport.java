@@ -23,6 +23,7 @@ import org.instancio.generator.specs.EnumSetGeneratorSpec;
 import org.instancio.generator.specs.MapGeneratorSpec;
 import org.instancio.internal.generator.AbstractGenerator;
 import org.instancio.internal.generator.misc.GeneratorDecorator;
+import org.instancio.internal.generator.util.WeightedOneOfGenerator;
 import org.instancio.internal.util.TypeUtils;
 
 import java.util.Collection;
@@ -57,6 +58,9 @@ final class GeneratorSupport {
         if (generator instanceof EnumGeneratorSpec) {
             return type.isEnum();
         }
+        if (generator instanceof WeightedOneOfGenerator) {
+            return choicesAssignableTo((WeightedOneOfGenerator<?>) generator, type);
+        }
         final Class<?> typeArg = TypeUtils.getGenericSuperclassTypeArgument(generator.getClass());
         if (typeArg != null) {
             return typeArg.isAssignableFrom(type)
@@ -68,6 +72,22 @@ final class GeneratorSupport {
         return false;
     }
 
+    private static boolean choicesAssignableTo(final WeightedOneOfGenerator<?> generator, final Class<?> type) {
+        for (Object choice : generator.getChoices()) {
+            if (choice != null && !isAssignable(choice.getClass(), type)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isAssignable(final Class<?> valueClass, final Class<?> type) {
+        return type.isAssignableFrom(valueClass)
+                || PrimitiveWrapperBiLookup.findEquivalent(valueClass)
+                .filter(type::isAssignableFrom)
+                .isPresent();
+    }
+
     static AbstractGenerator<?> unpackGenerator(final Generator<?> generator) {
         if (generator instanceof AbstractGenerator) {
             return (AbstractGenerator<?>) generator;
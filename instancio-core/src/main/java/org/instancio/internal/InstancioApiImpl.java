@@ -19,16 +19,20 @@ import org.instancio.GeneratorSpecProvider;
 import org.instancio.InstancioApi;
 import org.instancio.Model;
 import org.instancio.OnCompleteCallback;
+import org.instancio.Random;
 import org.instancio.Result;
 import org.instancio.TargetSelector;
 import org.instancio.TypeTokenSupplier;
 import org.instancio.generator.Generator;
 import org.instancio.internal.context.ModelContext;
+import org.instancio.internal.random.SplitRandom;
 import org.instancio.settings.Settings;
 
 import java.util.Arrays;
+import java.util.List;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class InstancioApiImpl<T> implements InstancioApi<T> {
 
@@ -158,8 +162,46 @@ public class InstancioApiImpl<T> implements InstancioApi<T> {
 
     @Override
     public Stream<T> stream() {
-        final InternalModel<T> model = createModel();
-        return Stream.generate(() -> new InstancioEngine(model).createRootObject());
+        return StreamSupport.stream(createSpliterator(0, Long.MAX_VALUE), false);
+    }
+
+    @Override
+    public T createAt(final long index) {
+        ApiValidator.validateIndex(index);
+        return createSpliterator(index, index + 1).createObject(index);
+    }
+
+    @Override
+    public Stream<T> stream(final long fromInclusive, final long toExclusive) {
+        ApiValidator.validateIndexRange(fromInclusive, toExclusive);
+        return StreamSupport.stream(createSpliterator(fromInclusive, toExclusive), false);
+    }
+
+    @Override
+    public List<T> createList(final int size) {
+        ApiValidator.validateSize(size);
+        return createSpliterator(0, size).createList();
+    }
+
+    private InstancioSpliterator<T> createSpliterator(final long origin, final long fence) {
+        final ModelContext<T> context = modelContextBuilder.buildSplittable();
+        final Random random = ((SplitRandom) context.getRandom()).getUnbound();
+        return new InstancioSpliterator<>(new InternalModel<>(context), getStreamSeed(random), origin, fence);
+    }
+
+    /**
+     * Returns the seed from which seeds of stream elements are derived.
+     * If the random instance is shared (i.e. provided by the JUnit extension
+     * or created from the seed in {@code instancio.properties}), the seed is drawn
+     * from it, so that each stream produces different objects. Otherwise, the
+     * random instance's own seed is used, so that the first element of the stream
+     * is the same as the object returned by {@link #create()}.
+     */
+    private static long getStreamSeed(final Random random) {
+        final boolean isShared = random == ThreadLocalRandom.getInstance().get() // NOPMD
+                || random == ModelContext.getGlobalRandom(); // NOPMD
+
+        return isShared ? random.longRange(Long.MIN_VALUE, Long.MAX_VALUE) : random.getSeed();
     }
 
     private InternalModel<T> createModel() {
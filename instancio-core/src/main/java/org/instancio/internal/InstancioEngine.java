@@ -18,7 +18,6 @@ package org.instancio.internal;
 import org.instancio.assignment.AssignmentType;
 import org.instancio.exception.InstancioException;
 import org.instancio.generator.AfterGenerate;
-import org.instancio.generator.Generator;
 import org.instancio.generator.Hints;
 import org.instancio.generator.hints.ArrayHint;
 import org.instancio.generator.hints.CollectionHint;
@@ -31,7 +30,7 @@ import org.instancio.internal.generator.ContainerAddFunction;
 import org.instancio.internal.generator.GeneratorResult;
 import org.instancio.internal.generator.InternalContainerHint;
 import org.instancio.internal.nodes.Node;
-import org.instancio.internal.nodes.NodeKind;
+import org.instancio.internal.reflection.FieldConstructor;
 import org.instancio.internal.reflection.RecordHelper;
 import org.instancio.internal.reflection.RecordHelperImpl;
 import org.instancio.internal.util.ArrayUtils;
@@ -43,20 +42,23 @@ import org.instancio.internal.util.ReflectionUtils;
 import org.instancio.internal.util.SystemProperties;
 import org.instancio.settings.Keys;
 import org.instancio.settings.Settings;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.lang.reflect.Array;
 import java.lang.reflect.Constructor;
-import java.lang.reflect.Field;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.function.Function;
 
 import static org.instancio.internal.util.ExceptionHandler.conditionalFailOnError;
 import static org.instancio.internal.util.ObjectUtils.defaultIfNull;
@@ -64,41 +66,97 @@ import static org.instancio.internal.util.ObjectUtils.defaultIfNull;
 /**
  * Entry point for generating an object.
  * <p>
- * A new instance of this class should be created for each object generated via {@link #createRootObject()}.
+ * An instance of this class holds state that depends only on the model,
+ * such as generators, assigners and the instantiator. Therefore, the same
+ * instance can be reused for generating multiple root objects from a given
+ * model via {@link #createRootObject()}, for example when creating a stream.
+ * Per-object state, such as results collected for callbacks, is reset
+ * after each root object is created. Objects created as a batch via
+ * {@link #createRootObjectInBatch()} share a single check for unused
+ * selectors, performed by {@link #completeBatch()}.
+ * <p>
+ * Objects are created by executing the model's {@link GenerationPlan}
+ * using an explicit stack of {@link Frame}s rather than recursion,
+ * so that deep object graphs do not overflow the call stack.
+ * <p>
+ * Instances of this class are not thread-safe.
  */
 @SuppressWarnings({"PMD.GodClass", "PMD.CyclomaticComplexity", "PMD.ExcessiveImports"})
 class InstancioEngine {
     private static final Logger LOG = LoggerFactory.getLogger(InstancioEngine.class);
 
+    /**
+     * Returned by {@link Frame#step(GeneratorResult)} when the frame has completed.
+     */
+    private static final int RETURN = -1;
+
+    /**
+     * Returned by {@link Frame#step(GeneratorResult)} when the frame
+     * has pushed another frame onto the stack.
+     */
+    private static final int PUSHED = -2;
+
+    private static final RecordHelper RECORD_HELPER = new RecordHelperImpl();
+
+    private static final byte UNRESOLVED = 0;
+    private static final byte PRESENT = 1;
+    private static final byte ABSENT = 2;
+
     private final GeneratorFacade generatorFacade;
     private final ModelContext<?> context;
-    private final Node rootNode;
+    private final GenerationPlan plan;
+    private final Deque<Frame> stack = new ArrayDeque<>();
     private final CallbackHandler callbackHandler;
     private final List<GenerationListener> listeners;
-    private final AfterGenerate defaultAfterGenerate;
     private final boolean overwriteExistingValues;
-    private final RecordHelper recordHelper = new RecordHelperImpl();
     private final Assigner assigner;
+    private final boolean constructorAssignment;
+    private final Hints defaultHints;
+    private final NodePopulationFilter fieldPopulationFilter;
+    private final NodePopulationFilter arrayElementPopulationFilter;
+
+    // Whether a node's value is produced by a generator, indexed by the node's
+    // index in the plan. Since this depends only on the node and the model,
+    // it is resolved the first time the node is generated.
+    private final byte[] userSuppliedGenerators;
+    private final byte[] generators;
+    private final DeferredNotifications deferredNotifications = new DeferredNotifications();
 
     InstancioEngine(InternalModel<?> model) {
         context = model.getModelContext();
-        rootNode = model.getRootNode();
+        plan = model.getGenerationPlan();
         callbackHandler = new CallbackHandler(context);
         generatorFacade = new GeneratorFacade(context);
-        defaultAfterGenerate = context.getSettings().get(Keys.AFTER_GENERATE_HINT);
         overwriteExistingValues = context.getSettings().get(Keys.OVERWRITE_EXISTING_VALUES);
         listeners = Arrays.asList(callbackHandler, new GeneratedNullValueListener(context));
         assigner = getAssigner();
+        constructorAssignment = getAssignmentType() == AssignmentType.CONSTRUCTOR;
+        defaultHints = Hints.afterGenerate(context.getSettings().get(Keys.AFTER_GENERATE_HINT));
+        fieldPopulationFilter = new FieldNodePopulationFilter(context);
+        arrayElementPopulationFilter = new ArrayElementNodePopulationFilter(context);
+        userSuppliedGenerators = new byte[plan.size()];
+        generators = new byte[plan.size()];
+    }
+
+    private AssignmentType getAssignmentType() {
+        final AssignmentType defaultAssignment = context.getSettings().get(Keys.ASSIGNMENT_TYPE);
+        final AssignmentType systemAssignment = SystemProperties.getAssignmentType();
+
+        // The system property is used for running the feature test suite using different assignment types.
+        // Constructors cannot replace setters, therefore tests that use method assignment
+        // are still run using method assignment when the suite is run with constructors.
+        if (systemAssignment == AssignmentType.CONSTRUCTOR && defaultAssignment == AssignmentType.METHOD) {
+            return defaultAssignment;
+        }
+        return defaultIfNull(systemAssignment, defaultAssignment);
     }
 
     private Assigner getAssigner() {
         final Settings settings = context.getSettings();
-        final AssignmentType defaultAssignment = settings.get(Keys.ASSIGNMENT_TYPE);
+        final AssignmentType assignment = getAssignmentType();
 
-        // The system property is used for running the feature test suite using both assignment types
-        final AssignmentType assignment = defaultIfNull(SystemProperties.getAssignmentType(), defaultAssignment);
-
-        if (assignment == AssignmentType.FIELD) {
+        // Fields not populated via a constructor are assigned directly
+        if (assignment == AssignmentType.FIELD || assignment == AssignmentType.CONSTRUCTOR) {
             return new FieldAssigner(settings);
         } else if (assignment == AssignmentType.METHOD) {
             return new MethodAssigner(settings);
@@ -106,292 +164,672 @@ class InstancioEngine {
         throw new InstancioException("Invalid assignment type: " + assignment); // unreachable
     }
 
-    @SuppressWarnings("unchecked")
     <T> T createRootObject() {
-        return conditionalFailOnError(() -> {
-            final T rootResult = (T) createObject(rootNode).map(GeneratorResult::getValue).orElse(null);
-            callbackHandler.invokeCallbacks();
-            context.reportUnusedSelectorWarnings();
-            return rootResult;
-        }).orElse(null);
+        return createRootObject(true);
     }
 
-    private Optional<GeneratorResult> createObject(final Node node) {
-        LOG.trace("Processing: {}", node);
-
-        if (node.getChildren().isEmpty()) { // leaf - generate a value
-            return generateValue(node);
-        } else if (node.is(NodeKind.ARRAY)) {
-            return generateArray(node);
-        } else if (node.is(NodeKind.COLLECTION)) {
-            return generateCollection(node);
-        } else if (node.is(NodeKind.MAP)) {
-            return generateMap(node);
-        } else if (node.is(NodeKind.RECORD)) {
-            return generateRecord(node);
-        } else if (node.is(NodeKind.CONTAINER)) {
-            return generateContainer(node);
-        } else if (node.is(NodeKind.DEFAULT)) {
-            return generatePojo(node);
-        }
-        // unreachable
-        throw new InstancioException(String.format("Unhandled node kind '%s' for %s", node.getNodeKind(), node));
+    /**
+     * Creates a root object as part of a batch. Callbacks are invoked
+     * once the object has been created, as with {@link #createRootObject()},
+     * but unused selectors are not reported until {@link #completeBatch()}
+     * is called after the last object of the batch has been created.
+     *
+     * @param <T> root object type
+     * @return created object
+     */
+    <T> T createRootObjectInBatch() {
+        return createRootObject(false);
     }
 
-    private Optional<GeneratorResult> generateContainer(final Node node) {
-        final Optional<GeneratorResult> nodeResult = generateValue(node);
+    /**
+     * Reports selectors that were not used by any object of the batch.
+     */
+    void completeBatch() {
+        conditionalFailOnError(context::reportUnusedSelectorWarnings);
+    }
 
-        if (!nodeResult.isPresent()) {
-            return nodeResult;
+    @SuppressWarnings("unchecked")
+    private <T> T createRootObject(final boolean reportUnusedSelectors) {
+        try {
+            return conditionalFailOnError(() -> {
+                final T rootResult = (T) createRootValue();
+                callbackHandler.invokeCallbacks();
+                if (reportUnusedSelectors) {
+                    context.reportUnusedSelectorWarnings();
+                }
+                return rootResult;
+            }).orElse(null);
+        } finally {
+            // results of a failed object must not be passed to the next object's callbacks
+            callbackHandler.clearResults();
+            stack.clear();
+            deferredNotifications.clear();
         }
+    }
 
-        GeneratorResult generatorResult = nodeResult.get();
-
-        final InternalContainerHint hint = defaultIfNull(
-                generatorResult.getHints().get(InternalContainerHint.class),
-                InternalContainerHint.empty());
+    private Object createRootValue() {
+        return getValue(execute(plan.getRoot()));
+    }
 
-        final List<Node> children = node.getChildren();
+    private static Object getValue(@Nullable final GeneratorResult result) {
+        return result == null ? null : result.getValue();
+    }
 
-        // Creation delegated to the engine
-        if (generatorResult.isNullResult() && hint.createFunction() != null) {
-            final Object[] args = new Object[children.size()];
-            for (int j = 0; j < children.size(); j++) {
-                args[j] = createObject(children.get(j)).map(GeneratorResult::getValue).orElse(null);
+    /**
+     * Creates an object for the node at the given index of the plan.
+     * <p>
+     * Instead of recursing into child nodes, a {@link Frame} is pushed onto
+     * the stack for each node whose children are being generated. A frame is
+     * resumed with the result of each child node it requests until it completes,
+     * and its result is then passed to the frame below it.
+     *
+     * @param index of the node in the plan
+     * @return the result, or {@code null} if the node is ignored
+     * or a value could not be generated
+     */
+    @Nullable
+    private GeneratorResult execute(final int index) {
+        final int baseDepth = stack.size();
+        GeneratorResult result = null;
+        int next = index;
+
+        while (true) {
+            if (next >= 0) {
+                result = enter(next);
+            }
+            if (stack.size() == baseDepth) {
+                return result;
+            }
+            final Frame frame = stack.peek();
+            next = frame.step(result);
+            if (next == RETURN) {
+                stack.pop();
+                result = frame.result;
             }
-            final Object result = hint.createFunction().create(args);
-
-            generatorResult = GeneratorResult.create(result, generatorResult.getHints());
         }
+    }
 
-        final ContainerAddFunction<Object> addFunction = hint.addFunction();
-
-        if (addFunction != null) {
-            for (int i = 0; i < hint.generateEntries(); i++) {
-                final Object[] args = new Object[children.size()];
+    /**
+     * Generates a value for a node without children, or pushes
+     * a frame for generating a value and the node's children.
+     *
+     * @param index of the node in the plan
+     * @return the result for a node without children, otherwise {@code null}
+     */
+    @Nullable
+    private GeneratorResult enter(final int index) {
+        final Node node = plan.getNode(index);
+        LOG.trace("Processing: {}", node);
 
-                for (int j = 0; j < children.size(); j++) {
-                    args[j] = createObject(children.get(j)).map(GeneratorResult::getValue).orElse(null);
-                }
+        switch (plan.getOp(index)) {
+            case VALUE:
+                return generateValue(node);
+            case POJO:
+                stack.push(createPojoFrame(index, node));
+                break;
+            case ARRAY:
+                stack.push(new ArrayFrame(index));
+                break;
+            case COLLECTION:
+                stack.push(new CollectionFrame(index));
+                break;
+            case MAP:
+                stack.push(new MapFrame(index));
+                break;
+            case RECORD:
+                stack.push(new RecordFrame(index));
+                break;
+            case CONTAINER:
+                stack.push(new ContainerFrame(index));
+                break;
+            default:
+                // unreachable
+                throw new InstancioException(String.format("Unhandled operation '%s' for %s", plan.getOp(index), node));
+        }
+        return null;
+    }
 
-                addFunction.addTo(generatorResult.getValue(), args);
+    private Frame createPojoFrame(final int index, final Node node) {
+        if (constructorAssignment && !hasGenerator(index)) {
+            final FieldConstructor constructor = FieldConstructor.forClass(node.getTargetClass());
+            if (constructor != null) {
+                return new ConstructorFrame(index, constructor);
             }
         }
+        return new PojoFrame(index);
+    }
 
-        if (hint.buildFunction() != null) {
-            final Object builtContainer = hint.buildFunction().build(generatorResult.getValue());
-            return Optional.of(GeneratorResult.create(builtContainer, generatorResult.getHints()));
+    private boolean hasUserSuppliedGenerator(final int index) {
+        if (userSuppliedGenerators[index] == UNRESOLVED) {
+            userSuppliedGenerators[index] = context.getGenerator(plan.getNode(index)).isPresent() ? PRESENT : ABSENT;
         }
+        return userSuppliedGenerators[index] == PRESENT;
+    }
 
-
-        final Optional<GeneratorResult> spiResult = substituteResult(node, generatorResult);
-        return spiResult.isPresent() ? spiResult : Optional.of(generatorResult);
+    private boolean hasGenerator(final int index) {
+        if (generators[index] == UNRESOLVED) {
+            generators[index] = generatorFacade.hasGenerator(plan.getNode(index)) ? PRESENT : ABSENT;
+        }
+        return generators[index] == PRESENT;
     }
 
     /**
      * Replaces the original result with another type. For example, converts
      * a Map to ImmutableMap using {@code ImmutableMap.copyOf(Map)}).
+     * If there is no replacement, the original result is returned.
      */
-    private Optional<GeneratorResult> substituteResult(
+    private static GeneratorResult substituteResult(
             final Node node,
             final GeneratorResult generatorResult) {
 
-        return context.getContainerFactories()
-                .stream()
-                .map(it -> it.createFromOtherFunction(
-                        node.getTargetClass(),
-                        node.getChildren()
-                                .stream()
-                                .map(Node::getTargetClass)
-                                .collect(Collectors.toList())))
-                .filter(Objects::nonNull)
-                .findFirst()
-                .map(fn -> fn.apply(generatorResult.getValue()))
-                .map(replacedValue -> GeneratorResult.create(replacedValue, generatorResult.getHints()));
+        final Function<Object, Object> substitution = node.getContainerSubstitution();
+        if (substitution == null) {
+            return generatorResult;
+        }
+
+        final Object replacedValue = substitution.apply(generatorResult.getValue());
+        return replacedValue == null
+                ? generatorResult
+                : GeneratorResult.create(replacedValue, generatorResult.getHints());
     }
 
-    private Optional<GeneratorResult> generatePojo(final Node node) {
-        final Optional<GeneratorResult> nodeResult = generateValue(node);
-        nodeResult.ifPresent(generatorResult -> populateChildren(node.getChildren(), generatorResult));
-        return nodeResult;
+    /**
+     * Pushes a frame for populating the fields of an object created by a generator,
+     * such as an element added to a collection by the generator itself.
+     *
+     * @param index  of the node representing the object
+     * @param target the object to populate
+     * @param action the action specified by the generator's hints
+     *
+     * @return {@code true} if a frame was pushed
+     */
+    private boolean pushPopulateFrame(final int index, final Object target, final AfterGenerate action) {
+        if (plan.getChildren(index).length == 0) {
+            return false;
+        }
+        stack.push(new PopulateFrame(index, target, action));
+        return true;
     }
 
-    @SuppressWarnings({"PMD.CognitiveComplexity", "PMD.NPathComplexity"})
-    private Optional<GeneratorResult> generateMap(final Node node) {
-        final Optional<GeneratorResult> nodeResult = generateValue(node);
+    private void assignResult(final Node child, final Object target, @Nullable final GeneratorResult result) {
+        if (result != null) {
+            final Object arg = result.getValue();
 
-        if (!nodeResult.isPresent()
-                || nodeResult.get().isNullResult()
-                || node.getChildren().size() < 2) {
-            return nodeResult;
+            if (overwriteExistingValues || !child.getFieldAccessor().hasNonNullOrNonDefaultValue(target)) {
+                assigner.assign(child, target, arg);
+            }
         }
+    }
 
-        final GeneratorResult generatorResult = nodeResult.get();
-        final Hints hints = generatorResult.getHints();
-        final MapHint hint = defaultIfNull(hints.get(MapHint.class), MapHint.empty());
+    /**
+     * Decides whether a nullable node should be {@code null}.
+     * If so, listeners are notified of the {@code null} value.
+     */
+    private boolean generateNull(final Node node, final boolean isNullable) {
+        if (context.getRandom().diceRoll(isNullable)) {
+            notifyListeners(node, GeneratorResult.nullResult());
+            return true;
+        }
+        return false;
+    }
 
-        //noinspection unchecked
-        final Map<Object, Object> map = (Map<Object, Object>) generatorResult.getValue();
+    @Nullable
+    private GeneratorResult generateValue(final Node node) {
+        final GeneratorResult generatorResult = generatorFacade.generateNodeValue(node);
+        notifyListeners(node, generatorResult == null ? GeneratorResult.nullResult() : generatorResult);
+        return generatorResult;
+    }
 
-        // Populated objects that were created/added in the generator itself
-        for (Map.Entry<Object, Object> entry : map.entrySet()) {
-            final List<Node> keyNodeChildren = node.getChildren().get(0).getChildren();
-            final List<Node> valueNodeChildren = node.getChildren().get(1).getChildren();
+    private void notifyListeners(final Node node, final GeneratorResult result) {
+        if (deferredNotifications.isActive()) {
+            deferredNotifications.add(node, result);
+        } else {
+            notifyListenersNow(node, result);
+        }
+    }
 
-            populateChildren(keyNodeChildren, GeneratorResult.create(entry.getKey(), hints));
-            populateChildren(valueNodeChildren, GeneratorResult.create(entry.getValue(), hints));
+    private void notifyListenersNow(final Node node, final GeneratorResult result) {
+        for (GenerationListener listener : listeners) {
+            listener.objectCreated(node, result);
         }
+    }
 
-        final boolean nullableKey = hint.nullableMapKeys();
-        final boolean nullableValue = hint.nullableMapValues();
-        final Iterator<Object> withKeysIterator = hint.withKeys().iterator();
+    /**
+     * Notifications deferred while generating the arguments of objects created
+     * via constructors, so that listeners are notified of an object before its
+     * children, as when an object is instantiated first and then populated.
+     */
+    private final class DeferredNotifications {
+        private final List<Node> nodes = new ArrayList<>();
+        private final List<GeneratorResult> results = new ArrayList<>();
+        private int depth;
 
-        int entriesToGenerate = hint.generateEntries();
-        int failedAdditions = 0;
+        boolean isActive() {
+            return depth > 0;
+        }
 
-        while (entriesToGenerate > 0) {
+        void add(final Node node, final GeneratorResult result) {
+            nodes.add(node);
+            results.add(result);
+        }
 
-            final Object mapKey = withKeysIterator.hasNext()
-                    ? withKeysIterator.next()
-                    : createObject(node.getChildren().get(0), nullableKey);
+        /**
+         * Defers notifications until {@link #end(int, Node, GeneratorResult)} is called.
+         *
+         * @return the position at which the object's own notification is to be inserted
+         */
+        int begin() {
+            depth++;
+            return nodes.size();
+        }
 
-            final Object mapValue = createObject(node.getChildren().get(1), nullableValue);
+        /**
+         * Inserts the notification for an object created via a constructor
+         * before those of its children. Once the outermost such object has
+         * been created, listeners are notified in order.
+         *
+         * @param position returned by {@link #begin()}
+         * @param node     of the created object
+         * @param result   the created object, or {@code null} if it could not be created
+         */
+        void end(final int position, final Node node, @Nullable final GeneratorResult result) {
+            if (result != null) {
+                nodes.add(position, node);
+                results.add(position, result);
+            }
+            depth--;
+            if (depth == 0) {
+                for (int i = 0; i < nodes.size(); i++) {
+                    notifyListenersNow(nodes.get(i), results.get(i));
+                }
+                clear();
+            }
+        }
 
-            if ((mapKey != null || nullableKey) && (mapValue != null || nullableValue)) {
-                if (!map.containsKey(mapKey)) {
-                    map.put(mapKey, mapValue);
-                    entriesToGenerate--;
-                } else {
-                    failedAdditions++;
-                    if (failedAdditions > Constants.FAILED_COLLECTION_ADD_THRESHOLD) {
-                        conditionalFailOnError(() -> {
-                            throw new InstancioException(
-                                    "Unable to populate " + Format.withoutPackage(node.getType())
-                                            + " with requested number of entries: " + hint.generateEntries());
-                        });
-                        break;
-                    }
+        void clear() {
+            if (!nodes.isEmpty()) {
+                nodes.clear();
+                results.clear();
+            }
+            depth = 0;
+        }
+    }
+
+    /**
+     * State of a node whose children are being generated.
+     */
+    private abstract class Frame {
+        final int index;
+        final Node node;
+        final int[] children;
+
+        /**
+         * The result of this frame, set before the frame completes.
+         */
+        @Nullable
+        GeneratorResult result;
+
+        Frame(final int index) {
+            this.index = index;
+            this.node = plan.getNode(index);
+            this.children = plan.getChildren(index);
+        }
+
+        /**
+         * Resumes this frame.
+         *
+         * @param childResult result of the node requested by the previous step;
+         *                    ignored on the first step and after pushing another frame
+         * @return index of the node to create next, {@link #RETURN} if this frame
+         * has completed, or {@link #PUSHED} if another frame was pushed onto the stack
+         */
+        abstract int step(@Nullable GeneratorResult childResult);
+    }
+
+    /**
+     * Populates the fields of an existing object.
+     */
+    private class PopulateFrame extends Frame {
+        Object target;
+        AfterGenerate action;
+        private int childIndex;
+        private boolean awaitingChild;
+
+        PopulateFrame(final int index) {
+            super(index);
+        }
+
+        PopulateFrame(final int index, final Object target, final AfterGenerate action) {
+            super(index);
+            this.target = target;
+            this.action = action;
+        }
+
+        @Override
+        int step(@Nullable final GeneratorResult childResult) {
+            return populate(childResult);
+        }
+
+        final int populate(@Nullable final GeneratorResult childResult) {
+            if (awaitingChild) {
+                awaitingChild = false;
+                assignResult(plan.getNode(children[childIndex - 1]), target, childResult);
+            }
+            while (childIndex < children.length) {
+                final int child = children[childIndex++];
+                if (!fieldPopulationFilter.shouldSkip(plan.getNode(child), action, target)) {
+                    awaitingChild = true;
+                    return child;
                 }
-            } else {
-                entriesToGenerate--;
             }
+            return RETURN;
         }
+    }
 
-        map.putAll(hint.withEntries());
+    /**
+     * Generates a POJO and then populates its fields.
+     */
+    private final class PojoFrame extends PopulateFrame {
+        private boolean started;
 
-        final Optional<GeneratorResult> spiResult = substituteResult(node, generatorResult);
-        return spiResult.isPresent() ? spiResult : nodeResult;
+        PojoFrame(final int index) {
+            super(index);
+        }
+
+        @Override
+        int step(@Nullable final GeneratorResult childResult) {
+            if (!started) {
+                started = true;
+                result = generateValue(node);
+                if (result == null) {
+                    return RETURN;
+                }
+                target = result.getValue();
+                action = result.getHints().afterGenerate();
+            }
+            return populate(childResult);
+        }
     }
 
-    @SuppressWarnings({
-            "PMD.NPathComplexity",
-            "PMD.ForLoopVariableCount",
-            "PMD.AvoidReassigningLoopVariables"})
-    private Optional<GeneratorResult> generateArray(final Node node) {
-        final Optional<GeneratorResult> nodeResult = generateValue(node);
+    /**
+     * Generates values for the node's children first and then passes
+     * them to the given constructor to create the object.
+     * <p>
+     * Listeners are notified of the object before its children,
+     * in the same order as objects that are populated after being
+     * instantiated, by deferring the children's notifications.
+     */
+    private final class ConstructorFrame extends Frame {
+        private final FieldConstructor constructor;
+        private Object[] args;
+        private int childIndex;
+        private int deferralPosition;
+
+        ConstructorFrame(final int index, final FieldConstructor constructor) {
+            super(index);
+            this.constructor = constructor;
+        }
 
-        if (!nodeResult.isPresent()
-                || nodeResult.get().isNullResult()
-                || node.getChildren().isEmpty()) {
-            return nodeResult;
+        @Override
+        int step(@Nullable final GeneratorResult childResult) {
+            if (args == null) {
+                if (generatorFacade.isIgnored(node)) {
+                    notifyListeners(node, GeneratorResult.nullResult());
+                    return RETURN;
+                }
+                if (generatorFacade.shouldReturnNullForNullable(node)) {
+                    result = GeneratorResult.nullResult();
+                    notifyListeners(node, result);
+                    return RETURN;
+                }
+                args = constructor.createDefaultArguments();
+                deferralPosition = deferredNotifications.begin();
+            } else {
+                setArgument(plan.getNode(children[childIndex - 1]), childResult);
+            }
+
+            if (childIndex < children.length) {
+                return children[childIndex++];
+            }
+            result = newInstance();
+            return RETURN;
         }
 
-        final GeneratorResult generatorResult = nodeResult.get();
-        final Object arrayObj = generatorResult.getValue();
-        final Hints hints = generatorResult.getHints();
-        final ArrayHint hint = defaultIfNull(hints.get(ArrayHint.class), ArrayHint.empty());
+        private void setArgument(final Node child, @Nullable final GeneratorResult childResult) {
+            final int paramIndex = constructor.getParameterIndex(child.getField());
 
-        final List<?> withElements = hint.withElements();
-        final int arrayLength = Array.getLength(arrayObj);
-        final Node elementNode = node.getOnlyChild();
-        int lastIndex = 0;
+            if (paramIndex >= 0 && childResult != null
+                    && !(childResult.isNullResult() && child.getRawType().isPrimitive())) {
+                args[paramIndex] = childResult.getValue();
+            }
+        }
+
+        @Nullable
+        private GeneratorResult newInstance() {
+            GeneratorResult generatorResult = null;
+            try {
+                generatorResult = GeneratorResult.create(constructor.newInstance(args), defaultHints);
+            } catch (Exception ex) {
+                conditionalFailOnError(() -> {
+                    throw new InstancioException("Failed creating an object via constructor for: " + node, ex);
+                });
+            }
+            deferredNotifications.end(deferralPosition, node, generatorResult);
+            return generatorResult;
+        }
+    }
+
+    /**
+     * Generates the record's components and then passes them
+     * to the canonical constructor.
+     */
+    private final class RecordFrame extends Frame {
+        private Object[] args;
+        private int childIndex;
 
-        // Fill-in withElements first (if any)
-        for (int i = 0, j = 0; i < arrayLength && j < withElements.size(); i++) {
-            final Object elementValue = Array.get(arrayObj, i);
+        RecordFrame(final int index) {
+            super(index);
+        }
 
-            // Populate objects created by user within the generator
-            if (elementValue != null) {
-                final List<Node> elementNodeChildren = node.getOnlyChild().getChildren();
-                populateChildren(elementNodeChildren, GeneratorResult.create(elementValue, hints));
+        @Override
+        int step(@Nullable final GeneratorResult childResult) {
+            if (args == null) {
+                // Handle the case where user supplies a generator for creating a record.
+                if (hasUserSuppliedGenerator(index)) {
+                    result = generateValue(node);
+                    return RETURN;
+                }
+                args = new Object[children.length];
+            } else {
+                args[childIndex - 1] = toArgument(plan.getNode(children[childIndex - 1]), childResult);
             }
 
-            // Current element may have been set by a custom generator.
-            // withElements will always override null values in object arrays
-            // and default values in primitive arrays.
-            if (!ReflectionUtils.neitherNullNorPrimitiveWithDefaultValue(elementNode.getRawType(), elementValue)) {
-                Array.set(arrayObj, i, withElements.get(j));
-                j++;
+            if (childIndex < children.length) {
+                return children[childIndex++];
             }
+            result = newInstance();
+            return RETURN;
+        }
 
-            lastIndex = i + 1;
+        private Object toArgument(final Node child, @Nullable final GeneratorResult childResult) {
+            if (childResult == null || (childResult.isNullResult() && child.getRawType().isPrimitive())) {
+                return ObjectUtils.defaultValue(child.getRawType());
+            }
+            return childResult.getValue();
         }
 
-        final AfterGenerate action = hints.afterGenerate();
-        final boolean isPrimitiveArray = elementNode.getRawType().isPrimitive();
-        final NodePopulationFilter filter = new ArrayElementNodePopulationFilter(context);
+        @Nullable
+        private GeneratorResult newInstance() {
+            try {
+                final Optional<Constructor<?>> optCtor = RECORD_HELPER.getCanonicalConstructor(node.getTargetClass());
+                if (optCtor.isPresent()) {
+                    final Object obj = optCtor.get().newInstance(args);
+                    final GeneratorResult generatorResult = GeneratorResult.create(obj, defaultHints);
+                    notifyListeners(node, generatorResult);
+                    return generatorResult;
+                }
+            } catch (Exception ex) {
+                conditionalFailOnError(() -> {
+                    throw new InstancioException("Failed creating a record for: " + node, ex);
+                });
+            }
+            return null;
+        }
+    }
 
-        for (int i = lastIndex; i < arrayLength; i++) {
+    /**
+     * Generates a container, such as an {@code Optional} or a Guava collection,
+     * whose children are type arguments rather than fields.
+     */
+    private final class ContainerFrame extends Frame {
+        private GeneratorResult generatorResult;
+        private InternalContainerHint hint;
+        private boolean started;
+        private boolean creating;
+        private int entriesAdded;
+        private Object[] args;
+        private int argIndex;
+
+        ContainerFrame(final int index) {
+            super(index);
+        }
 
-            // Current value at index may have been set by a custom generator
-            final Object currentValue = Array.get(arrayObj, i);
+        @Override
+        int step(@Nullable final GeneratorResult childResult) {
+            if (!started) {
+                started = true;
+                generatorResult = generateValue(node);
+                if (generatorResult == null) {
+                    return RETURN;
+                }
+                hint = defaultIfNull(
+                        generatorResult.getHints().get(InternalContainerHint.class),
+                        InternalContainerHint.empty());
 
-            // Populate objects created by user within the generator
-            if (currentValue != null) {
-                final List<Node> elementNodeChildren = node.getOnlyChild().getChildren();
-                populateChildren(elementNodeChildren, GeneratorResult.create(currentValue, hints));
+                // Creation delegated to the engine
+                creating = generatorResult.isNullResult() && hint.createFunction() != null;
+                args = new Object[children.length];
+            } else {
+                args[argIndex++] = getValue(childResult);
             }
 
-            if (filter.shouldSkip(elementNode, action, currentValue)) {
-                continue;
+            if (creating) {
+                if (argIndex < children.length) {
+                    return children[argIndex];
+                }
+                final Object created = hint.createFunction().create(args);
+                generatorResult = GeneratorResult.create(created, generatorResult.getHints());
+                creating = false;
+                nextEntry();
             }
 
-            final Object elementValue = createObject(elementNode, hint.nullableElements());
+            final ContainerAddFunction<Object> addFunction = hint.addFunction();
 
-            // can't assign null values to primitive arrays
-            if (!isPrimitiveArray || elementValue != null) {
-                Array.set(arrayObj, i, elementValue);
+            if (addFunction != null) {
+                while (entriesAdded < hint.generateEntries()) {
+                    if (argIndex < children.length) {
+                        return children[argIndex];
+                    }
+                    addFunction.addTo(generatorResult.getValue(), args);
+                    entriesAdded++;
+                    nextEntry();
+                }
             }
+
+            if (hint.buildFunction() != null) {
+                final Object builtContainer = hint.buildFunction().build(generatorResult.getValue());
+                result = GeneratorResult.create(builtContainer, generatorResult.getHints());
+            } else {
+                result = substituteResult(node, generatorResult);
+            }
+            return RETURN;
         }
 
-        if (hint.shuffle()) {
-            ArrayUtils.shuffle(arrayObj, context.getRandom());
+        private void nextEntry() {
+            args = new Object[children.length];
+            argIndex = 0;
         }
-        return nodeResult;
     }
 
-    @SuppressWarnings({"PMD.CognitiveComplexity", "PMD.NPathComplexity"})
-    private Optional<GeneratorResult> generateCollection(final Node node) {
-        final Optional<GeneratorResult> nodeResult = generateValue(node);
-
-        if (!nodeResult.isPresent()
-                || nodeResult.get().isNullResult()
-                || node.getChildren().isEmpty()) {
-            return nodeResult;
+    /**
+     * Generates a collection and then its elements.
+     */
+    private final class CollectionFrame extends Frame {
+        private GeneratorResult generatorResult;
+        private CollectionHint hint;
+        private Collection<Object> collection;
+        private int elementIndex;
+        private Iterator<Object> existingElements;
+        private AfterGenerate action;
+        private int elementsToGenerate;
+        private int failedAdditions;
+        private boolean awaitingElement;
+
+        CollectionFrame(final int index) {
+            super(index);
         }
 
-        final GeneratorResult generatorResult = nodeResult.get();
-        final Hints hints = generatorResult.getHints();
-        final CollectionHint hint = defaultIfNull(hints.get(CollectionHint.class), CollectionHint.empty());
+        @Override
+        int step(@Nullable final GeneratorResult childResult) {
+            if (collection == null) {
+                if (!start()) {
+                    return RETURN;
+                }
+            } else if (awaitingElement) {
+                awaitingElement = false;
+                addElement(getValue(childResult));
+            }
+
+            // Populate objects that were created/added in the generator itself
+            if (existingElements.hasNext()) {
+                pushPopulateFrame(elementIndex, existingElements.next(), action);
+                return PUSHED;
+            }
+            // the collection's iterator must not be used once elements are added
+            existingElements = Collections.emptyIterator();
+
+            while (elementsToGenerate > 0) {
+                if (!generateNull(plan.getNode(elementIndex), hint.nullableElements())) {
+                    awaitingElement = true;
+                    return elementIndex;
+                }
+                addElement(null);
+            }
 
-        //noinspection unchecked
-        final Collection<Object> collection = (Collection<Object>) generatorResult.getValue();
+            if (!hint.withElements().isEmpty()) {
+                collection.addAll(hint.withElements());
+            }
+            if (hint.shuffle()) {
+                CollectionUtils.shuffle(collection, context.getRandom());
+            }
 
-        // Populated objects that were created/added in the generator itself
-        for (Object element : collection) {
-            final List<Node> elementNodeChildren = node.getOnlyChild().getChildren();
-            populateChildren(elementNodeChildren, GeneratorResult.create(element, hints));
+            result = substituteResult(node, generatorResult);
+            return RETURN;
         }
 
-        final boolean nullableElement = hint.nullableElements();
+        @SuppressWarnings("unchecked")
+        private boolean start() {
+            generatorResult = generateValue(node);
 
-        int elementsToGenerate = hint.generateElements();
-        int failedAdditions = 0;
+            if (generatorResult == null || generatorResult.isNullResult()) {
+                result = generatorResult;
+                return false;
+            }
 
-        while (elementsToGenerate > 0) {
-            final Object elementValue = createObject(node.getOnlyChild(), nullableElement);
+            final Hints hints = generatorResult.getHints();
+            hint = defaultIfNull(hints.get(CollectionHint.class), CollectionHint.empty());
+            collection = (Collection<Object>) generatorResult.getValue();
+            action = hints.afterGenerate();
+            elementIndex = plan.getOnlyChild(index);
+            existingElements = plan.getChildren(elementIndex).length == 0
+                    ? Collections.emptyIterator()
+                    : collection.iterator();
+            elementsToGenerate = hint.generateElements();
+            return true;
+        }
 
-            if (elementValue != null || nullableElement) {
+        private void addElement(@Nullable final Object elementValue) {
+            if (elementValue != null || hint.nullableElements()) {
                 if (collection.add(elementValue)) {
                     elementsToGenerate--;
                 } else {
@@ -405,7 +843,7 @@ class InstancioEngine {
                                     "Unable to populate " + Format.withoutPackage(node.getType())
                                             + " with requested number of elements: " + hint.generateElements());
                         });
-                        break;
+                        elementsToGenerate = 0;
                     }
                 }
             } else {
@@ -413,105 +851,238 @@ class InstancioEngine {
                 elementsToGenerate--;
             }
         }
+    }
 
-        if (!hint.withElements().isEmpty()) {
-            collection.addAll(hint.withElements());
+    /**
+     * Generates a map and then its entries.
+     */
+    private final class MapFrame extends Frame {
+        private GeneratorResult generatorResult;
+        private MapHint hint;
+        private Map<Object, Object> map;
+        private AfterGenerate action;
+        private Iterator<Map.Entry<Object, Object>> existingEntries;
+        private Iterator<Object> withKeysIterator;
+        private int entriesToGenerate;
+        private int failedAdditions;
+        private boolean awaitingKey;
+        private boolean awaitingValue;
+        private boolean hasKey;
+        private Object mapKey;
+
+        MapFrame(final int index) {
+            super(index);
         }
-        if (hint.shuffle()) {
-            CollectionUtils.shuffle(collection, context.getRandom());
+
+        @Override
+        int step(@Nullable final GeneratorResult childResult) {
+            if (map == null) {
+                if (!start()) {
+                    return RETURN;
+                }
+            } else if (awaitingKey) {
+                awaitingKey = false;
+                setKey(getValue(childResult));
+            } else if (awaitingValue) {
+                awaitingValue = false;
+                putEntry(getValue(childResult));
+            }
+
+            // Populate objects that were created/added in the generator itself.
+            // Frames are pushed in reverse order, so that the key is populated first.
+            if (existingEntries.hasNext()) {
+                final Map.Entry<Object, Object> entry = existingEntries.next();
+                pushPopulateFrame(children[1], entry.getValue(), action);
+                pushPopulateFrame(children[0], entry.getKey(), action);
+                return PUSHED;
+            }
+            // the map's iterator must not be used once entries are added
+            existingEntries = Collections.emptyIterator();
+
+            while (entriesToGenerate > 0) {
+                if (!hasKey) {
+                    if (withKeysIterator.hasNext()) {
+                        setKey(withKeysIterator.next());
+                    } else if (!generateNull(plan.getNode(children[0]), hint.nullableMapKeys())) {
+                        awaitingKey = true;
+                        return children[0];
+                    } else {
+                        setKey(null);
+                    }
+                }
+                if (!generateNull(plan.getNode(children[1]), hint.nullableMapValues())) {
+                    awaitingValue = true;
+                    return children[1];
+                }
+                putEntry(null);
+            }
+
+            map.putAll(hint.withEntries());
+
+            result = substituteResult(node, generatorResult);
+            return RETURN;
         }
 
-        final Optional<GeneratorResult> spiResult = substituteResult(node, generatorResult);
-        return spiResult.isPresent() ? spiResult : nodeResult;
-    }
+        @SuppressWarnings("unchecked")
+        private boolean start() {
+            generatorResult = generateValue(node);
+
+            if (generatorResult == null
+                    || generatorResult.isNullResult()
+                    || children.length < 2) {
+                result = generatorResult;
+                return false;
+            }
+
+            final Hints hints = generatorResult.getHints();
+            hint = defaultIfNull(hints.get(MapHint.class), MapHint.empty());
+            map = (Map<Object, Object>) generatorResult.getValue();
+            action = hints.afterGenerate();
 
-    private Optional<GeneratorResult> generateRecord(final Node node) {
+            final boolean hasEntriesToPopulate = plan.getChildren(children[0]).length > 0
+                    || plan.getChildren(children[1]).length > 0;
 
-        // Handle the case where user supplies a generator for creating a record.
-        final Optional<Generator<?>> generator = context.getGenerator(node);
-        if (generator.isPresent()) {
-            return generateValue(node);
+            existingEntries = hasEntriesToPopulate ? map.entrySet().iterator() : Collections.emptyIterator();
+            withKeysIterator = hint.withKeys().iterator();
+            entriesToGenerate = hint.generateEntries();
+            return true;
         }
 
-        final List<Node> children = node.getChildren();
-        final Object[] args = new Object[children.size()];
+        private void setKey(@Nullable final Object key) {
+            mapKey = key;
+            hasKey = true;
+        }
 
-        for (int i = 0; i < args.length; i++) {
-            final Optional<GeneratorResult> optResult = createObject(children.get(i));
+        private void putEntry(@Nullable final Object mapValue) {
+            hasKey = false;
 
-            if (optResult.isPresent()) {
-                final GeneratorResult result = optResult.get();
-                if (result.isNullResult() && children.get(i).getRawType().isPrimitive()) {
-                    args[i] = ObjectUtils.defaultValue(children.get(i).getRawType());
+            if ((mapKey != null || hint.nullableMapKeys()) && (mapValue != null || hint.nullableMapValues())) {
+                if (!map.containsKey(mapKey)) {
+                    map.put(mapKey, mapValue);
+                    entriesToGenerate--;
                 } else {
-                    args[i] = result.getValue();
+                    failedAdditions++;
+                    if (failedAdditions > Constants.FAILED_COLLECTION_ADD_THRESHOLD) {
+                        conditionalFailOnError(() -> {
+                            throw new InstancioException(
+                                    "Unable to populate " + Format.withoutPackage(node.getType())
+                                            + " with requested number of entries: " + hint.generateEntries());
+                        });
+                        entriesToGenerate = 0;
+                    }
                 }
             } else {
-                args[i] = ObjectUtils.defaultValue(children.get(i).getRawType());
+                entriesToGenerate--;
             }
         }
-
-        try {
-            final Optional<Constructor<?>> optCtor = recordHelper.getCanonicalConstructor(node.getTargetClass());
-            if (optCtor.isPresent()) {
-                final Constructor<?> ctor = optCtor.get();
-                ctor.setAccessible(true); // NOSONAR
-                final Object obj = ctor.newInstance(args);
-                final GeneratorResult generatorResult = createGeneratorResult(obj);
-                notifyListeners(node, generatorResult);
-                return Optional.of(generatorResult);
-            }
-        } catch (Exception ex) {
-            conditionalFailOnError(() -> {
-                throw new InstancioException("Failed creating a record for: " + node, ex);
-            });
-        }
-        return Optional.empty();
     }
 
-    private void populateChildren(final List<Node> children, final GeneratorResult generatorResult) {
-        final Object value = generatorResult.getValue();
-        final AfterGenerate action = generatorResult.getHints().afterGenerate();
-        final NodePopulationFilter filter = new FieldNodePopulationFilter(context);
+    /**
+     * Generates an array and then its elements.
+     */
+    private final class ArrayFrame extends Frame {
+        private GeneratorResult generatorResult;
+        private ArrayHint hint;
+        private Object arrayObj;
+        private int arrayLength;
+        private int elementIndex;
+        private AfterGenerate action;
+        private boolean started;
+        private boolean populated;
+        private boolean awaitingElement;
+        private int arrayIndex;
+        private int withElementsIndex;
+        private Object currentValue;
+
+        ArrayFrame(final int index) {
+            super(index);
+        }
 
-        for (final Node child : children) {
-            if (filter.shouldSkip(child, action, value)) {
-                continue;
+        @Override
+        int step(@Nullable final GeneratorResult childResult) {
+            if (!started) {
+                started = true;
+                if (!start()) {
+                    return RETURN;
+                }
+            } else if (awaitingElement) {
+                awaitingElement = false;
+                setElement(getValue(childResult));
             }
 
-            final Optional<GeneratorResult> optResult = createObject(child);
-            if (optResult.isPresent()) {
-                final Object arg = optResult.get().getValue();
-                final Field field = child.getField();
+            final Node elementNode = plan.getNode(elementIndex);
+
+            while (arrayIndex < arrayLength) {
+                if (!populated) {
+                    // Current value at index may have been set by a custom generator
+                    currentValue = Array.get(arrayObj, arrayIndex);
+                    populated = true;
+
+                    // Populate objects created by user within the generator
+                    if (currentValue != null && pushPopulateFrame(elementIndex, currentValue, action)) {
+                        return PUSHED;
+                    }
+                }
 
-                if (overwriteExistingValues || !ReflectionUtils.hasNonNullOrNonDefaultPrimitiveValue(field, value)) {
-                    assigner.assign(child, value, arg);
+                if (withElementsIndex < hint.withElements().size()) {
+                    // Fill-in withElements first (if any)
+                    setWithElement(elementNode);
+                } else if (arrayElementPopulationFilter.shouldSkip(elementNode, action, currentValue)) {
+                    nextIndex();
+                } else if (generateNull(elementNode, hint.nullableElements())) {
+                    setElement(null);
+                } else {
+                    awaitingElement = true;
+                    return elementIndex;
                 }
             }
+
+            if (hint.shuffle()) {
+                ArrayUtils.shuffle(arrayObj, context.getRandom());
+            }
+            result = generatorResult;
+            return RETURN;
         }
-    }
 
-    private GeneratorResult createGeneratorResult(final Object value) {
-        return GeneratorResult.create(value, Hints.afterGenerate(defaultAfterGenerate));
-    }
+        private boolean start() {
+            generatorResult = generateValue(node);
 
-    private Object createObject(final Node node, final boolean isNullable) {
-        if (context.getRandom().diceRoll(isNullable)) {
-            notifyListeners(node, GeneratorResult.nullResult());
-            return null;
+            if (generatorResult == null || generatorResult.isNullResult()) {
+                result = generatorResult;
+                return false;
+            }
+
+            final Hints hints = generatorResult.getHints();
+            hint = defaultIfNull(hints.get(ArrayHint.class), ArrayHint.empty());
+            arrayObj = generatorResult.getValue();
+            arrayLength = Array.getLength(arrayObj);
+            elementIndex = plan.getOnlyChild(index);
+            action = hints.afterGenerate();
+            return true;
         }
-        return createObject(node).map(GeneratorResult::getValue).orElse(null);
-    }
 
-    private Optional<GeneratorResult> generateValue(final Node node) {
-        final Optional<GeneratorResult> generatorResult = generatorFacade.generateNodeValue(node);
-        notifyListeners(node, generatorResult.orElse(GeneratorResult.nullResult()));
-        return generatorResult;
-    }
+        private void setWithElement(final Node elementNode) {
+            // Current element may have been set by a custom generator.
+            // withElements will always override null values in object arrays
+            // and default values in primitive arrays.
+            if (!ReflectionUtils.neitherNullNorPrimitiveWithDefaultValue(elementNode.getRawType(), currentValue)) {
+                Array.set(arrayObj, arrayIndex, hint.withElements().get(withElementsIndex));
+                withElementsIndex++;
+            }
+            nextIndex();
+        }
 
-    private void notifyListeners(final Node node, final GeneratorResult result) {
-        for (GenerationListener listener : listeners) {
-            listener.objectCreated(node, result);
+        private void setElement(@Nullable final Object elementValue) {
+            // can't assign null values to primitive arrays
+            if (!plan.getNode(elementIndex).getRawType().isPrimitive() || elementValue != null) {
+                Array.set(arrayObj, arrayIndex, elementValue);
+            }
+            nextIndex();
+        }
+
+        private void nextIndex() {
+            arrayIndex++;
+            populated = false;
         }
     }
 }
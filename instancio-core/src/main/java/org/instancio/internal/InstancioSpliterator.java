@@ -0,0 +1,150 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal;
+
+import org.instancio.Random;
+import org.instancio.internal.context.ModelContext;
+import org.instancio.internal.random.DefaultRandom;
+import org.instancio.internal.random.Seeds;
+import org.instancio.internal.random.SplitRandom;
+import org.instancio.settings.Keys;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * A spliterator of root objects in which the object at a given index
+ * is generated from a seed derived from the base seed and the index.
+ * <p>
+ * All splits share the model and its context, which is built with a
+ * {@link SplitRandom}. Each split creates its own {@link InstancioEngine}
+ * and binds its own random instance while generating an object, so splits
+ * can be traversed concurrently. Since no state is carried over from one
+ * object to the next, the same objects are produced regardless of whether
+ * the stream is sequential or parallel.
+ *
+ * @param <T> type of objects created
+ */
+final class InstancioSpliterator<T> implements Spliterator<T> {
+
+    private static final int CHARACTERISTICS = ORDERED | SIZED | SUBSIZED | IMMUTABLE;
+
+    private final InternalModel<T> model;
+    private final long baseSeed;
+    private final long fence;
+    private long index;
+    private InstancioEngine engine;
+    private DefaultRandom random;
+
+    /**
+     * Creates a spliterator of objects with indices
+     * from {@code origin} (inclusive) to {@code fence} (exclusive).
+     *
+     * @param model    the model shared by all splits, whose context must be
+     *                 built using {@link ModelContext.Builder#buildSplittable()}
+     * @param baseSeed the seed from which seeds of individual objects are derived
+     * @param origin   index of the first object
+     * @param fence    index one past the last object
+     */
+    InstancioSpliterator(final InternalModel<T> model, final long baseSeed, final long origin, final long fence) {
+        this.model = model;
+        this.baseSeed = baseSeed;
+        this.index = origin;
+        this.fence = fence;
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super T> action) {
+        if (index >= fence) {
+            return false;
+        }
+        action.accept(createObject(index++));
+        return true;
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        final long mid = index + (fence - index) / 2;
+        if (mid <= index) {
+            return null;
+        }
+        final Spliterator<T> prefix = new InstancioSpliterator<>(model, baseSeed, index, mid);
+        index = mid;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return CHARACTERISTICS;
+    }
+
+    /**
+     * Creates the object at the given index.
+     *
+     * @param objectIndex index of the object to create
+     * @return the created object
+     */
+    T createObject(final long objectIndex) {
+        initEngine();
+        random.setSeed(Seeds.seedAt(baseSeed, objectIndex));
+        final SplitRandom splitRandom = (SplitRandom) model.getModelContext().getRandom();
+        final Random previous = splitRandom.bind(random);
+        try {
+            return engine.createRootObject();
+        } finally {
+            splitRandom.restore(previous);
+        }
+    }
+
+    /**
+     * Creates all the remaining objects as a single batch using one engine.
+     * Callbacks are invoked for each object, and unused selectors are
+     * reported once, after the last object has been created.
+     *
+     * @return remaining objects
+     */
+    List<T> createList() {
+        initEngine();
+        final List<T> results = new ArrayList<>(Math.toIntExact(estimateSize()));
+        final SplitRandom splitRandom = (SplitRandom) model.getModelContext().getRandom();
+        final Random previous = splitRandom.bind(random);
+        try {
+            while (index < fence) {
+                random.setSeed(Seeds.seedAt(baseSeed, index++));
+                results.add(engine.createRootObjectInBatch());
+            }
+            engine.completeBatch();
+        } finally {
+            splitRandom.restore(previous);
+        }
+        return results;
+    }
+
+    private void initEngine() {
+        if (engine == null) {
+            final ModelContext<T> context = model.getModelContext();
+            random = new DefaultRandom(baseSeed, context.getSettings().get(Keys.RANDOM_ENGINE));
+            engine = new InstancioEngine(model);
+        }
+    }
+}
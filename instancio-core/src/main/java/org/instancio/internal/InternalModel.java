@@ -17,18 +17,24 @@ package org.instancio.internal;
 
 import org.instancio.Model;
 import org.instancio.internal.context.ModelContext;
+import org.instancio.internal.context.SubtypeSelectorMap;
 import org.instancio.internal.nodes.Node;
 import org.instancio.internal.nodes.NodeContext;
 import org.instancio.internal.nodes.NodeFactory;
+import org.instancio.settings.Keys;
+
+import java.util.Collections;
 
 final class InternalModel<T> implements Model<T> {
 
     private final ModelContext<T> modelContext;
     private final Node rootNode;
+    private final GenerationPlan generationPlan;
 
     InternalModel(ModelContext<T> modelContext) {
         this.modelContext = modelContext;
         this.rootNode = createRootNode();
+        this.generationPlan = GenerationPlan.compile(rootNode);
     }
 
     ModelContext<T> getModelContext() {
@@ -39,10 +45,34 @@ final class InternalModel<T> implements Model<T> {
         return rootNode;
     }
 
+    GenerationPlan getGenerationPlan() {
+        return generationPlan;
+    }
+
     private Node createRootNode() {
+        final SubtypeSelectorMap subtypeSelectorMap = modelContext.getSubtypeSelectorMap();
+        final Integer cacheSize = modelContext.getSettings().get(Keys.NODE_CACHE_MAX_SIZE);
+
+        // Subtypes specified via selectors cannot be part of the cache key.
+        // Such hierarchies are created from scratch, which also ensures that
+        // subtype selectors are marked as used for strict mode.
+        if (!subtypeSelectorMap.isEmpty() || cacheSize == null || cacheSize == 0) {
+            return createRootNode(subtypeSelectorMap);
+        }
+
+        // Cached hierarchies are created without a reference to this model's
+        // selectors since they are shared by other models
+        return ModelContext.getNodeCache().getRootNode(
+                modelContext.getRootType(),
+                modelContext.getRootTypeMap(),
+                modelContext.getSettings().getSubtypeMap(),
+                () -> createRootNode(new SubtypeSelectorMap(Collections.emptyMap())));
+    }
+
+    private Node createRootNode(final SubtypeSelectorMap subtypeSelectorMap) {
         final NodeContext nodeContext = NodeContext.builder()
                 .rootTypeMap(modelContext.getRootTypeMap())
-                .subtypeSelectorMap(modelContext.getSubtypeSelectorMap())
+                .subtypeSelectorMap(subtypeSelectorMap)
                 .subtypeMappingFromSettings(modelContext.getSettings().getSubtypeMap())
                 .containerFactories(modelContext.getContainerFactories())
                 .build();
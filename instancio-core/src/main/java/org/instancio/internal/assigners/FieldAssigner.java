@@ -19,8 +19,8 @@ import org.instancio.assignment.AssignmentType;
 import org.instancio.assignment.OnSetFieldError;
 import org.instancio.exception.InstancioApiException;
 import org.instancio.internal.nodes.Node;
+import org.instancio.internal.reflection.FieldAccessor;
 import org.instancio.internal.util.Format;
-import org.instancio.internal.util.Sonar;
 import org.instancio.settings.Keys;
 import org.instancio.settings.Settings;
 import org.slf4j.Logger;
@@ -43,20 +43,19 @@ public class FieldAssigner implements Assigner {
 
     @Override
     public void assign(final Node node, final Object target, final Object value) {
-        final Field field = node.getField();
+        final FieldAccessor accessor = node.getFieldAccessor();
 
         if (value != null) {
-            setField(target, field, value);
-        } else if (!field.getType().isPrimitive()) { // can't assign null to a primitive
-            setField(target, field, null);
+            setField(target, accessor, value);
+        } else if (!accessor.getField().getType().isPrimitive()) { // can't assign null to a primitive
+            setField(target, accessor, null);
         }
     }
 
-    @SuppressWarnings(Sonar.ACCESSIBILITY_UPDATE_SHOULD_BE_REMOVED)
-    private void setField(final Object target, final Field field, final Object value) {
+    private void setField(final Object target, final FieldAccessor accessor, final Object value) {
+        final Field field = accessor.getField();
         try {
-            field.setAccessible(true);
-            field.set(target, value);
+            accessor.set(target, value);
         } catch (IllegalArgumentException ex) {
             // Wrong type is being assigned to a field.
             // Always propagate type mismatch errors as it's either a bug or user error.
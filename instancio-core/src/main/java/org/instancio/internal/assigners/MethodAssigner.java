@@ -23,6 +23,7 @@ import org.instancio.exception.InstancioApiException;
 import org.instancio.exception.InstancioException;
 import org.instancio.internal.nodes.Node;
 import org.instancio.internal.util.Format;
+import org.instancio.internal.util.ReflectionUtils;
 import org.instancio.internal.util.Sonar;
 import org.instancio.settings.Keys;
 import org.instancio.settings.Settings;
@@ -30,15 +31,34 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.instancio.internal.util.ExceptionHandler.logException;
 
 public class MethodAssigner implements Assigner {
     private static final Logger LOG = LoggerFactory.getLogger(MethodAssigner.class);
 
+    // Setters are resolved once per field and setter style, including fields
+    // without a setter. The cache is process-wide and keyed by the field's
+    // declaring class, so that it does not prevent classes from being unloaded.
+    private static final ClassValue<Map<SetterStyle, Map<Field, Optional<SetterMethod>>>> SETTERS =
+            new ClassValue<Map<SetterStyle, Map<Field, Optional<SetterMethod>>>>() {
+                @Override
+                protected Map<SetterStyle, Map<Field, Optional<SetterMethod>>> computeValue(final Class<?> type) {
+                    final Map<SetterStyle, Map<Field, Optional<SetterMethod>>> map = new EnumMap<>(SetterStyle.class);
+                    for (SetterStyle style : SetterStyle.values()) {
+                        map.put(style, new ConcurrentHashMap<>());
+                    }
+                    return map;
+                }
+            };
+
     private final Assigner fieldAssigner;
     private final MethodNameResolver setterNameResolver;
     private final SetterStyle setterStyle;
@@ -83,26 +103,31 @@ public class MethodAssigner implements Assigner {
         }
     }
 
-    @SuppressWarnings(Sonar.ACCESSIBILITY_UPDATE_SHOULD_BE_REMOVED)
     private void assignViaMethod(final Node node, final Object target, final Object arg) {
-        final String methodName = setterNameResolver.resolveFor(node.getField());
-        final Optional<Method> methodOpt = resolveSetterMethod(methodName, node.getField());
+        final Field field = node.getField();
+        final Optional<SetterMethod> setterOpt = SETTERS.get(field.getDeclaringClass())
+                .get(setterStyle)
+                .computeIfAbsent(field, this::resolveSetter);
 
-        if (methodOpt.isPresent()) {
-            final Method method = methodOpt.get();
+        if (setterOpt.isPresent()) {
+            final Method method = setterOpt.get().method;
             try {
-                method.setAccessible(true);
-                method.invoke(target, arg);
+                setterOpt.get().invoke(target, arg);
             } catch (IllegalAccessException ex) {
                 throw new InstancioException("Error setting value via method: " + method, ex);
             } catch (Exception ex) {
                 handleMethodInvocationError(node, target, arg, method, ex);
             }
         } else {
-            handleMethodNotFoundError(node, target, arg, methodName);
+            handleMethodNotFoundError(node, target, arg, setterNameResolver.resolveFor(field));
         }
     }
 
+    private Optional<SetterMethod> resolveSetter(final Field field) {
+        final String methodName = setterNameResolver.resolveFor(field);
+        return resolveSetterMethod(methodName, field).map(SetterMethod::new);
+    }
+
     private void handleMethodInvocationError(
             final Node node,
             final Object target,
@@ -156,4 +181,27 @@ public class MethodAssigner implements Assigner {
         }
         return Optional.empty();
     }
+
+    /**
+     * A resolved setter method. The method is made accessible once,
+     * when it is resolved. If that fails, it is retried on invocation
+     * so that the error is handled as per {@link Keys#ON_SET_METHOD_ERROR}.
+     */
+    private static final class SetterMethod {
+        private final Method method;
+        private final boolean accessible;
+
+        SetterMethod(final Method method) {
+            this.method = method;
+            this.accessible = ReflectionUtils.trySetAccessible(method);
+        }
+
+        @SuppressWarnings(Sonar.ACCESSIBILITY_UPDATE_SHOULD_BE_REMOVED)
+        void invoke(final Object target, final Object arg) throws InvocationTargetException, IllegalAccessException {
+            if (!accessible) {
+                method.setAccessible(true);
+            }
+            method.invoke(target, arg);
+        }
+    }
 }
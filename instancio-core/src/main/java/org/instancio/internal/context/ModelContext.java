@@ -19,6 +19,7 @@ import org.instancio.GeneratorSpecProvider;
 import org.instancio.Mode;
 import org.instancio.OnCompleteCallback;
 import org.instancio.Random;
+import org.instancio.RandomEngineType;
 import org.instancio.TargetSelector;
 import org.instancio.generator.Generator;
 import org.instancio.generator.GeneratorContext;
@@ -27,8 +28,10 @@ import org.instancio.internal.ThreadLocalRandom;
 import org.instancio.internal.ThreadLocalSettings;
 import org.instancio.internal.generator.misc.SupplierAdapter;
 import org.instancio.internal.nodes.Node;
+import org.instancio.internal.nodes.NodeCache;
 import org.instancio.internal.random.DefaultRandom;
 import org.instancio.internal.random.Seeds;
+import org.instancio.internal.random.SplitRandom;
 import org.instancio.internal.spi.InternalContainerFactoryProvider;
 import org.instancio.internal.util.CollectionUtils;
 import org.instancio.internal.util.ServiceLoaders;
@@ -63,7 +66,9 @@ public final class ModelContext<T> {
             Settings.from(PropertiesLoader.loadDefaultPropertiesFile()).lock();
 
     private static final Random GLOBAL_RANDOM = PROPERTIES_FILE_SETTINGS.get(Keys.SEED) == null
-            ? null : new DefaultRandom(PROPERTIES_FILE_SETTINGS.get(Keys.SEED));
+            ? null : new DefaultRandom(PROPERTIES_FILE_SETTINGS.get(Keys.SEED), getRandomEngineType(null));
+
+    private static final NodeCache NODE_CACHE = createNodeCache();
 
     private static final List<InternalContainerFactoryProvider> CONTAINER_FACTORIES =
             CollectionUtils.combine(
@@ -82,7 +87,7 @@ public final class ModelContext<T> {
     private final SubtypeSelectorMap subtypeSelectorMap;
     private final GeneratorSelectorMap generatorSelectorMap;
 
-    private ModelContext(final Builder<T> builder) {
+    private ModelContext(final Builder<T> builder, final boolean splittable) {
         rootType = builder.rootType;
         rootTypeParameters = Collections.unmodifiableList(builder.rootTypeParameters);
         rootTypeMap = rootType instanceof ParameterizedType || rootType instanceof GenericArrayType
@@ -91,7 +96,8 @@ public final class ModelContext<T> {
 
         seed = builder.seed;
         settings = createSettings(builder);
-        random = resolveRandom(settings, builder.seed);
+        final Random resolvedRandom = resolveRandom(settings, builder.seed);
+        random = splittable ? new SplitRandom(resolvedRandom) : resolvedRandom;
 
         ignoredSelectorMap = new BooleanSelectorMap(builder.ignoredTargets);
         nullableSelectorMap = new BooleanSelectorMap(builder.nullableTargets);
@@ -105,6 +111,11 @@ public final class ModelContext<T> {
         subtypeSelectorMap.putAll(generatorSelectorMap.getGeneratorSubtypeMap());
     }
 
+    private static NodeCache createNodeCache() {
+        final Integer maxSize = PROPERTIES_FILE_SETTINGS.get(Keys.NODE_CACHE_MAX_SIZE);
+        return new NodeCache(maxSize == null ? Keys.NODE_CACHE_MAX_SIZE.<Integer>defaultValue() : maxSize);
+    }
+
     private static Settings createSettings(final Builder<?> builder) {
         final Settings settings = Settings.defaults()
                 .merge(PROPERTIES_FILE_SETTINGS)
@@ -136,14 +147,15 @@ public final class ModelContext<T> {
     }
 
     private static Random resolveRandom(final Settings settings, @Nullable final Long userSuppliedSeed) {
+        final RandomEngineType engineType = settings.get(Keys.RANDOM_ENGINE);
         if (userSuppliedSeed != null) {
-            return new DefaultRandom(userSuppliedSeed);
+            return new DefaultRandom(userSuppliedSeed, engineType);
         }
 
         final Long settingsSeed = settings.get(Keys.SEED);
         if (settingsSeed != null && (getGlobalRandom() == null || getGlobalRandom().getSeed() != settingsSeed)) {
             // Use seed from settings unless it's the value from the properties file.
-            return new DefaultRandom(settingsSeed);
+            return new DefaultRandom(settingsSeed, engineType);
         }
 
         // If running under JUnit extension, use the Random instance supplied by the extension
@@ -154,7 +166,25 @@ public final class ModelContext<T> {
             return getGlobalRandom();
         }
 
-        return new DefaultRandom(Seeds.randomSeed());
+        return new DefaultRandom(Seeds.randomSeed(), engineType);
+    }
+
+    /**
+     * Returns the random engine specified by the given settings,
+     * falling back to the {@code instancio.properties} file.
+     * Used for creating random instances that are shared by multiple
+     * objects, and therefore cannot use settings of a particular object.
+     *
+     * @param settings to get the engine from, may be {@code null}
+     * @return the random engine type
+     */
+    public static RandomEngineType getRandomEngineType(@Nullable final Settings settings) {
+        final RandomEngineType engineType = settings == null ? null : settings.get(Keys.RANDOM_ENGINE);
+        if (engineType != null) {
+            return engineType;
+        }
+        final RandomEngineType fromProperties = PROPERTIES_FILE_SETTINGS.get(Keys.RANDOM_ENGINE);
+        return fromProperties == null ? Keys.RANDOM_ENGINE.defaultValue() : fromProperties;
     }
 
     public Type getRootType() {
@@ -200,6 +230,10 @@ public final class ModelContext<T> {
         return GLOBAL_RANDOM;
     }
 
+    public static NodeCache getNodeCache() {
+        return NODE_CACHE;
+    }
+
     public Builder<T> toBuilder() {
         final Builder<T> builder = new Builder<>(rootType);
         builder.rootTypeParameters.addAll(this.rootTypeParameters);
@@ -302,7 +336,18 @@ public final class ModelContext<T> {
         }
 
         public ModelContext<T> build() {
-            return new ModelContext<>(this);
+            return new ModelContext<>(this, false);
+        }
+
+        /**
+         * Builds a context that can be shared by multiple splits of a stream.
+         * The context's random instance is a {@link SplitRandom}, to which
+         * each split binds its own random instance.
+         *
+         * @return the context
+         */
+        public ModelContext<T> buildSplittable() {
+            return new ModelContext<>(this, true);
         }
     }
 }
\ No newline at end of file
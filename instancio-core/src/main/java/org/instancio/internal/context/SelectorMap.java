@@ -34,6 +34,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Deque;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -54,9 +55,17 @@ import static java.util.stream.Collectors.joining;
  * Although this class is named a 'Map', it also contains a List of predicate selectors.
  * Since predicate matches can only be resolved by applying the predicate to a target,
  * a map cannot be used like with regular selectors.
+ * <p>
+ * Since selectors are fixed once the map is populated, the result of a lookup
+ * depends only on the node. Therefore, results are resolved once per node
+ * (which also marks matching selectors as used) and cached for subsequent lookups.
+ * <p>
+ * Lookups are synchronized, since a context (and therefore this map)
+ * is shared by all splits of a stream, which may be traversed concurrently.
  *
  * @param <V> value type
  */
+@SuppressWarnings("PMD.GodClass")
 final class SelectorMap<V> {
     private static final boolean FIND_ONE_ONLY = true;
     private static final ScopelessSelector SCOPELESS_ROOT = new ScopelessSelector(SelectorImpl.getRootSelector().getTargetClass());
@@ -65,6 +74,8 @@ final class SelectorMap<V> {
     private final Map<? super TargetSelector, V> selectors = new LinkedHashMap<>();
     private final Set<? super TargetSelector> unusedSelectors = new LinkedHashSet<>();
     private final List<PredicateSelectorEntry<V>> predicateSelectors = new ArrayList<>();
+    private final Map<Node, Optional<V>> resolvedValues = new IdentityHashMap<>();
+    private final Map<Node, List<V>> resolvedValueLists = new IdentityHashMap<>();
 
     private static final class PredicateSelectorEntry<V> {
         private final PredicateSelectorImpl predicateSelector;
@@ -78,6 +89,9 @@ final class SelectorMap<V> {
     }
 
     void put(final TargetSelector targetSelector, final V value) {
+        resolvedValues.clear();
+        resolvedValueLists.clear();
+
         if (targetSelector instanceof SelectorImpl) {
             final SelectorImpl selector = (SelectorImpl) targetSelector;
             final ScopelessSelector scopeless;
@@ -98,14 +112,20 @@ final class SelectorMap<V> {
         }
     }
 
+    boolean isEmpty() {
+        return selectors.isEmpty() && predicateSelectors.isEmpty();
+    }
+
     public Set<? super TargetSelector> getUnusedKeys() {
-        final Set<? super TargetSelector> unused = new HashSet<>(unusedSelectors);
-        for (PredicateSelectorEntry<?> entry : predicateSelectors) {
-            if (!entry.matched) {
-                unused.add(entry.predicateSelector);
+        synchronized (this) {
+            final Set<? super TargetSelector> unused = new HashSet<>(unusedSelectors);
+            for (PredicateSelectorEntry<?> entry : predicateSelectors) {
+                if (!entry.matched) {
+                    unused.add(entry.predicateSelector);
+                }
             }
+            return unused;
         }
-        return unused;
     }
 
     /**
@@ -119,6 +139,15 @@ final class SelectorMap<V> {
      * @return value for given node, if present
      */
     Optional<V> getValue(final Node node) {
+        if (isEmpty()) {
+            return Optional.empty();
+        }
+        synchronized (this) {
+            return resolvedValues.computeIfAbsent(node, this::resolveValue);
+        }
+    }
+
+    private Optional<V> resolveValue(final Node node) {
         final Optional<V> value = getSelectorsWithParent(node, getCandidates(node), FIND_ONE_ONLY).stream()
                 .findFirst()
                 .map(this::markUsed)
@@ -164,6 +193,15 @@ final class SelectorMap<V> {
      * @return all values for given node, or an empty list if none found
      */
     List<V> getValues(final Node node) {
+        if (isEmpty()) {
+            return Collections.emptyList();
+        }
+        synchronized (this) {
+            return resolvedValueLists.computeIfAbsent(node, this::resolveValues);
+        }
+    }
+
+    private List<V> resolveValues(final Node node) {
         final List<V> values = getSelectorsWithParent(node, getCandidates(node), !FIND_ONE_ONLY)
                 .stream()
                 .map(this::markUsed)
@@ -180,7 +218,7 @@ final class SelectorMap<V> {
         }
 
         values.addAll(valuesMatchingPredicates);
-        return values;
+        return values.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(values);
     }
 
     private static boolean isPredicateMatch(final Node node, final PredicateSelectorEntry<?> entry) {
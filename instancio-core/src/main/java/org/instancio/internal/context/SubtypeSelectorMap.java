@@ -41,6 +41,16 @@ public final class SubtypeSelectorMap {
         return selectorMap;
     }
 
+    /**
+     * Returns {@code true} if this map contains no subtype selectors,
+     * including those derived from generators.
+     *
+     * @return {@code true} if no subtype selectors are present
+     */
+    public boolean isEmpty() {
+        return selectorMap.isEmpty();
+    }
+
     public Optional<Class<?>> getSubtype(final Node node) {
         return selectorMap.getValue(node);
     }
@@ -61,6 +61,7 @@ import org.instancio.internal.generator.util.concurrent.atomic.AtomicIntegerGene
 import org.instancio.internal.generator.util.concurrent.atomic.AtomicLongGenerator;
 import org.instancio.internal.util.ReflectionUtils;
 import org.instancio.internal.util.ServiceLoaders;
+import org.instancio.internal.util.Sonar;
 import org.instancio.spi.GeneratorProvider;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -128,6 +129,7 @@ public class GeneratorResolver {
 
     private static final List<GeneratorProvider> PROVIDERS = ServiceLoaders.loadAll(GeneratorProvider.class);
     private final Map<Class<?>, Generator<?>> generators = new HashMap<>();
+    private final Map<Class<?>, Optional<Generator<?>>> resolvedGenerators = new HashMap<>();
     private final GeneratorContext context;
     private final GeneratorProviderFacade generatorProviderFacade;
 
@@ -273,11 +275,30 @@ public class GeneratorResolver {
         }
     }
 
-    @SuppressWarnings("all")
+    /**
+     * Returns a generator for the given class, if one is available.
+     * <p>
+     * Generators from {@link GeneratorProvider}s are looked up on every call
+     * since a provider may return a new generator instance each time.
+     * Built-in generators are resolved once per class and cached, since
+     * they do not change for the lifetime of this resolver.
+     *
+     * @param klass to resolve a generator for
+     * @return a generator, or an empty result if none is available
+     */
+    @SuppressWarnings(Sonar.GENERIC_WILDCARD_IN_RETURN)
     public Optional<Generator<?>> get(final Class<?> klass) {
         // Generators provided by SPI take precedence over built-in generators
-        Generator<?> generator = generatorProviderFacade.getGenerator(klass)
-                .orElse(generators.get(klass));
+        final Optional<Generator<?>> spiGenerator = generatorProviderFacade.getGenerator(klass);
+        if (spiGenerator.isPresent()) {
+            return spiGenerator;
+        }
+        return resolvedGenerators.computeIfAbsent(klass, this::resolveBuiltIn);
+    }
+
+    @SuppressWarnings("all")
+    private Optional<Generator<?>> resolveBuiltIn(final Class<?> klass) {
+        Generator<?> generator = generators.get(klass);
 
         if (generator == null) {
             if (klass.isArray()) {
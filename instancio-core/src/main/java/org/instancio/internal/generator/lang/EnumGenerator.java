@@ -24,22 +24,24 @@ import org.instancio.generator.specs.EnumGeneratorSpec;
 import org.instancio.internal.ApiValidator;
 import org.instancio.internal.generator.AbstractGenerator;
 import org.instancio.internal.generator.InternalGeneratorHint;
+import org.instancio.internal.random.IndexedChoice;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.EnumSet;
 
 public class EnumGenerator<E extends Enum<E>> extends AbstractGenerator<E> implements EnumGeneratorSpec<E>, Generator<E> {
 
     private final Class<E> enumClass;
-    private final EnumSet<E> values;
-    private EnumSet<E> valuesWithExclusions;
+    private final IndexedChoice<E> values;
+    private IndexedChoice<E> valuesWithExclusions;
     private boolean nullable;
 
     public EnumGenerator(final GeneratorContext context, final Class<E> enumClass) {
         super(context);
         this.enumClass = ApiValidator.notNull(enumClass, "Enum class must not be null");
-        this.values = EnumSet.allOf(enumClass);
-        this.valuesWithExclusions = EnumSet.noneOf(enumClass);
+        this.values = createChoices(EnumSet.allOf(enumClass));
     }
 
     @Override
@@ -55,7 +57,7 @@ public class EnumGenerator<E extends Enum<E>> extends AbstractGenerator<E> imple
         // Allow passing empty array, meaning 'no exclusions'
         if (values.length > 0) {
             final EnumSet<E> exclusions = EnumSet.copyOf(Arrays.asList(values));
-            valuesWithExclusions = EnumSet.complementOf(exclusions);
+            valuesWithExclusions = createChoices(EnumSet.complementOf(exclusions));
         }
         return this;
     }
@@ -68,12 +70,17 @@ public class EnumGenerator<E extends Enum<E>> extends AbstractGenerator<E> imple
 
     @Override
     public E generate(final Random random) {
-        if (values.isEmpty() || random.diceRoll(nullable)) {
+        if (values == null || random.diceRoll(nullable)) {
             return null;
         }
-        return valuesWithExclusions.isEmpty()
-                ? random.oneOf(values)
-                : random.oneOf(valuesWithExclusions);
+        return valuesWithExclusions == null
+                ? values.sample(random)
+                : valuesWithExclusions.sample(random);
+    }
+
+    @Nullable
+    private static <T extends Enum<T>> IndexedChoice<T> createChoices(final EnumSet<T> choices) {
+        return choices.isEmpty() ? null : IndexedChoice.of(new ArrayList<>(choices));
     }
 
     @Override
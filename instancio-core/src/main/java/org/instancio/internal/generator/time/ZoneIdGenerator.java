@@ -18,11 +18,15 @@ package org.instancio.internal.generator.time;
 import org.instancio.Random;
 import org.instancio.generator.GeneratorContext;
 import org.instancio.internal.generator.AbstractGenerator;
+import org.instancio.internal.random.IndexedChoice;
 
 import java.time.ZoneId;
 
 public class ZoneIdGenerator extends AbstractGenerator<ZoneId> {
 
+    // getAvailableZoneIds() creates a new set on each call
+    private static final IndexedChoice<String> ZONE_IDS = IndexedChoice.of(ZoneId.getAvailableZoneIds());
+
     public ZoneIdGenerator(final GeneratorContext context) {
         super(context);
     }
@@ -34,6 +38,6 @@ public class ZoneIdGenerator extends AbstractGenerator<ZoneId> {
 
     @Override
     public ZoneId generate(final Random random) {
-        return ZoneId.of(random.oneOf(ZoneId.getAvailableZoneIds()));
+        return ZoneId.of(ZONE_IDS.sample(random));
     }
 }
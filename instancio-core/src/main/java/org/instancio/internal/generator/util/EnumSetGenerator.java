@@ -28,8 +28,10 @@ import org.instancio.internal.util.NumberUtils;
 import org.instancio.internal.util.ObjectUtils;
 import org.instancio.internal.util.Sonar;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.EnumSet;
+import java.util.List;
 
 public class EnumSetGenerator<E extends Enum<E>> extends AbstractGenerator<EnumSet<E>> implements EnumSetGeneratorSpec<E> {
 
@@ -110,16 +112,14 @@ public class EnumSetGenerator<E extends Enum<E>> extends AbstractGenerator<EnumS
     private EnumSet<E> createEnumSet(final Class<E> targetClass, final Random random) {
 
         if (CollectionUtils.isNullOrEmpty(including) && CollectionUtils.isNullOrEmpty(excluding)) {
-            final EnumSet<E> choices = EnumSet.allOf(enumClass);
+            final List<E> choices = new ArrayList<>(EnumSet.allOf(enumClass));
             final int min = ObjectUtils.defaultIfNull(minSize, 1);
             final int max = ObjectUtils.defaultIfNull(maxSize, choices.size());
             final int size = random.intRange(min, max);
             final EnumSet<E> result = EnumSet.noneOf(targetClass);
 
             while (result.size() < size && !choices.isEmpty()) {
-                final E next = random.oneOf(choices);
-                result.add(next);
-                choices.remove(next);
+                result.add(choices.remove(random.intRange(0, choices.size() - 1)));
             }
             return result;
         }
@@ -130,12 +130,10 @@ public class EnumSetGenerator<E extends Enum<E>> extends AbstractGenerator<EnumS
             final int size = random.intRange(min, max);
 
             final EnumSet<E> result = EnumSet.noneOf(targetClass);
-            final EnumSet<E> choices = EnumSet.copyOf(including);
+            final List<E> choices = new ArrayList<>(EnumSet.copyOf(including));
 
             while (result.size() < size && !choices.isEmpty()) {
-                final E next = random.oneOf(choices);
-                result.add(next);
-                choices.remove(next);
+                result.add(choices.remove(random.intRange(0, choices.size() - 1)));
             }
             return result;
         }
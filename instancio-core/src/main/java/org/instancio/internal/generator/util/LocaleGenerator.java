@@ -18,11 +18,15 @@ package org.instancio.internal.generator.util;
 import org.instancio.Random;
 import org.instancio.generator.GeneratorContext;
 import org.instancio.internal.generator.AbstractGenerator;
+import org.instancio.internal.random.IndexedChoice;
 
 import java.util.Locale;
 
 public class LocaleGenerator extends AbstractGenerator<Locale> {
 
+    // getAvailableLocales() creates a new array on each call
+    private static final IndexedChoice<Locale> LOCALES = IndexedChoice.of(Locale.getAvailableLocales());
+
     public LocaleGenerator(final GeneratorContext context) {
         super(context);
     }
@@ -34,6 +38,6 @@ public class LocaleGenerator extends AbstractGenerator<Locale> {
 
     @Override
     public Locale generate(final Random random) {
-        return random.oneOf(Locale.getAvailableLocales());
+        return LOCALES.sample(random);
     }
 }
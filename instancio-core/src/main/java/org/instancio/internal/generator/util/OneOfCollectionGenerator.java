@@ -20,12 +20,13 @@ import org.instancio.generator.GeneratorContext;
 import org.instancio.generator.specs.OneOfCollectionGeneratorSpec;
 import org.instancio.internal.ApiValidator;
 import org.instancio.internal.generator.AbstractGenerator;
+import org.instancio.internal.random.IndexedChoice;
 
 import java.util.Collection;
 
 public class OneOfCollectionGenerator<T> extends AbstractGenerator<T> implements OneOfCollectionGeneratorSpec<T> {
 
-    private Collection<T> values;
+    private IndexedChoice<T> values;
 
     public OneOfCollectionGenerator(final GeneratorContext context) {
         super(context);
@@ -38,12 +39,12 @@ public class OneOfCollectionGenerator<T> extends AbstractGenerator<T> implements
 
     @Override
     public OneOfCollectionGeneratorSpec<T> oneOf(final Collection<T> values) {
-        this.values = ApiValidator.notEmpty(values, "Collection must have at least one element");
+        this.values = IndexedChoice.of(ApiValidator.notEmpty(values, "Collection must have at least one element"));
         return this;
     }
 
     @Override
     public T generate(final Random random) {
-        return random.oneOf(values);
+        return values.sample(random);
     }
 }
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.generator.util;
+
+import org.instancio.Random;
+import org.instancio.generator.GeneratorContext;
+import org.instancio.generator.specs.WeightedOneOfGeneratorSpec;
+import org.instancio.internal.ApiValidator;
+import org.instancio.internal.generator.AbstractGenerator;
+import org.instancio.internal.random.AliasTable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+public class WeightedOneOfGenerator<T> extends AbstractGenerator<T> implements WeightedOneOfGeneratorSpec<T> {
+
+    private final Map<T, Double> weights = new LinkedHashMap<>();
+    private AliasTable<T> aliasTable;
+
+    public WeightedOneOfGenerator(final GeneratorContext context) {
+        super(context);
+    }
+
+    @Override
+    public String apiMethod() {
+        return "weightedOneOf()";
+    }
+
+    /**
+     * Returns the choices specified so far.
+     *
+     * @return an unmodifiable view of the choices
+     */
+    public Set<T> getChoices() {
+        return Collections.unmodifiableSet(weights.keySet());
+    }
+
+    @Override
+    public WeightedOneOfGeneratorSpec<T> choice(final T value, final double weight) {
+        ApiValidator.isTrue(weight >= 0 && !Double.isInfinite(weight),
+                "Weight must be non-negative and finite: %s", weight);
+        weights.merge(value, weight, Double::sum);
+        aliasTable = null; // NOPMD
+        return this;
+    }
+
+    @Override
+    public WeightedOneOfGeneratorSpec<T> choices(final Map<? extends T, ? extends Number> weights) {
+        ApiValidator.notNull(weights, "Weights must not be null");
+        for (Map.Entry<? extends T, ? extends Number> entry : weights.entrySet()) {
+            ApiValidator.notNull(entry.getValue(), "Weight must not be null for value: %s", entry.getKey());
+            choice(entry.getKey(), entry.getValue().doubleValue());
+        }
+        return this;
+    }
+
+    @Override
+    public T generate(final Random random) {
+        if (aliasTable == null) {
+            aliasTable = createAliasTable();
+        }
+        return aliasTable.sample(random);
+    }
+
+    private AliasTable<T> createAliasTable() {
+        ApiValidator.isFalse(weights.isEmpty(), "Weighted choices must have at least one element");
+
+        final double[] weightArray = new double[weights.size()];
+        double total = 0;
+        int i = 0;
+        for (double weight : weights.values()) {
+            weightArray[i++] = weight;
+            total += weight;
+        }
+        ApiValidator.isTrue(total > 0 && !Double.isInfinite(total),
+                "Sum of weights must be positive and finite: %s", total);
+        return AliasTable.of(new ArrayList<>(weights.keySet()), weightArray);
+    }
+}
@@ -21,8 +21,6 @@ import org.instancio.internal.generator.GeneratorResolver;
 import org.instancio.internal.generator.GeneratorResult;
 import org.instancio.internal.nodes.Node;
 
-import java.util.Optional;
-
 public class ArrayNodeHandler implements NodeHandler {
 
     private final GeneratorResolver generatorResolver;
@@ -34,16 +32,15 @@ public class ArrayNodeHandler implements NodeHandler {
     }
 
     @Override
-    public Optional<GeneratorResult> getResult(final Node node) {
+    public GeneratorResult getResult(final Node node) {
         if (node.getTargetClass().isArray()) {
             final Generator<?> generator = generatorResolver.get(node.getTargetClass()).orElseThrow(
                     () -> new IllegalStateException("Unable to get array generator for node: " + node));
 
             final Object arrayObject = generator.generate(context.getRandom());
-            final GeneratorResult result = GeneratorResult.create(arrayObject, generator.hints());
-            return Optional.of(result);
+            return GeneratorResult.create(arrayObject, generator.hints());
         }
-        return Optional.empty();
+        return null;
     }
 
 
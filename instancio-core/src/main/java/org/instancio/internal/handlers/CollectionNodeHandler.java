@@ -27,7 +27,6 @@ import org.instancio.settings.Keys;
 import org.instancio.settings.Settings;
 
 import java.util.Collection;
-import java.util.Optional;
 
 public class CollectionNodeHandler implements NodeHandler {
 
@@ -41,7 +40,7 @@ public class CollectionNodeHandler implements NodeHandler {
     }
 
     @Override
-    public Optional<GeneratorResult> getResult(final Node node) {
+    public GeneratorResult getResult(final Node node) {
         if (Collection.class.isAssignableFrom(node.getTargetClass())) {
             final Hints hints = Hints.builder()
                     .with(CollectionHint.builder()
@@ -51,10 +50,9 @@ public class CollectionNodeHandler implements NodeHandler {
                     .build();
 
             final Object collection = instantiator.instantiate(node.getTargetClass());
-            final GeneratorResult result = GeneratorResult.create(collection, hints);
-            return Optional.of(result);
+            return GeneratorResult.create(collection, hints);
         }
-        return Optional.empty();
+        return null;
     }
 
     private int randomSize() {
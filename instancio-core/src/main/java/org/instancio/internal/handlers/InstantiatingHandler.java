@@ -22,10 +22,10 @@ import org.instancio.internal.nodes.Node;
 import org.instancio.internal.reflection.instantiation.Instantiator;
 import org.instancio.internal.util.ReflectionUtils;
 
-import java.util.Optional;
-
 public class InstantiatingHandler implements NodeHandler {
 
+    private static final Hints HINTS = Hints.afterGenerate(AfterGenerate.POPULATE_ALL);
+
     private final Instantiator instantiator;
 
     public InstantiatingHandler(final Instantiator instantiator) {
@@ -33,19 +33,14 @@ public class InstantiatingHandler implements NodeHandler {
     }
 
     @Override
-    public Optional<GeneratorResult> getResult(final Node node) {
+    public GeneratorResult getResult(final Node node) {
         final Class<?> targetClass = node.getTargetClass();
 
         if (ReflectionUtils.isArrayOrConcrete(targetClass)) {
-            final Hints hints = Hints.builder()
-                    .afterGenerate(AfterGenerate.POPULATE_ALL)
-                    .build();
-
             final Object object = instantiator.instantiate(targetClass);
-            final GeneratorResult result = GeneratorResult.create(object, hints);
-            return Optional.of(result);
+            return GeneratorResult.create(object, HINTS);
         }
-        return Optional.empty();
+        return null;
     }
 
 
@@ -27,7 +27,6 @@ import org.instancio.settings.Keys;
 import org.instancio.settings.Settings;
 
 import java.util.Map;
-import java.util.Optional;
 
 public class MapNodeHandler implements NodeHandler {
 
@@ -40,7 +39,7 @@ public class MapNodeHandler implements NodeHandler {
     }
 
     @Override
-    public Optional<GeneratorResult> getResult(final Node node) {
+    public GeneratorResult getResult(final Node node) {
         if (Map.class.isAssignableFrom(node.getTargetClass())) {
             final Hints hints = Hints.builder()
                     .afterGenerate(AfterGenerate.POPULATE_ALL)
@@ -49,10 +48,9 @@ public class MapNodeHandler implements NodeHandler {
                             .build())
                     .build();
 
-            final GeneratorResult result = GeneratorResult.create(instantiator.instantiate(node.getTargetClass()), hints);
-            return Optional.of(result);
+            return GeneratorResult.create(instantiator.instantiate(node.getTargetClass()), hints);
         }
-        return Optional.empty();
+        return null;
     }
 
     private int randomSize() {
@@ -18,12 +18,19 @@ package org.instancio.internal.handlers;
 import org.instancio.documentation.InternalApi;
 import org.instancio.internal.generator.GeneratorResult;
 import org.instancio.internal.nodes.Node;
-
-import java.util.Optional;
+import org.jetbrains.annotations.Nullable;
 
 @InternalApi
 public interface NodeHandler {
 
-    Optional<GeneratorResult> getResult(Node node);
+    /**
+     * Generates a value for the given node.
+     *
+     * @param node to generate a value for
+     * @return generated result, or {@code null} if this handler
+     * is unable to generate a value for the given node
+     */
+    @Nullable
+    GeneratorResult getResult(Node node);
 
 }
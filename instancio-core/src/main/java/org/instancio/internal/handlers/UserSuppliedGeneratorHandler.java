@@ -47,22 +47,26 @@ public class UserSuppliedGeneratorHandler implements NodeHandler {
 
     /**
      * If the context has enough information to generate a value for the field, then do so.
-     * If not, return an empty {@link Optional} and proceed with the main generation flow.
+     * If not, return {@code null} and proceed with the main generation flow.
      */
     @Override
-    public Optional<GeneratorResult> getResult(final Node node) {
-        return getUserSuppliedGenerator(node).map(generator -> {
-            final Hints hints = generator.hints();
-            final InternalGeneratorHint internalHint = hints.get(InternalGeneratorHint.class);
-            final boolean nullable = internalHint != null && internalHint.nullableResult();
+    public GeneratorResult getResult(final Node node) {
+        final Optional<Generator<?>> generatorOpt = getUserSuppliedGenerator(node);
+        if (!generatorOpt.isPresent()) {
+            return null;
+        }
 
-            if (modelContext.getRandom().diceRoll(nullable)) {
-                return GeneratorResult.nullResult();
-            }
+        final Generator<?> generator = generatorOpt.get();
+        final Hints hints = generator.hints();
+        final InternalGeneratorHint internalHint = hints.get(InternalGeneratorHint.class);
+        final boolean nullable = internalHint != null && internalHint.nullableResult();
+
+        if (modelContext.getRandom().diceRoll(nullable)) {
+            return GeneratorResult.nullResult();
+        }
 
-            final Object value = generator.generate(modelContext.getRandom());
-            return GeneratorResult.create(value, hints);
-        });
+        final Object value = generator.generate(modelContext.getRandom());
+        return GeneratorResult.create(value, hints);
     }
 
     private Optional<Generator<?>> getUserSuppliedGenerator(final Node node) {
@@ -41,19 +41,22 @@ public class UsingGeneratorResolverHandler implements NodeHandler {
     }
 
     @Override
-    public Optional<GeneratorResult> getResult(final Node node) {
+    public GeneratorResult getResult(final Node node) {
         final Class<?> targetClass = node.getTargetClass();
         final Optional<Generator<?>> generatorOpt = generatorResolver.get(targetClass);
 
-        return generatorOpt.map(generator -> {
-            LOG.trace("Using '{}' generator to create '{}'", generator.getClass().getSimpleName(), targetClass.getName());
+        if (!generatorOpt.isPresent()) {
+            return null;
+        }
 
-            final Object value = generator.generate(context.getRandom());
-            final Object processed = stringPostProcessor.process(value, node, generator);
-            final GeneratorResult result = GeneratorResult.create(processed, generator.hints());
+        final Generator<?> generator = generatorOpt.get();
+        LOG.trace("Using '{}' generator to create '{}'", generator.getClass().getSimpleName(), targetClass.getName());
 
-            LOG.trace("Generated {} using '{}' generator ", result, generator.getClass().getSimpleName());
-            return result;
-        });
+        final Object value = generator.generate(context.getRandom());
+        final Object processed = stringPostProcessor.process(value, node, generator);
+        final GeneratorResult result = GeneratorResult.create(processed, generator.hints());
+
+        LOG.trace("Generated {} using '{}' generator ", result, generator.getClass().getSimpleName());
+        return result;
     }
 }
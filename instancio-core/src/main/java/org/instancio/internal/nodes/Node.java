@@ -15,6 +15,8 @@
  */
 package org.instancio.internal.nodes;
 
+import org.instancio.internal.reflection.FieldAccessor;
+import org.instancio.internal.reflection.FieldCache;
 import org.instancio.internal.util.Format;
 import org.instancio.internal.util.Verify;
 import org.jetbrains.annotations.Nullable;
@@ -25,6 +27,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Function;
 
 public final class Node {
 
@@ -33,10 +36,12 @@ public final class Node {
     private final Class<?> rawType;
     private final Class<?> targetClass;
     private final Field field;
+    private final FieldAccessor fieldAccessor;
     private final Node parent;
     private final TypeMap typeMap;
     private final NodeKind nodeKind;
     private List<Node> children;
+    private Function<Object, Object> containerSubstitution;
 
     private Node(final Builder builder) {
         nodeContext = builder.nodeContext;
@@ -44,10 +49,11 @@ public final class Node {
         rawType = Verify.notNull(builder.rawType, "null rawType");
         targetClass = Verify.notNull(builder.targetClass, "null targetClass");
         field = builder.field;
+        fieldAccessor = field == null ? null : FieldCache.getAccessor(field);
         parent = builder.parent;
         children = builder.children == null ? Collections.emptyList() : Collections.unmodifiableList(builder.children);
         nodeKind = builder.nodeKind;
-        typeMap = new TypeMap(type, nodeContext.getRootTypeMap(), builder.additionalTypeMap);
+        typeMap = nodeContext.getTypeMap(type, builder.additionalTypeMap);
     }
 
     public NodeKind getNodeKind() {
@@ -120,6 +126,16 @@ public final class Node {
         return field;
     }
 
+    /**
+     * Returns an accessor for the field associated with this node,
+     * or {@code null} if the node has no field.
+     *
+     * @return field accessor, if present, or {@code null}
+     */
+    public FieldAccessor getFieldAccessor() {
+        return fieldAccessor;
+    }
+
     public Node getParent() {
         return parent;
     }
@@ -151,6 +167,22 @@ public final class Node {
         this.children = children;
     }
 
+    /**
+     * Returns a function for converting the value generated for this node
+     * to another type, for example {@code Map} to {@code ImmutableMap}.
+     * This is only applicable to collection, map, and container nodes.
+     *
+     * @return a conversion function, or {@code null} if none
+     */
+    @Nullable
+    public Function<Object, Object> getContainerSubstitution() {
+        return containerSubstitution;
+    }
+
+    void setContainerSubstitution(@Nullable final Function<Object, Object> containerSubstitution) {
+        this.containerSubstitution = containerSubstitution;
+    }
+
     /**
      * This method is used for detecting cycles. If this node
      * is equal to any of its ancestors, then there is a cycle.
@@ -0,0 +1,250 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.nodes;
+
+import org.instancio.internal.util.TypeUtils;
+import org.instancio.internal.util.Verify;
+
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * A bounded cache of node hierarchies with least-recently-used eviction.
+ * <p>
+ * Creating a node hierarchy requires reflecting over the entire type graph
+ * of the root type. Since a hierarchy depends only on the root type and
+ * subtype mappings, it can be shared by all models with the same root type,
+ * as long as these models do not specify subtypes using selectors.
+ * <p>
+ * Hierarchies are stored in a {@link ClassValue} of the root type's raw class,
+ * with up to {@code maxSize} hierarchies per class (for example, for different
+ * type arguments or subtype mappings). Therefore, the cache does not prevent
+ * classes and their class loaders from being unloaded. A hierarchy is only
+ * cached if all classes it is keyed by are visible from the root class's
+ * class loader. For instance, a {@code List<Foo>} hierarchy is not cached
+ * if {@code Foo} was loaded by a child of the loader that loaded {@code List},
+ * since it would be retained for as long as {@code List} is.
+ * <p>
+ * Nodes are not modified once the hierarchy is created, therefore
+ * cached hierarchies can be safely shared between threads.
+ */
+public final class NodeCache {
+
+    private final int maxSize;
+    private final ClassValue<Map<Key, Node>> cache = new ClassValue<Map<Key, Node>>() {
+        @Override
+        protected Map<Key, Node> computeValue(final Class<?> type) {
+            return new LinkedHashMap<Key, Node>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<Key, Node> eldest) {
+                    return size() > maxSize;
+                }
+            };
+        }
+    };
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    public NodeCache(final int maxSize) {
+        Verify.isTrue(maxSize >= 0, "Cache size must not be negative: %s", maxSize);
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns a cached root node for the given key, or creates
+     * and caches a new root node if one is not present.
+     *
+     * @param rootType          of the node hierarchy
+     * @param rootTypeMap       type arguments of the root type
+     * @param subtypeMap        subtype mappings used when creating the hierarchy
+     * @param rootNodeSupplier  for creating the root node if not cached
+     * @return the root node
+     */
+    public Node getRootNode(
+            final Type rootType,
+            final Map<TypeVariable<?>, Class<?>> rootTypeMap,
+            final Map<Class<?>, Class<?>> subtypeMap,
+            final Supplier<Node> rootNodeSupplier) {
+
+        if (maxSize == 0) {
+            return rootNodeSupplier.get();
+        }
+
+        final Class<?> rootClass = TypeUtils.getRawType(rootType);
+        if (!isVisibleFrom(rootClass, rootType, rootTypeMap, subtypeMap)) {
+            missCount.incrementAndGet();
+            return rootNodeSupplier.get();
+        }
+
+        final Map<Key, Node> classCache = cache.get(rootClass);
+        final Key key = new Key(rootType, rootTypeMap, subtypeMap);
+        final Node cached = get(classCache, key);
+
+        if (cached != null) {
+            hitCount.incrementAndGet();
+            return cached;
+        }
+
+        missCount.incrementAndGet();
+
+        // The node is created outside the lock since this can be expensive.
+        // If another thread creates the same hierarchy in the meantime,
+        // the previously cached node is retained.
+        final Node rootNode = rootNodeSupplier.get();
+        synchronized (classCache) {
+            final Node existing = classCache.putIfAbsent(key, rootNode);
+            return existing == null ? rootNode : existing;
+        }
+    }
+
+    private static Node get(final Map<Key, Node> classCache, final Key key) {
+        synchronized (classCache) {
+            return classCache.get(key);
+        }
+    }
+
+    /**
+     * Returns the number of hierarchies cached for the given root class.
+     *
+     * @param rootClass raw class of the root type
+     * @return number of cached hierarchies
+     */
+    public int size(final Class<?> rootClass) {
+        final Map<Key, Node> classCache = cache.get(rootClass);
+        synchronized (classCache) {
+            return classCache.size();
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("NodeCache[maxSize=%s, hits=%s, misses=%s]",
+                maxSize, getHitCount(), getMissCount());
+    }
+
+    @SuppressWarnings("PMD.UseProperClassLoader")
+    private static boolean isVisibleFrom(
+            final Class<?> rootClass,
+            final Type rootType,
+            final Map<TypeVariable<?>, Class<?>> rootTypeMap,
+            final Map<Class<?>, Class<?>> subtypeMap) {
+
+        final ClassLoader loader = rootClass.getClassLoader();
+        if (!isVisibleFrom(loader, rootType) || !allVisibleFrom(loader, rootTypeMap.values().toArray(new Type[0]))) {
+            return false;
+        }
+        for (Map.Entry<Class<?>, Class<?>> entry : subtypeMap.entrySet()) {
+            if (!isVisibleFrom(loader, entry.getKey()) || !isVisibleFrom(loader, entry.getValue())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @SuppressWarnings("PMD.UseProperClassLoader")
+    private static boolean isVisibleFrom(final ClassLoader loader, final Type type) {
+        if (type instanceof Class) {
+            return isLoaderOrAncestor(((Class<?>) type).getClassLoader(), loader);
+        } else if (type instanceof ParameterizedType) {
+            final ParameterizedType pType = (ParameterizedType) type;
+            return isVisibleFrom(loader, pType.getRawType())
+                    && allVisibleFrom(loader, pType.getActualTypeArguments());
+        } else if (type instanceof GenericArrayType) {
+            return isVisibleFrom(loader, ((GenericArrayType) type).getGenericComponentType());
+        } else if (type instanceof WildcardType) {
+            final WildcardType wType = (WildcardType) type;
+            return allVisibleFrom(loader, wType.getUpperBounds())
+                    && allVisibleFrom(loader, wType.getLowerBounds());
+        }
+        // type variables are declared by classes already reachable from the root type
+        return true;
+    }
+
+    private static boolean allVisibleFrom(final ClassLoader loader, final Type... types) {
+        for (Type type : types) {
+            if (!isVisibleFrom(loader, type)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether {@code candidate} is the given loader or one of its
+     * ancestors, where {@code null} represents the bootstrap loader.
+     */
+    @SuppressWarnings("PMD.CompareObjectsWithEquals")
+    private static boolean isLoaderOrAncestor(final ClassLoader candidate, final ClassLoader loader) {
+        if (candidate == null) {
+            return true;
+        }
+        for (ClassLoader current = loader; current != null; current = current.getParent()) {
+            if (current == candidate) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static final class Key {
+        private final Type rootType;
+        private final Map<TypeVariable<?>, Class<?>> rootTypeMap;
+        private final Map<Class<?>, Class<?>> subtypeMap;
+        private final int hashCode;
+
+        private Key(final Type rootType,
+                    final Map<TypeVariable<?>, Class<?>> rootTypeMap,
+                    final Map<Class<?>, Class<?>> subtypeMap) {
+            this.rootType = rootType;
+            this.rootTypeMap = Collections.unmodifiableMap(new HashMap<>(rootTypeMap));
+            this.subtypeMap = Collections.unmodifiableMap(new HashMap<>(subtypeMap));
+            this.hashCode = Objects.hash(rootType, this.rootTypeMap, this.subtypeMap);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            final Key other = (Key) o;
+            return rootType.equals(other.rootType)
+                    && rootTypeMap.equals(other.rootTypeMap)
+                    && subtypeMap.equals(other.subtypeMap);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -26,13 +26,17 @@ import org.instancio.internal.nodes.resolvers.NodeKindRecordResolver;
 import org.instancio.internal.spi.InternalContainerFactoryProvider;
 import org.instancio.settings.Settings;
 import org.instancio.spi.TypeResolver;
+import org.jetbrains.annotations.Nullable;
 
+import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 
 public final class NodeContext {
     private final Map<TypeVariable<?>, Class<?>> rootTypeMap;
@@ -40,18 +44,22 @@ public final class NodeContext {
     private final Map<Class<?>, Class<?>> subtypeMappingFromSettings;
     private final TypeResolverFacade typeResolverFacade;
     private final List<NodeKindResolver> nodeKindResolvers;
+    private final List<InternalContainerFactoryProvider> containerFactories;
+    private final Map<List<Object>, TypeMap> typeMaps = new HashMap<>();
+    private final Map<List<Object>, Optional<Function<Object, Object>>> containerSubstitutions = new HashMap<>();
 
     private NodeContext(final Builder builder) {
         rootTypeMap = builder.rootTypeMap;
         subtypeSelectorMap = builder.subtypeSelectorMap;
         subtypeMappingFromSettings = builder.subtypeMappingFromSettings;
         typeResolverFacade = new TypeResolverFacade();
+        containerFactories = Collections.unmodifiableList(builder.containerFactories);
         nodeKindResolvers = Arrays.asList(
                 new NodeKindCollectionResolver(),
                 new NodeKindMapResolver(),
                 new NodeKindArrayResolver(),
                 new NodeKindRecordResolver(),
-                new NodeKindContainerResolver(Collections.unmodifiableList(builder.containerFactories)));
+                new NodeKindContainerResolver(containerFactories));
     }
 
     public List<NodeKindResolver> getNodeKindResolvers() {
@@ -62,6 +70,51 @@ public final class NodeContext {
         return rootTypeMap;
     }
 
+    /**
+     * Returns a type map for the given type. Type maps depend only on the type,
+     * the root type map, and the additional subtype mappings, therefore nodes
+     * representing the same type share a single (immutable) instance.
+     *
+     * @param type              the type to create a type map for
+     * @param additionalTypeMap type mappings resulting from subtype mapping
+     * @return a shared type map instance
+     */
+    TypeMap getTypeMap(final Type type, final Map<Type, Type> additionalTypeMap) {
+        return typeMaps.computeIfAbsent(Arrays.asList(type, additionalTypeMap),
+                k -> new TypeMap(type, rootTypeMap, additionalTypeMap));
+    }
+
+    /**
+     * Returns a function for converting a container of the given type
+     * to another type, for example {@code Map} to {@code ImmutableMap},
+     * or {@code null} if none of the container factories provide one.
+     * Functions are resolved once per combination of target class
+     * and type arguments.
+     *
+     * @param targetClass   the container's target class
+     * @param typeArguments target classes of the container's elements
+     * @return a conversion function, or {@code null} if there isn't one
+     */
+    @Nullable
+    Function<Object, Object> getContainerSubstitution(final Class<?> targetClass, final List<Class<?>> typeArguments) {
+        return containerSubstitutions.computeIfAbsent(Arrays.asList(targetClass, typeArguments),
+                k -> resolveContainerSubstitution(targetClass, typeArguments)).orElse(null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Optional<Function<Object, Object>> resolveContainerSubstitution(
+            final Class<?> targetClass, final List<Class<?>> typeArguments) {
+
+        for (InternalContainerFactoryProvider factory : containerFactories) {
+            final Function<Object, Object> fn = factory.createFromOtherFunction(
+                    (Class<Object>) targetClass, typeArguments);
+            if (fn != null) {
+                return Optional.of(fn);
+            }
+        }
+        return Optional.empty();
+    }
+
     /**
      * Returns subtype for the given node, if one is available.
      *
@@ -17,10 +17,8 @@ package org.instancio.internal.nodes;
 
 import org.instancio.exception.InstancioException;
 import org.instancio.internal.ApiValidator;
-import org.instancio.internal.reflection.DeclaredAndInheritedFieldsCollector;
-import org.instancio.internal.reflection.FieldCollector;
+import org.instancio.internal.reflection.FieldCache;
 import org.instancio.internal.util.Format;
-import org.instancio.internal.util.ObjectUtils;
 import org.instancio.internal.util.TypeUtils;
 import org.instancio.internal.util.Verify;
 import org.jetbrains.annotations.Nullable;
@@ -41,20 +39,31 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 import static java.util.stream.Collectors.toList;
 
 /**
  * Class for creating a node hierarchy for a given {@link Type}.
+ * <p>
+ * Each occurrence of a type in the hierarchy is represented by its own
+ * node (and subtree), since a node's parent and field determine which
+ * selectors match it, and generated values are tracked per node.
+ * Only data that does not depend on a node's position is shared
+ * between occurrences of a type: type maps
+ * (see {@code NodeContext.getTypeMap()}) and node kinds.
  */
 @SuppressWarnings("PMD.GodClass")
 public final class NodeFactory {
     private static final Logger LOG = LoggerFactory.getLogger(NodeFactory.class);
 
-    private final FieldCollector fieldCollector = new DeclaredAndInheritedFieldsCollector();
     private final NodeContext nodeContext;
 
+    // Node kinds depend only on the class, so they are resolved
+    // once per class rather than once per occurrence of the class in the hierarchy
+    private final Map<Class<?>, NodeKind> nodeKindsByClass = new HashMap<>();
+
     public NodeFactory(final NodeContext nodeContext) {
         this.nodeContext = nodeContext;
     }
@@ -183,6 +192,7 @@ public final class NodeFactory {
 
             final List<Node> children = createContainerNodeChildren(Arrays.stream(types), node);
             node.setChildren(children);
+            node.setContainerSubstitution(resolveContainerSubstitution(node));
         } else {
             final List<Node> children = createChildrenFromFields(targetClass, node);
             node.setChildren(children);
@@ -191,6 +201,10 @@ public final class NodeFactory {
     }
 
     private NodeKind getNodeKind(final Class<?> rawType) {
+        return nodeKindsByClass.computeIfAbsent(rawType, this::resolveNodeKind);
+    }
+
+    private NodeKind resolveNodeKind(final Class<?> rawType) {
         return nodeContext.getNodeKindResolvers().stream()
                 .map(resolver -> resolver.resolve(rawType))
                 .filter(Optional::isPresent)
@@ -205,11 +219,12 @@ public final class NodeFactory {
             return null;
         }
 
-        final List<Node> children = isContainer(node)
-                ? createContainerNodeChildren(Arrays.stream(type.getActualTypeArguments()), node)
-                : createChildrenFromFields(node.getTargetClass(), node);
-
-        node.setChildren(children);
+        if (isContainer(node)) {
+            node.setChildren(createContainerNodeChildren(Arrays.stream(type.getActualTypeArguments()), node));
+            node.setContainerSubstitution(resolveContainerSubstitution(node));
+        } else {
+            node.setChildren(createChildrenFromFields(node.getTargetClass(), node));
+        }
         return node;
     }
 
@@ -286,13 +301,25 @@ public final class NodeFactory {
     }
 
     private List<Node> createChildrenFromFields(final Class<?> targetClass, final Node parent) {
-        return fieldCollector.getFields(targetClass)
+        return FieldCache.getFields(targetClass)
                 .stream()
-                .map(f -> createNode(ObjectUtils.defaultIfNull(f.getGenericType(), f.getType()), f, parent))
+                .map(accessor -> createNode(accessor.getGenericType(), accessor.getField(), parent))
                 .filter(Objects::nonNull)
                 .collect(toList());
     }
 
+    @Nullable
+    private Function<Object, Object> resolveContainerSubstitution(final Node node) {
+        if (node.is(NodeKind.ARRAY) || node.getChildren().isEmpty()) {
+            return null;
+        }
+        final List<Class<?>> typeArguments = node.getChildren().stream()
+                .map(Node::getTargetClass)
+                .collect(toList());
+
+        return nodeContext.getContainerSubstitution(node.getTargetClass(), typeArguments);
+    }
+
     private static boolean isContainer(final Node node) {
         return node.is(NodeKind.COLLECTION)
                 || node.is(NodeKind.MAP)
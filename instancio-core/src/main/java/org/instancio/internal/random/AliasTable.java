@@ -0,0 +1,135 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.random;
+
+import org.instancio.Random;
+import org.instancio.internal.util.Verify;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Weighted choices that can be sampled in constant time using
+ * Vose's alias method.
+ * <p>
+ * The table is built once in linear time. Each sample then takes
+ * two random draws: one for selecting a column and another for
+ * choosing between the column's value and its alias.
+ *
+ * @param <T> element type
+ */
+public final class AliasTable<T> {
+
+    private final List<T> values;
+    private final double[] probabilities;
+    private final int[] aliases;
+
+    private AliasTable(final double[] probabilities, final int[] aliases, final List<T> values) {
+        this.values = values;
+        this.probabilities = probabilities;
+        this.aliases = aliases;
+    }
+
+    /**
+     * Creates an alias table for the given values and weights.
+     * Weights must be non-negative and finite, and at least one
+     * weight must be positive. Values with a zero weight
+     * are never selected.
+     *
+     * @param values  to choose from
+     * @param weights of the values, one weight per value
+     * @param <T>     element type
+     * @return an alias table
+     */
+    public static <T> AliasTable<T> of(final List<T> values, final double... weights) {
+        Verify.notEmpty(values, "Values must have at least one element");
+        Verify.isTrue(values.size() == weights.length,
+                "Number of values and weights must be equal: %s, %s", values.size(), weights.length);
+
+        final int n = weights.length;
+        double total = 0;
+        for (double weight : weights) {
+            Verify.isTrue(weight >= 0 && !Double.isInfinite(weight), "Invalid weight: %s", weight);
+            total += weight;
+        }
+        Verify.isTrue(total > 0 && !Double.isInfinite(total), "Sum of weights must be positive and finite: %s", total);
+
+        final double[] scaled = new double[n];
+        final double[] probabilities = new double[n];
+        final int[] aliases = new int[n];
+
+        // Worklists of columns below and at or above the average, used as stacks
+        final int[] small = new int[n];
+        final int[] large = new int[n];
+        int smallSize = 0;
+        int largeSize = 0;
+
+        for (int i = 0; i < n; i++) {
+            scaled[i] = weights[i] * n / total;
+            if (scaled[i] < 1) {
+                small[smallSize++] = i;
+            } else {
+                large[largeSize++] = i;
+            }
+        }
+
+        while (smallSize > 0 && largeSize > 0) {
+            final int less = small[--smallSize];
+            final int more = large[--largeSize];
+
+            probabilities[less] = scaled[less];
+            aliases[less] = more;
+
+            scaled[more] = (scaled[more] + scaled[less]) - 1;
+            if (scaled[more] < 1) {
+                small[smallSize++] = more;
+            } else {
+                large[largeSize++] = more;
+            }
+        }
+
+        // Remaining columns are full, except for floating point rounding errors
+        while (largeSize > 0) {
+            probabilities[large[--largeSize]] = 1;
+        }
+        while (smallSize > 0) {
+            probabilities[small[--smallSize]] = 1;
+        }
+
+        return new AliasTable<>(probabilities, aliases, new ArrayList<>(values));
+    }
+
+    /**
+     * Returns a random element with probability proportional to its weight.
+     *
+     * @param random for selecting the element
+     * @return a random element
+     */
+    public T sample(final Random random) {
+        final int column = random.intRange(0, values.size() - 1);
+        final int index = random.doubleRange(0, 1) < probabilities[column] ? column : aliases[column];
+        return values.get(index);
+    }
+
+    /**
+     * Returns the number of values, including values with a zero weight.
+     *
+     * @return number of values
+     */
+    public int size() {
+        return values.size();
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.random;
+
+import org.instancio.spi.RandomEngine;
+
+/**
+ * Character classes used for generating strings in bulk.
+ * <p>
+ * Each class is a lookup table with a power-of-two size, so that a character
+ * can be selected using a few bits of a random {@code long}. Several characters
+ * are therefore generated from each value returned by the engine. Table entries
+ * beyond the characters of the class are empty, and chunks of bits that select
+ * them are skipped, so that every character of a class is selected with the
+ * same probability as when generating strings one character at a time.
+ */
+enum CharacterClass {
+
+    LOWER_CASE(letters('a')),
+    UPPER_CASE(letters('A')),
+    MIXED_CASE(letters('a') + letters('A')),
+    // One in three characters is a digit, as in DefaultRandom.alphanumericCharacter()
+    // (13 * 10 digits and 5 * 52 letters in a table of 390 characters)
+    ALPHANUMERIC(repeat("0123456789", 13) + repeat(letters('a') + letters('A'), 5)),
+    DIGITS("0123456789");
+
+    private static final char EMPTY = '\u0000';
+
+    private final char[] table;
+    private final int bits;
+    private final int mask;
+    private final int charsPerDraw;
+
+    CharacterClass(final String chars) {
+        this.bits = 32 - Integer.numberOfLeadingZeros(chars.length() - 1);
+        this.mask = (1 << bits) - 1;
+        this.charsPerDraw = Long.SIZE / bits;
+        this.table = new char[1 << bits];
+        chars.getChars(0, chars.length(), table, 0);
+    }
+
+    /**
+     * Generates a string of the given length comprised of this class's characters.
+     *
+     * @param engine the source of random values
+     * @param length of the string
+     * @return a random string
+     */
+    String generate(final RandomEngine engine, final int length) {
+        final char[] result = new char[length];
+        int i = 0;
+        while (i < length) {
+            long value = engine.nextLong();
+            for (int j = 0; j < charsPerDraw && i < length; j++) {
+                final char c = table[(int) value & mask];
+                if (c != EMPTY) {
+                    result[i++] = c;
+                }
+                value >>>= bits;
+            }
+        }
+        return new String(result);
+    }
+
+    private static String letters(final char first) {
+        final StringBuilder sb = new StringBuilder(26);
+        for (char c = first; c < first + 26; c++) {
+            sb.append(c);
+        }
+        return sb.toString();
+    }
+
+    private static String repeat(final String s, final int times) {
+        final StringBuilder sb = new StringBuilder(s.length() * times);
+        for (int i = 0; i < times; i++) {
+            sb.append(s);
+        }
+        return sb.toString();
+    }
+}
@@ -16,14 +16,21 @@
 package org.instancio.internal.random;
 
 import org.instancio.Random;
+import org.instancio.RandomEngineType;
 import org.instancio.internal.util.Verify;
+import org.instancio.spi.RandomEngine;
 
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
 
 public class DefaultRandom implements Random {
 
-    private final long seed;
-    private final java.util.Random random;
+    private long seed;
+    private final RandomEngineType engineType;
+    private final boolean bulkStrings;
+    private RandomEngine engine;
 
     /**
      * Create an instance with a random seed value.
@@ -33,13 +40,28 @@ public class DefaultRandom implements Random {
     }
 
     /**
-     * Create an instance with the given seed value.
+     * Create an instance with the given seed value
+     * using the default engine.
      *
      * @param seed for the random generator
      */
     public DefaultRandom(final long seed) {
+        this(seed, RandomEngineType.JDK);
+    }
+
+    /**
+     * Create an instance with the given seed value and engine.
+     *
+     * @param seed       for the random generator
+     * @param engineType the engine to use
+     */
+    public DefaultRandom(final long seed, final RandomEngineType engineType) {
         this.seed = seed;
-        this.random = new java.util.Random(seed); // NOSONAR
+        this.engineType = engineType;
+        // the JDK engine generates strings one character at a time,
+        // so that existing seeds continue producing the same values
+        this.bulkStrings = engineType != RandomEngineType.JDK;
+        this.engine = RandomEngines.create(engineType, seed);
     }
 
     @Override
@@ -47,6 +69,22 @@ public class DefaultRandom implements Random {
         return seed;
     }
 
+    /**
+     * Resets this instance to the given seed, so that subsequent
+     * values are the same as those of a new instance created with
+     * this seed.
+     *
+     * @param seed for the random generator
+     */
+    public void setSeed(final long seed) {
+        this.seed = seed;
+        if (engine instanceof SeedableRandomEngine) {
+            ((SeedableRandomEngine) engine).setSeed(seed);
+        } else {
+            this.engine = RandomEngines.create(engineType, seed);
+        }
+    }
+
     @Override
     public boolean trueOrFalse() {
         return intRange(0, 1) == 1;
@@ -74,7 +112,17 @@ public class DefaultRandom implements Random {
 
     @Override
     public long longRange(final long min, final long max) {
-        return RandomDataGenerator.nextLong(random, min, max);
+        return RandomDataGenerator.nextLong(engine, min, max);
+    }
+
+    @Override
+    public void fillIntRange(final int[] array, final int min, final int max) {
+        RandomDataGenerator.nextInts(engine, array, min, max);
+    }
+
+    @Override
+    public void fillLongRange(final long[] array, final long min, final long max) {
+        RandomDataGenerator.nextLongs(engine, array, min, max);
     }
 
     @Override
@@ -84,7 +132,7 @@ public class DefaultRandom implements Random {
 
     @Override
     public double doubleRange(final double min, final double max) {
-        return RandomDataGenerator.nextDouble(random, min, max);
+        return RandomDataGenerator.nextDouble(engine, min, max);
     }
 
     @Override
@@ -113,6 +161,9 @@ public class DefaultRandom implements Random {
 
     @Override
     public String lowerCaseAlphabetic(final int length) {
+        if (bulkStrings) {
+            return CharacterClass.LOWER_CASE.generate(engine, length);
+        }
         char[] s = new char[length];
         for (int i = 0; i < length; i++) {
             s[i] = lowerCaseCharacter();
@@ -123,6 +174,9 @@ public class DefaultRandom implements Random {
 
     @Override
     public String upperCaseAlphabetic(final int length) {
+        if (bulkStrings) {
+            return CharacterClass.UPPER_CASE.generate(engine, length);
+        }
         char[] s = new char[length];
         for (int i = 0; i < length; i++) {
             s[i] = upperCaseCharacter();
@@ -133,6 +187,9 @@ public class DefaultRandom implements Random {
 
     @Override
     public String digits(final int length) {
+        if (bulkStrings) {
+            return CharacterClass.DIGITS.generate(engine, length);
+        }
         char[] s = new char[length];
         for (int i = 0; i < length; i++) {
             s[i] = digitChar();
@@ -143,6 +200,9 @@ public class DefaultRandom implements Random {
 
     @Override
     public String alphanumeric(final int length) {
+        if (bulkStrings) {
+            return CharacterClass.ALPHANUMERIC.generate(engine, length);
+        }
         char[] s = new char[length];
         for (int i = 0; i < length; i++) {
             s[i] = alphanumericCharacter();
@@ -153,6 +213,9 @@ public class DefaultRandom implements Random {
 
     @Override
     public String mixedCaseAlphabetic(final int length) {
+        if (bulkStrings) {
+            return CharacterClass.MIXED_CASE.generate(engine, length);
+        }
         char[] s = new char[length];
         for (int i = 0; i < length; i++) {
             s[i] = character();
@@ -170,9 +233,14 @@ public class DefaultRandom implements Random {
     @Override
     public <T> T oneOf(final Collection<T> collection) {
         Verify.notEmpty(collection, "Collection must have at least one element");
-        return collection.stream()
-                .skip(intRange(0, collection.size() - 1))
-                .findFirst()
-                .orElse(null);
+        final int index = intRange(0, collection.size() - 1);
+        if (collection instanceof List && collection instanceof RandomAccess) {
+            return ((List<T>) collection).get(index);
+        }
+        final Iterator<T> iterator = collection.iterator();
+        for (int i = 0; i < index; i++) {
+            iterator.next();
+        }
+        return iterator.next();
     }
 }
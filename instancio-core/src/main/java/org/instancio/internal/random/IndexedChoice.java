@@ -0,0 +1,83 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.random;
+
+import org.instancio.Random;
+import org.instancio.internal.util.Verify;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * A fixed set of choices that can be sampled in constant time.
+ * <p>
+ * Intended to be created once, for example when a generator is configured,
+ * and then sampled for each generated value. The given collection or array
+ * is copied, so subsequent changes to it do not affect the choices.
+ * <p>
+ * Sampling draws the same random index as {@link Random#oneOf(Collection)},
+ * therefore both produce the same results for a given seed.
+ *
+ * @param <T> element type
+ */
+public final class IndexedChoice<T> {
+
+    private final Object[] values;
+
+    private IndexedChoice(final Object... values) {
+        this.values = values;
+    }
+
+    /**
+     * Creates choices from the given collection, preserving its iteration order.
+     *
+     * @param collection of choices, must not be empty
+     * @param <T>        element type
+     * @return indexed choices
+     */
+    public static <T> IndexedChoice<T> of(final Collection<T> collection) {
+        Verify.notEmpty(collection, "Collection must have at least one element");
+        return new IndexedChoice<>(collection.toArray());
+    }
+
+    /**
+     * Creates choices from the given array.
+     *
+     * @param array of choices, must not be empty
+     * @param <T>   element type
+     * @return indexed choices
+     */
+    @SafeVarargs
+    public static <T> IndexedChoice<T> of(final T... array) {
+        Verify.notEmpty(array, "Array must have at least one element");
+        return new IndexedChoice<>(Arrays.copyOf(array, array.length, Object[].class));
+    }
+
+    /**
+     * Returns a random element.
+     *
+     * @param random for selecting the element
+     * @return a random element
+     */
+    @SuppressWarnings("unchecked")
+    public T sample(final Random random) {
+        return (T) values[random.intRange(0, values.length - 1)];
+    }
+
+    public int size() {
+        return values.length;
+    }
+}
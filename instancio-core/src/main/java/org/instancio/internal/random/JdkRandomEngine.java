@@ -0,0 +1,67 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.random;
+
+import java.util.Random;
+
+/**
+ * Engine backed by {@link java.util.Random}. The bounded methods
+ * are implemented so as to produce the same values for a given seed
+ * as previous versions, which used {@link java.util.Random} directly.
+ */
+final class JdkRandomEngine implements SeedableRandomEngine {
+
+    private final Random random;
+
+    JdkRandomEngine(final long seed) {
+        this.random = new Random(seed); // NOSONAR
+    }
+
+    @Override
+    public void setSeed(final long seed) {
+        random.setSeed(seed);
+    }
+
+    @Override
+    public long nextLong() {
+        return random.nextLong();
+    }
+
+    @Override
+    public int nextInt(final int bound) {
+        return random.nextInt(bound);
+    }
+
+    @Override
+    public long nextLong(final long bound) {
+        long bits;
+        long val;
+        do {
+            // Same bits as filling a byte[8] via nextBytes() and reading
+            // it as a big-endian long, without allocating the array
+            final int high = Integer.reverseBytes(random.nextInt());
+            final int low = Integer.reverseBytes(random.nextInt());
+            bits = ((long) high << 32 | low & 0xffffffffL) & 0x7fffffffffffffffL;
+            val = bits % bound;
+        } while (bits - val + (bound - 1) < 0);
+        return val;
+    }
+
+    @Override
+    public double nextDouble() {
+        return random.nextDouble();
+    }
+}
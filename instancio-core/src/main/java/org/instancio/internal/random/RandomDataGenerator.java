@@ -17,21 +17,51 @@
 package org.instancio.internal.random;
 
 import org.instancio.internal.util.Verify;
-
-import java.util.Random;
+import org.instancio.spi.RandomEngine;
 
 /**
  * Copied from the <a href="https://commons.apache.org/proper/commons-math">Apache Commons Math</a> library.
  * <p>
  * This is a modified version of {@code org.apache.commons.math3.random.RandomDataGenerator},
- * with most of the code from the original class omitted.
+ * with most of the code from the original class omitted. Random values
+ * are drawn from a {@link RandomEngine} instead of {@link java.util.Random}.
+ * <p>
+ * Bounded values are generated using {@link RandomEngine#nextInt(int)}
+ * and {@link RandomEngine#nextLong(long)}.
  */
 @SuppressWarnings("PMD")
 public final class RandomDataGenerator {
 
-    public static long nextLong(final Random random, final long lower, final long upper) {
+    public static long nextLong(final RandomEngine random, final long lower, final long upper) {
+        Verify.isTrue(lower <= upper, "Lower must be less than upper: %s, %s", lower, upper);
+        return nextLongUnchecked(random, lower, upper);
+    }
+
+    /**
+     * Fills the given array with values between the lower and upper bounds, inclusive.
+     * Produces the same values as calling {@link #nextLong(RandomEngine, long, long)}
+     * for each element, but validates the bounds only once.
+     */
+    public static void nextLongs(final RandomEngine random, final long[] array, final long lower, final long upper) {
         Verify.isTrue(lower <= upper, "Lower must be less than upper: %s, %s", lower, upper);
+        for (int i = 0; i < array.length; i++) {
+            array[i] = nextLongUnchecked(random, lower, upper);
+        }
+    }
 
+    /**
+     * Fills the given array with values between the lower and upper bounds, inclusive.
+     * Produces the same values as casting the result of
+     * {@link #nextLong(RandomEngine, long, long)} for each element.
+     */
+    public static void nextInts(final RandomEngine random, final int[] array, final int lower, final int upper) {
+        Verify.isTrue(lower <= upper, "Lower must be less than upper: %s, %s", lower, upper);
+        for (int i = 0; i < array.length; i++) {
+            array[i] = (int) nextLongUnchecked(random, lower, upper);
+        }
+    }
+
+    private static long nextLongUnchecked(final RandomEngine random, final long lower, final long upper) {
         final long max = (upper - lower) + 1;
 
         if (max <= 0) {
@@ -48,30 +78,11 @@ public final class RandomDataGenerator {
             return lower + random.nextInt((int) max);
         } else {
             // we can shift the range and generate directly a positive long
-            return lower + nextLong(random, max);
-        }
-    }
-
-    private static long nextLong(final Random random, final long n) throws IllegalArgumentException {
-        if (n > 0) {
-            final byte[] byteArray = new byte[8];
-            long bits;
-            long val;
-            do {
-                random.nextBytes(byteArray);
-                bits = 0;
-                for (final byte b : byteArray) {
-                    bits = (bits << 8) | ((b) & 0xffL);
-                }
-                bits &= 0x7fffffffffffffffL;
-                val = bits % n;
-            } while (bits - val + (n - 1) < 0);
-            return val;
+            return lower + random.nextLong(max);
         }
-        throw new IllegalStateException("Not Strictly positive: " + n);
     }
 
-    static double nextDouble(final Random random, double lower, double upper) {
+    static double nextDouble(final RandomEngine random, double lower, double upper) {
         Verify.isTrue(lower <= upper, "Lower must be less than or equal to upper: %s, %s", lower, upper);
         Verify.isFalse(Double.isInfinite(lower), "Lower bound must not be infinite");
         Verify.isFalse(Double.isInfinite(upper), "Upper bound must not be infinite");
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.random;
+
+import org.instancio.RandomEngineType;
+import org.instancio.exception.InstancioException;
+import org.instancio.internal.util.ServiceLoaders;
+import org.instancio.spi.RandomEngine;
+import org.instancio.spi.RandomEngineProvider;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Creates random engines of a given type.
+ */
+final class RandomEngines {
+
+    private static final List<RandomEngineProvider> PROVIDERS = ServiceLoaders.loadAll(RandomEngineProvider.class);
+
+    private RandomEngines() {
+        // non-instantiable
+    }
+
+    static RandomEngine create(final RandomEngineType type, final long seed) {
+        switch (type) {
+            case SPLITTABLE:
+                return new SplittableRandomEngine(seed);
+            case XOROSHIRO128PP:
+                return new Xoroshiro128PlusPlusEngine(seed);
+            case L64X128MIX:
+                return RandomGeneratorEngines.create("L64X128MixRandom", seed);
+            case CUSTOM:
+                return createCustom(PROVIDERS, seed);
+            default:
+                return new JdkRandomEngine(seed);
+        }
+    }
+
+    static RandomEngine createCustom(final List<RandomEngineProvider> providers, final long seed) {
+        if (providers.isEmpty()) {
+            throw new InstancioException(String.format(
+                    "Random engine '%s' requires a %s to be registered via the Service Provider Interface",
+                    RandomEngineType.CUSTOM, RandomEngineProvider.class.getName()));
+        }
+        if (providers.size() > 1) {
+            // the service loader's order is not defined, so the choice would be arbitrary
+            throw new InstancioException(String.format(
+                    "Random engine '%s' requires exactly one %s, but found %s: %s",
+                    RandomEngineType.CUSTOM, RandomEngineProvider.class.getName(), providers.size(),
+                    providers.stream().map(p -> p.getClass().getName()).collect(Collectors.joining(", "))));
+        }
+        return providers.get(0).createRandomEngine(seed);
+    }
+}
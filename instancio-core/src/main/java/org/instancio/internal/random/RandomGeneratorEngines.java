@@ -0,0 +1,35 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.random;
+
+import org.instancio.exception.InstancioException;
+import org.instancio.spi.RandomEngine;
+
+/**
+ * Creates engines backed by {@code java.util.random.RandomGenerator}.
+ * This class has different implementations depending on Java version.
+ */
+final class RandomGeneratorEngines {
+
+    private RandomGeneratorEngines() {
+        // non-instantiable
+    }
+
+    static RandomEngine create(final String algorithm, final long seed) {
+        throw new InstancioException(String.format(
+                "Random engine '%s' requires Java 17 or higher", algorithm));
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.random;
+
+import org.instancio.spi.RandomEngine;
+
+/**
+ * An engine that can be reset to a new seed in place, so that
+ * reseeding it per stream element does not allocate a new engine.
+ */
+interface SeedableRandomEngine extends RandomEngine {
+
+    /**
+     * Resets this engine so that subsequent values are the same
+     * as those of a new engine created with the given seed.
+     *
+     * @param seed the seed value
+     */
+    void setSeed(long seed);
+}
@@ -36,6 +36,12 @@ public final class Seeds {
 
     private static final SecureRandom SECURE_RANDOM = new SecureRandom();
 
+    /**
+     * Odd constant derived from the golden ratio, used as the increment
+     * for deriving a sequence of seeds (see SplitMix64).
+     */
+    static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
     private Seeds() {
         // non-instantiable
     }
@@ -44,4 +50,51 @@ public final class Seeds {
         // For user convenience, generate only positive seeds.
         return new BigInteger(NUM_BITS_62, SECURE_RANDOM).longValue();
     }
+
+    /**
+     * Derives a seed for the element at the given index of a sequence
+     * of objects generated from the same base seed. The result depends
+     * only on the arguments, so any element can be generated independently
+     * of the others. The first element uses the base seed itself.
+     *
+     * @param baseSeed the seed the sequence is derived from
+     * @param index    of the element in the sequence
+     * @return a seed for the element at the given index
+     */
+    public static long seedAt(final long baseSeed, final long index) {
+        if (index == 0) {
+            return baseSeed;
+        }
+        // SplitMix64 finaliser applied to the index'th value of a Weyl sequence.
+        // The base seed is mixed first, so that the sequence does not coincide
+        // with the one used for initialising engine state from the base seed
+        // (see splitMix64()); otherwise neighbouring elements would be correlated.
+        return mix64(mix64(baseSeed) + index * GOLDEN_GAMMA);
+    }
+
+    /**
+     * Derives the n'th value of a sequence of well-distributed values
+     * from the given seed, for initialising the state of random engines.
+     *
+     * @param seed the seed
+     * @param n    index of the value, starting from 1
+     * @return the derived value
+     */
+    static long splitMix64(final long seed, final int n) {
+        return mix64(seed + n * GOLDEN_GAMMA);
+    }
+
+    /**
+     * The SplitMix64 finaliser (a variant of MurmurHash3's),
+     * as used by {@link java.util.SplittableRandom}.
+     *
+     * @param value the value to mix
+     * @return the mixed value
+     */
+    static long mix64(final long value) {
+        long z = value;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
 }
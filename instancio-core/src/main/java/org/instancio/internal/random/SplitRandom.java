@@ -0,0 +1,189 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.random;
+
+import org.instancio.Random;
+
+import java.util.Collection;
+
+/**
+ * A random instance shared by all splits of a stream.
+ * <p>
+ * Each split binds its own random instance to the thread that is generating
+ * an object, and all calls are delegated to it, so that splits traversed
+ * concurrently do not share random state. When no instance is bound,
+ * calls are delegated to the context's own random instance.
+ * <p>
+ * This class is not part of the public API.
+ */
+public final class SplitRandom implements Random {
+
+    private final ThreadLocal<Random> bound = new ThreadLocal<>();
+    private final Random unbound;
+
+    public SplitRandom(final Random unbound) {
+        this.unbound = unbound;
+    }
+
+    /**
+     * Returns the random instance used when no instance is bound.
+     *
+     * @return the context's own random instance
+     */
+    public Random getUnbound() {
+        return unbound;
+    }
+
+    /**
+     * Binds the given random instance to the current thread.
+     *
+     * @param random to delegate to
+     * @return the previously bound instance, or {@code null} if none
+     */
+    public Random bind(final Random random) {
+        final Random previous = bound.get();
+        bound.set(random);
+        return previous;
+    }
+
+    /**
+     * Restores the instance returned by {@link #bind(Random)}.
+     *
+     * @param previous the previously bound instance, may be {@code null}
+     */
+    public void restore(final Random previous) {
+        if (previous == null) {
+            bound.remove();
+        } else {
+            bound.set(previous);
+        }
+    }
+
+    private Random delegate() {
+        final Random random = bound.get();
+        return random == null ? unbound : random;
+    }
+
+    @Override
+    public long getSeed() {
+        return delegate().getSeed();
+    }
+
+    @Override
+    public boolean trueOrFalse() {
+        return delegate().trueOrFalse();
+    }
+
+    @Override
+    public boolean diceRoll(final boolean precondition) {
+        return delegate().diceRoll(precondition);
+    }
+
+    @Override
+    public byte byteRange(final byte min, final byte max) {
+        return delegate().byteRange(min, max);
+    }
+
+    @Override
+    public short shortRange(final short min, final short max) {
+        return delegate().shortRange(min, max);
+    }
+
+    @Override
+    public int intRange(final int min, final int max) {
+        return delegate().intRange(min, max);
+    }
+
+    @Override
+    public long longRange(final long min, final long max) {
+        return delegate().longRange(min, max);
+    }
+
+    @Override
+    public void fillIntRange(final int[] array, final int min, final int max) {
+        delegate().fillIntRange(array, min, max);
+    }
+
+    @Override
+    public void fillLongRange(final long[] array, final long min, final long max) {
+        delegate().fillLongRange(array, min, max);
+    }
+
+    @Override
+    public float floatRange(final float min, final float max) {
+        return delegate().floatRange(min, max);
+    }
+
+    @Override
+    public double doubleRange(final double min, final double max) {
+        return delegate().doubleRange(min, max);
+    }
+
+    @Override
+    public char character() {
+        return delegate().character();
+    }
+
+    @Override
+    public char alphanumericCharacter() {
+        return delegate().alphanumericCharacter();
+    }
+
+    @Override
+    public char lowerCaseCharacter() {
+        return delegate().lowerCaseCharacter();
+    }
+
+    @Override
+    public char upperCaseCharacter() {
+        return delegate().upperCaseCharacter();
+    }
+
+    @Override
+    public String lowerCaseAlphabetic(final int length) {
+        return delegate().lowerCaseAlphabetic(length);
+    }
+
+    @Override
+    public String upperCaseAlphabetic(final int length) {
+        return delegate().upperCaseAlphabetic(length);
+    }
+
+    @Override
+    public String mixedCaseAlphabetic(final int length) {
+        return delegate().mixedCaseAlphabetic(length);
+    }
+
+    @Override
+    public String alphanumeric(final int length) {
+        return delegate().alphanumeric(length);
+    }
+
+    @Override
+    public String digits(final int length) {
+        return delegate().digits(length);
+    }
+
+    @Override
+    public <T> T oneOf(final T[] array) {
+        return delegate().oneOf(array);
+    }
+
+    @Override
+    public <T> T oneOf(final Collection<T> collection) {
+        return delegate().oneOf(collection);
+    }
+}
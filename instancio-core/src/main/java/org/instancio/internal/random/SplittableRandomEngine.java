@@ -0,0 +1,86 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.random;
+
+/**
+ * Engine implementing the algorithm of {@link java.util.SplittableRandom}.
+ * For a given seed, it produces the same values as a {@code SplittableRandom}
+ * created with that seed. Unlike {@code SplittableRandom}, the engine can be
+ * reseeded in place.
+ */
+final class SplittableRandomEngine implements SeedableRandomEngine {
+
+    private long seed;
+
+    SplittableRandomEngine(final long seed) {
+        this.seed = seed;
+    }
+
+    @Override
+    public void setSeed(final long seed) {
+        this.seed = seed;
+    }
+
+    @Override
+    public long nextLong() {
+        return Seeds.mix64(nextSeed());
+    }
+
+    @Override
+    public int nextInt(final int bound) {
+        final int bits = mix32(nextSeed());
+        final int m = bound - 1;
+        if ((bound & m) == 0) { // power of two
+            return bits & m;
+        }
+        // reject over-represented candidates
+        int u = bits >>> 1;
+        int r = u % bound;
+        while (u + m - r < 0) {
+            u = mix32(nextSeed()) >>> 1;
+            r = u % bound;
+        }
+        return r;
+    }
+
+    @Override
+    public long nextLong(final long bound) {
+        final long bits = nextLong();
+        final long m = bound - 1;
+        if ((bound & m) == 0L) { // power of two
+            return bits & m;
+        }
+        // reject over-represented candidates
+        long u = bits >>> 1;
+        long r = u % bound;
+        while (u + m - r < 0L) {
+            u = nextLong() >>> 1;
+            r = u % bound;
+        }
+        return r;
+    }
+
+    private long nextSeed() {
+        seed += Seeds.GOLDEN_GAMMA;
+        return seed;
+    }
+
+    private static int mix32(final long value) {
+        long z = value;
+        z = (z ^ (z >>> 33)) * 0x62a9d9ed799705f5L;
+        return (int) (((z ^ (z >>> 28)) * 0xcb24d0a5c88c35b3L) >>> 32);
+    }
+}
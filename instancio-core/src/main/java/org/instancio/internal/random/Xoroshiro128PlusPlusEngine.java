@@ -0,0 +1,51 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.random;
+
+/**
+ * Engine implementing the xoroshiro128++ algorithm by
+ * David Blackman and Sebastiano Vigna. The two words of state
+ * are initialised from the seed using SplitMix64, which guarantees
+ * that the state is never all zeros.
+ *
+ * @see <a href="https://prng.di.unimi.it/xoroshiro128plusplus.c">xoroshiro128plusplus.c</a>
+ */
+final class Xoroshiro128PlusPlusEngine implements SeedableRandomEngine {
+
+    private long s0;
+    private long s1;
+
+    Xoroshiro128PlusPlusEngine(final long seed) {
+        setSeed(seed);
+    }
+
+    @Override
+    public void setSeed(final long seed) {
+        this.s0 = Seeds.splitMix64(seed, 1);
+        this.s1 = Seeds.splitMix64(seed, 2);
+    }
+
+    @Override
+    public long nextLong() {
+        final long x0 = s0;
+        long x1 = s1;
+        final long result = Long.rotateLeft(x0 + x1, 17) + x0;
+        x1 ^= x0;
+        s0 = Long.rotateLeft(x0, 49) ^ x1 ^ (x1 << 21);
+        s1 = Long.rotateLeft(x1, 28);
+        return result;
+    }
+}
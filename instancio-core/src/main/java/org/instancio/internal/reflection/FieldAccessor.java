@@ -0,0 +1,183 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.reflection;
+
+import org.instancio.exception.InstancioException;
+import org.instancio.internal.util.ReflectionUtils;
+import org.instancio.internal.util.Sonar;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * Provides metadata for a field and reads and writes its value.
+ * <p>
+ * Accessors are cached by {@link FieldCache} and shared by all nodes
+ * representing the same field. The field is made
+ * accessible once, when the accessor is created. The reader used for checking
+ * whether the field has a default value is also resolved once, based on the
+ * field's type, so that values of primitive fields are read using primitive
+ * getters without boxing.
+ * <p>
+ * If a {@link org.instancio.spi.Populator} for the field's declaring class
+ * provides a writer for the field, values are assigned using the writer
+ * instead of reflection.
+ */
+public final class FieldAccessor {
+
+    private static final Map<Class<?>, ValueReader> PRIMITIVE_NON_DEFAULT_VALUE_READERS =
+            getPrimitiveNonDefaultValueReaders();
+
+    private final Field field;
+    private final Class<?> type;
+    private final Type genericType;
+    private final int modifiers;
+    private final boolean accessible;
+    private final BiConsumer<Object, Object> writer;
+    private final ValueReader nonDefaultValueReader;
+
+    public FieldAccessor(final Field field) {
+        this.field = field;
+        this.type = field.getType();
+        this.genericType = field.getGenericType() == null ? type : field.getGenericType();
+        this.modifiers = field.getModifiers();
+        this.accessible = ReflectionUtils.trySetAccessible(field);
+        this.writer = Populators.getFieldWriter(field);
+        this.nonDefaultValueReader = resolveNonDefaultValueReader(type);
+    }
+
+    public Field getField() {
+        return field;
+    }
+
+    /**
+     * Returns the field's generic type, or its raw type
+     * if the generic type is not available.
+     *
+     * @return the field's type
+     */
+    public Type getGenericType() {
+        return genericType;
+    }
+
+    public int getModifiers() {
+        return modifiers;
+    }
+
+    /**
+     * Sets the value of the field on the given target.
+     *
+     * @param target object whose field should be set
+     * @param value  the value to set
+     * @throws IllegalAccessException if the field cannot be accessed
+     */
+    public void set(final Object target, @Nullable final Object value) throws IllegalAccessException {
+        if (writer != null) {
+            write(target, value);
+            return;
+        }
+        makeAccessible();
+        field.set(target, value);
+    }
+
+    /**
+     * Assigns the value using the populator's writer. Generated writers
+     * convert values of primitive fields the same way as reflection
+     * does, and cast values of other fields to the field's type.
+     */
+    private void write(final Object target, @Nullable final Object value) {
+        try {
+            writer.accept(target, value);
+        } catch (ClassCastException ex) {
+            // consistent with Field.set() when the value's type does not match
+            throw new IllegalArgumentException(ex);
+        }
+    }
+
+    /**
+     * Checks whether the field of the given object has a non-null value.
+     *
+     * @param target object whose field should be checked
+     * @return {@code true} if the field has a non-null value
+     */
+    public boolean hasNonNullValue(final Object target) {
+        try {
+            makeAccessible();
+            // primitive fields cannot be null, so there is no need to read the value
+            return type.isPrimitive() || field.get(target) != null;
+        } catch (IllegalAccessException ex) {
+            throw new InstancioException("Unable to get value from: " + field, ex);
+        }
+    }
+
+    /**
+     * Checks whether the field of the given object has a non-null value
+     * or, if the field is a primitive, a value other than the default.
+     *
+     * @param target object whose field should be checked
+     * @return {@code true} if the field has a non-null or non-default value
+     */
+    public boolean hasNonNullOrNonDefaultValue(final Object target) {
+        try {
+            makeAccessible();
+            return nonDefaultValueReader.hasNonDefaultValue(field, target);
+        } catch (IllegalAccessException ex) {
+            throw new InstancioException("Unable to get value from: " + field, ex);
+        }
+    }
+
+    private static ValueReader resolveNonDefaultValueReader(final Class<?> type) {
+        return type.isPrimitive()
+                ? PRIMITIVE_NON_DEFAULT_VALUE_READERS.get(type)
+                : (f, target) -> f.get(target) != null;
+    }
+
+    /**
+     * If the field could not be made accessible when the accessor
+     * was created, retries so that the error is reported on use.
+     */
+    @SuppressWarnings(Sonar.ACCESSIBILITY_UPDATE_SHOULD_BE_REMOVED)
+    private void makeAccessible() {
+        if (!accessible) {
+            field.setAccessible(true);
+        }
+    }
+
+    private static Map<Class<?>, ValueReader> getPrimitiveNonDefaultValueReaders() {
+        final Map<Class<?>, ValueReader> map = new HashMap<>();
+        map.put(int.class, (f, target) -> f.getInt(target) != 0);
+        map.put(long.class, (f, target) -> f.getLong(target) != 0L);
+        map.put(boolean.class, Field::getBoolean);
+        // compare bits to be consistent with Double.equals() and Float.equals(),
+        // e.g. -0.0 is not considered a default value
+        map.put(double.class, (f, target) -> Double.doubleToLongBits(f.getDouble(target)) != 0L);
+        map.put(float.class, (f, target) -> Float.floatToIntBits(f.getFloat(target)) != 0);
+        map.put(char.class, (f, target) -> f.getChar(target) != '\u0000');
+        map.put(byte.class, (f, target) -> f.getByte(target) != 0);
+        map.put(short.class, (f, target) -> f.getShort(target) != 0);
+        return Collections.unmodifiableMap(map);
+    }
+
+    @FunctionalInterface
+    private interface ValueReader {
+        boolean hasNonDefaultValue(Field field, Object target) throws IllegalAccessException;
+    }
+}
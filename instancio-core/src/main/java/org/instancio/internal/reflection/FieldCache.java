@@ -0,0 +1,82 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.reflection;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A process-wide cache of field metadata.
+ * <p>
+ * For each class, the cache holds the non-static fields collected by
+ * {@link DeclaredAndInheritedFieldsCollector} along with their accessors.
+ * Entries are stored in {@link ClassValue}s, so the cache does not prevent
+ * classes (and their class loaders) from being unloaded.
+ */
+public final class FieldCache {
+
+    private static final FieldCollector FIELD_COLLECTOR = new DeclaredAndInheritedFieldsCollector();
+
+    private static final ClassValue<List<FieldAccessor>> FIELDS = new ClassValue<List<FieldAccessor>>() {
+        @Override
+        protected List<FieldAccessor> computeValue(final Class<?> type) {
+            final List<Field> fields = FIELD_COLLECTOR.getFields(type);
+            final List<FieldAccessor> accessors = new ArrayList<>(fields.size());
+            for (Field field : fields) {
+                accessors.add(getAccessor(field));
+            }
+            return Collections.unmodifiableList(accessors);
+        }
+    };
+
+    // Accessors are keyed by the field's declaring class, so that
+    // inherited fields share accessors across subclasses
+    private static final ClassValue<Map<Field, FieldAccessor>> ACCESSORS = new ClassValue<Map<Field, FieldAccessor>>() {
+        @Override
+        protected Map<Field, FieldAccessor> computeValue(final Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private FieldCache() {
+        // non-instantiable
+    }
+
+    /**
+     * Returns accessors for declared and inherited non-static fields
+     * of the given class, in the order they were collected.
+     *
+     * @param klass the class to get fields for
+     * @return an unmodifiable list of field accessors
+     */
+    public static List<FieldAccessor> getFields(final Class<?> klass) {
+        return FIELDS.get(klass);
+    }
+
+    /**
+     * Returns the accessor for the given field.
+     *
+     * @param field the field to get an accessor for
+     * @return a shared accessor for the field
+     */
+    public static FieldAccessor getAccessor(final Field field) {
+        return ACCESSORS.get(field.getDeclaringClass()).computeIfAbsent(field, FieldAccessor::new);
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.reflection;
+
+import org.instancio.internal.util.ObjectUtils;
+import org.instancio.internal.util.ReflectionUtils;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A constructor whose parameters correspond to all non-static
+ * fields of a class, used for creating objects via constructor
+ * injection.
+ * <p>
+ * A constructor matches if it declares one parameter per field,
+ * where parameters are matched to fields:
+ *
+ * <ul>
+ *   <li>by name and type, if parameter names are available
+ *       (the class was compiled with the {@code -parameters} flag)</li>
+ *   <li>otherwise, by type, provided that each parameter's type
+ *       is unique among the fields</li>
+ * </ul>
+ * <p>
+ * Without parameter names, there is no way to tell which of several
+ * fields of the same type a parameter corresponds to. Such classes
+ * have no matching constructor and are populated via fields instead.
+ * <p>
+ * Constructors are resolved once per class and cached.
+ */
+public final class FieldConstructor {
+    private static final Logger LOG = LoggerFactory.getLogger(FieldConstructor.class);
+
+    private static final ClassValue<FieldConstructor> FIELD_CONSTRUCTORS = new ClassValue<FieldConstructor>() {
+        @Override
+        protected FieldConstructor computeValue(final Class<?> type) {
+            return resolve(type);
+        }
+    };
+
+    private final Constructor<?> constructor;
+    private final Map<Field, Integer> parameterIndices;
+    private final Object[] defaultArguments;
+
+    private FieldConstructor(final Constructor<?> constructor, final List<Field> parameterFields) {
+        this.constructor = constructor;
+        this.parameterIndices = new HashMap<>(parameterFields.size() * 2);
+        this.defaultArguments = new Object[parameterFields.size()];
+
+        for (int i = 0; i < parameterFields.size(); i++) {
+            parameterIndices.put(parameterFields.get(i), i);
+            defaultArguments[i] = ObjectUtils.defaultValue(parameterFields.get(i).getType());
+        }
+    }
+
+    /**
+     * Returns a constructor whose parameters match
+     * the fields of the given class, if there is one.
+     *
+     * @param klass the class to get the constructor for
+     * @return the matching constructor, or {@code null} if none
+     */
+    @Nullable
+    public static FieldConstructor forClass(final Class<?> klass) {
+        return FIELD_CONSTRUCTORS.get(klass);
+    }
+
+    public Constructor<?> getConstructor() {
+        return constructor;
+    }
+
+    /**
+     * Returns the index of the constructor parameter that
+     * corresponds to the given field.
+     *
+     * @param field one of the class's fields
+     * @return the parameter's index, or {@code -1} if the field
+     * does not correspond to a parameter
+     */
+    public int getParameterIndex(final Field field) {
+        final Integer index = parameterIndices.get(field);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Returns a new array of arguments populated with default values,
+     * that is {@code null} for objects and default values for primitives.
+     *
+     * @return arguments with default values
+     */
+    public Object[] createDefaultArguments() {
+        return defaultArguments.clone();
+    }
+
+    public Object newInstance(final Object... args)
+            throws InstantiationException, IllegalAccessException, InvocationTargetException {
+
+        return constructor.newInstance(args);
+    }
+
+    @Nullable
+    private static FieldConstructor resolve(final Class<?> klass) {
+        if (!ReflectionUtils.isArrayOrConcrete(klass) || klass.isArray() || klass.isEnum()) {
+            return null;
+        }
+
+        final List<FieldAccessor> fields = FieldCache.getFields(klass);
+        if (fields.isEmpty()) {
+            return null;
+        }
+
+        for (Constructor<?> ctor : klass.getDeclaredConstructors()) {
+            if (ctor.getParameterCount() == fields.size()) {
+                final List<Field> parameterFields = matchParameters(ctor, fields);
+                if (!parameterFields.isEmpty() && ReflectionUtils.trySetAccessible(ctor)) {
+                    LOG.trace("Resolved constructor for {}: {}", klass.getName(), ctor);
+                    return new FieldConstructor(ctor, parameterFields);
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns fields matching the constructor's parameters
+     * in parameter order, or an empty list if some don't match.
+     */
+    private static List<Field> matchParameters(final Constructor<?> ctor, final List<FieldAccessor> fields) {
+        final Parameter[] parameters = ctor.getParameters();
+        final List<Field> unmatched = new ArrayList<>(fields.size());
+        for (FieldAccessor accessor : fields) {
+            unmatched.add(accessor.getField());
+        }
+
+        final List<Field> result = new ArrayList<>(parameters.length);
+        for (Parameter parameter : parameters) {
+            final Field field = parameter.isNamePresent()
+                    ? findFieldByName(parameter, unmatched)
+                    : findFieldByUniqueType(parameter, fields);
+
+            if (field == null || !unmatched.remove(field)) {
+                return Collections.emptyList();
+            }
+            result.add(field);
+        }
+        return result;
+    }
+
+    @Nullable
+    private static Field findFieldByName(final Parameter parameter, final List<Field> candidates) {
+        for (Field field : candidates) {
+            if (field.getType() == parameter.getType() && field.getName().equals(parameter.getName())) {
+                return field;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the only field whose type matches the parameter's type,
+     * or {@code null} if there is no such field or more than one.
+     */
+    @Nullable
+    private static Field findFieldByUniqueType(final Parameter parameter, final List<FieldAccessor> fields) {
+        Field result = null;
+        for (FieldAccessor accessor : fields) {
+            if (accessor.getField().getType() == parameter.getType()) {
+                if (result != null) {
+                    return null;
+                }
+                result = accessor.getField();
+            }
+        }
+        return result;
+    }
+}
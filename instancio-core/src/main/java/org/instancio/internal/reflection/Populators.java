@@ -0,0 +1,93 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.reflection;
+
+import org.instancio.internal.util.ServiceLoaders;
+import org.instancio.spi.Populator;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Field;
+import java.util.function.BiConsumer;
+
+/**
+ * Provides {@link Populator}s registered via the service loader,
+ * keyed by their target class.
+ *
+ * <p>Populators are looked up through the target class's own class loader
+ * when a class is first requested. Results, including the absence of
+ * a populator, are stored in a {@link ClassValue}, so the cache does not
+ * prevent user classes from being unloaded.</p>
+ */
+public final class Populators {
+    private static final Logger LOG = LoggerFactory.getLogger(Populators.class);
+
+    private static final ClassValue<Populator<?>> POPULATORS = new ClassValue<Populator<?>>() {
+        @Override
+        protected Populator<?> computeValue(final Class<?> type) {
+            return resolvePopulator(type);
+        }
+    };
+
+    private Populators() {
+        // non-instantiable
+    }
+
+    /**
+     * Returns the populator for the given class, if one is registered.
+     *
+     * @param klass the populator's target class
+     * @param <T>   the target type
+     * @return the populator, or {@code null} if none
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public static <T> Populator<T> get(final Class<T> klass) {
+        return (Populator<T>) POPULATORS.get(klass);
+    }
+
+    /**
+     * Returns a function that assigns the given field without
+     * reflection, if the populator of the field's declaring
+     * class provides one.
+     *
+     * @param field the field to resolve the writer for
+     * @return the field writer, or {@code null} if none
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public static BiConsumer<Object, Object> getFieldWriter(final Field field) {
+        final Populator<?> populator = POPULATORS.get(field.getDeclaringClass());
+        return populator == null ? null : (BiConsumer<Object, Object>) populator.getFieldWriter(field.getName());
+    }
+
+    @Nullable
+    @SuppressWarnings("PMD.UseProperClassLoader")
+    private static Populator<?> resolvePopulator(final Class<?> klass) {
+        final ClassLoader classLoader = klass.getClassLoader();
+        if (classLoader == null || klass.isPrimitive() || klass.isArray()) {
+            return null;
+        }
+        for (Populator<?> populator : ServiceLoaders.loadAll(Populator.class, classLoader)) {
+            if (populator.getTargetClass() == klass) {
+                LOG.trace("Resolved populator for {}: {}", klass, populator.getClass().getName());
+                return populator;
+            }
+        }
+        return null;
+    }
+}
@@ -40,6 +40,7 @@ public interface RecordHelper {
 
     /**
      * Returns the canonical constructor for the given record class.
+     * The returned constructor has been made accessible.
      *
      * @param recordClass to return canonical constructor for
      * @return canonical constructor or an empty result if not found
@@ -20,28 +20,48 @@ import org.instancio.internal.util.Sonar;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Creates instances of a class using its {@link org.instancio.spi.Populator}
+ * if one is registered, its no-argument constructor if it has one,
+ * or Objenesis otherwise. Which strategy applies to a class is
+ * determined once per class and shared by all instances of this class,
+ * so that a missing constructor is not looked up on each instantiation.
+ */
 public class Instantiator {
     private static final Logger LOG = LoggerFactory.getLogger(Instantiator.class);
 
-    private final InstantiationStrategy[] strategies = {
-            new NoArgumentConstructorInstantiationStrategy(),
-            new ObjenesisInstantiationStrategy()
-    };
+    private static final PopulatorInstantiationStrategy POPULATOR_STRATEGY =
+            new PopulatorInstantiationStrategy();
+
+    private static final NoArgumentConstructorInstantiationStrategy NO_ARGUMENT_CONSTRUCTOR_STRATEGY =
+            new NoArgumentConstructorInstantiationStrategy();
+
+    private static final InstantiationStrategy OBJENESIS_STRATEGY = new ObjenesisInstantiationStrategy();
 
     public <T> T instantiate(Class<T> klass) {
-        for (InstantiationStrategy strategy : strategies) {
-            final T instance = createInstance(klass, strategy);
+        if (POPULATOR_STRATEGY.isApplicable(klass)) {
+            final T instance = createInstance(klass, POPULATOR_STRATEGY);
             if (instance != null) {
                 return instance;
             }
         }
 
-        LOG.debug("Could not instantiate class '{}'", klass.getName());
-        return null;
+        if (NO_ARGUMENT_CONSTRUCTOR_STRATEGY.isApplicable(klass)) {
+            final T instance = createInstance(klass, NO_ARGUMENT_CONSTRUCTOR_STRATEGY);
+            if (instance != null) {
+                return instance;
+            }
+        }
+
+        final T instance = createInstance(klass, OBJENESIS_STRATEGY);
+        if (instance == null) {
+            LOG.debug("Could not instantiate class '{}'", klass.getName());
+        }
+        return instance;
     }
 
     @SuppressWarnings(Sonar.CATCH_EXCEPTION_INSTEAD_OF_THROWABLE)
-    private <T> T createInstance(final Class<T> klass, final InstantiationStrategy strategy) {
+    private static <T> T createInstance(final Class<T> klass, final InstantiationStrategy strategy) {
         try {
             return strategy.createInstance(klass);
         } catch (Throwable ex) { //NOPMD catches java.lang.InstantiationError
@@ -15,22 +15,55 @@
  */
 package org.instancio.internal.reflection.instantiation;
 
-import org.instancio.internal.util.Sonar;
+import org.instancio.internal.util.ReflectionUtils;
 
 import java.lang.reflect.Constructor;
 
+/**
+ * Creates instances using the class's no-argument constructor.
+ * Constructors are resolved once per class, including classes
+ * that do not have an accessible no-argument constructor.
+ */
 public class NoArgumentConstructorInstantiationStrategy implements InstantiationStrategy {
 
+    private static final ClassValue<Constructor<?>> CONSTRUCTORS = new ClassValue<Constructor<?>>() {
+        @Override
+        protected Constructor<?> computeValue(final Class<?> type) {
+            return resolveConstructor(type);
+        }
+    };
+
     @Override
-    @SuppressWarnings({"unchecked", Sonar.ACCESSIBILITY_UPDATE_SHOULD_BE_REMOVED})
+    @SuppressWarnings("unchecked")
     public <T> T createInstance(final Class<T> klass) {
+        final Constructor<?> ctor = CONSTRUCTORS.get(klass);
         try {
-            final Constructor<?> ctor = klass.getDeclaredConstructor();
-            ctor.setAccessible(true);
+            if (ctor == null) {
+                throw new NoSuchMethodException(klass.getName() + ".<init>()");
+            }
             return (T) ctor.newInstance();
         } catch (Exception ex) {
             throw new InstantiationStrategyException("Error instantiating " + klass, ex);
         }
     }
 
+    /**
+     * Checks whether the given class has a no-argument constructor
+     * that can be used by this strategy.
+     *
+     * @param klass the class to check
+     * @return {@code true} if the class has a usable no-argument constructor
+     */
+    public boolean isApplicable(final Class<?> klass) {
+        return CONSTRUCTORS.get(klass) != null;
+    }
+
+    private static Constructor<?> resolveConstructor(final Class<?> klass) {
+        for (Constructor<?> ctor : klass.getDeclaredConstructors()) {
+            if (ctor.getParameterCount() == 0) {
+                return ReflectionUtils.trySetAccessible(ctor) ? ctor : null;
+            }
+        }
+        return null;
+    }
 }
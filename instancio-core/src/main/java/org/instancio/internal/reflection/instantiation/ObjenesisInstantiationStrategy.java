@@ -19,23 +19,26 @@ import org.objenesis.Objenesis;
 import org.objenesis.ObjenesisStd;
 import org.objenesis.instantiator.ObjectInstantiator;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-
 /**
  * Delegates instantiation to Objenesis to instantiate a class without invoking
  * constructors. This handles cases where a class does not have a default constructor.
  */
 public class ObjenesisInstantiationStrategy implements InstantiationStrategy {
 
-    private final Objenesis objenesis = new ObjenesisStd();
-    private final Map<Class<?>, ObjectInstantiator<?>> cache = new ConcurrentHashMap<>();
+    // Instantiators are cached using a ClassValue instead of Objenesis' own cache
+    private static final Objenesis OBJENESIS = new ObjenesisStd(false);
+
+    private static final ClassValue<ObjectInstantiator<?>> INSTANTIATORS = new ClassValue<ObjectInstantiator<?>>() {
+        @Override
+        protected ObjectInstantiator<?> computeValue(final Class<?> type) {
+            return OBJENESIS.getInstantiatorOf(type);
+        }
+    };
 
     @Override
     @SuppressWarnings("unchecked")
     public <T> T createInstance(final Class<T> klass) {
-        ObjectInstantiator<?> instantiator = cache.computeIfAbsent(klass, objenesis::getInstantiatorOf);
-        return (T) instantiator.newInstance();
+        return (T) INSTANTIATORS.get(klass).newInstance();
     }
 
 }
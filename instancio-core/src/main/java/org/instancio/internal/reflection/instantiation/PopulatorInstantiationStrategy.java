@@ -0,0 +1,49 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.reflection.instantiation;
+
+import org.instancio.internal.reflection.Populators;
+import org.instancio.spi.Populator;
+
+/**
+ * Creates instances using a {@link Populator} registered for the class.
+ */
+public class PopulatorInstantiationStrategy implements InstantiationStrategy {
+
+    /**
+     * Creates an instance of the given class.
+     *
+     * @param klass the class to instantiate
+     * @param <T>   the type of object
+     * @return a new instance, or {@code null} if the populator
+     * cannot create instances of the class
+     */
+    @Override
+    public <T> T createInstance(final Class<T> klass) {
+        final Populator<T> populator = Populators.get(klass);
+        return populator == null ? null : populator.newInstance();
+    }
+
+    /**
+     * Checks whether a populator is registered for the given class.
+     *
+     * @param klass the class to check
+     * @return {@code true} if the class has a populator
+     */
+    public boolean isApplicable(final Class<?> klass) {
+        return Populators.get(klass) != null;
+    }
+}
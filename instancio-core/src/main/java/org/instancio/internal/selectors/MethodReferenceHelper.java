@@ -30,17 +30,47 @@ import java.lang.reflect.Method;
 
 import static org.instancio.internal.util.Constants.NL;
 
+/**
+ * Resolves field selectors from method references.
+ * <p>
+ * Resolution requires serializing the method reference via reflection
+ * and looking up the field. Since a method reference's class is generated
+ * per call site and always refers to the same method, resolved selectors
+ * are cached per method reference class.
+ */
 public final class MethodReferenceHelper {
 
     private static final String GET_PREFIX = "get";
     private static final String IS_PREFIX = "is";
 
+    private static final ClassValue<CachedSelector> SELECTORS = new ClassValue<CachedSelector>() {
+        @Override
+        protected CachedSelector computeValue(final Class<?> type) {
+            return new CachedSelector();
+        }
+    };
+
     private MethodReferenceHelper() {
         // non-instantiable
     }
 
-    @SuppressWarnings(Sonar.ACCESSIBILITY_UPDATE_SHOULD_BE_REMOVED)
+    /**
+     * Resolves a field selector from the given method reference.
+     *
+     * @param methodRef method reference to resolve
+     * @param <T>       type declaring the method
+     * @param <R>       method's return type
+     * @return a new selector for the field
+     */
     public static <T, R> Selector resolve(final GetMethodSelector<T, R> methodRef) {
+        // copy the cached selector so that each selector reports its own location
+        return SelectorImpl.builder(SELECTORS.get(methodRef.getClass()).get(methodRef))
+                .stackTraceHolder(new Throwable())
+                .build();
+    }
+
+    @SuppressWarnings(Sonar.ACCESSIBILITY_UPDATE_SHOULD_BE_REMOVED)
+    private static SelectorImpl resolveUncached(final GetMethodSelector<?, ?> methodRef) {
         try {
             final Method replaceMethod = methodRef.getClass().getDeclaredMethod("writeReplace");
             replaceMethod.setAccessible(true);
@@ -53,7 +83,7 @@ public final class MethodReferenceHelper {
                 throw new InstancioApiException(getErrorMessage(lambda, targetClass));
             }
 
-            return Select.field(targetClass, fieldName);
+            return (SelectorImpl) Select.field(targetClass, fieldName);
         } catch (NoSuchMethodException
                  | IllegalAccessException
                  | InvocationTargetException
@@ -86,6 +116,25 @@ public final class MethodReferenceHelper {
                 .toString();
     }
 
+    /**
+     * Holds the selector resolved from a method reference class.
+     * The selector is resolved on first use, since resolution
+     * requires an instance of the method reference.
+     */
+    private static final class CachedSelector {
+        // Unsynchronized: concurrent first uses resolve equal, immutable selectors
+        private SelectorImpl selector;
+
+        SelectorImpl get(final GetMethodSelector<?, ?> methodRef) {
+            SelectorImpl result = selector;
+            if (result == null) {
+                result = resolveUncached(methodRef);
+                selector = result;
+            }
+            return result;
+        }
+    }
+
     @Nullable
     static String getFieldNameDeclaredInClass(final Class<?> targetClass, final String methodName) {
         if (hasPrefix(GET_PREFIX, methodName)) {
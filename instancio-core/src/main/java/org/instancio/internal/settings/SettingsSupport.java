@@ -16,6 +16,7 @@
 package org.instancio.internal.settings;
 
 import org.instancio.Mode;
+import org.instancio.RandomEngineType;
 import org.instancio.settings.Keys;
 import org.instancio.settings.SettingKey;
 
@@ -49,6 +50,7 @@ final class SettingsSupport {
         fnMap.put(Float.class, Float::valueOf);
         fnMap.put(Double.class, Double::valueOf);
         fnMap.put(Mode.class, Mode::valueOf);
+        fnMap.put(RandomEngineType.class, RandomEngineType::valueOf);
         return Collections.unmodifiableMap(fnMap);
     }
 
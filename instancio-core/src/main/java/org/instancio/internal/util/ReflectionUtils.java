@@ -22,6 +22,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.lang.annotation.Annotation;
+import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
@@ -58,6 +59,33 @@ public final class ReflectionUtils {
         }
     }
 
+    /**
+     * Attempts to make the given field, method, or constructor accessible.
+     *
+     * <p>Reflective members are made accessible once, when they are first
+     * resolved and cached, so that later reads, writes, and invocations do
+     * not pay for the access check. This can fail, for example, if the
+     * member belongs to a module that is not open to Instancio. Failure is
+     * therefore not treated as an error here: callers either skip the member
+     * or retry {@code setAccessible(true)} when the member is used, so that
+     * the error is reported (and handled as per the relevant settings) at
+     * the point where access is actually required.
+     *
+     * @param member the member to make accessible
+     * @return {@code true} if the member was made accessible,
+     * {@code false} otherwise
+     */
+    @SuppressWarnings(Sonar.ACCESSIBILITY_UPDATE_SHOULD_BE_REMOVED)
+    public static boolean trySetAccessible(final AccessibleObject member) {
+        try {
+            member.setAccessible(true);
+            return true;
+        } catch (RuntimeException ex) {
+            LOG.trace("Could not make {} accessible", member, ex);
+            return false;
+        }
+    }
+
     public static boolean isValidField(final Class<?> klass, final String fieldName) {
         try {
             klass.getDeclaredField(fieldName);
@@ -77,27 +105,6 @@ public final class ReflectionUtils {
         }
     }
 
-    @SuppressWarnings(Sonar.ACCESSIBILITY_UPDATE_SHOULD_BE_REMOVED)
-    public static boolean hasNonNullValue(final Field field, final Object object) {
-        try {
-            field.setAccessible(true);
-            return field.get(object) != null;
-        } catch (IllegalAccessException ex) {
-            throw new InstancioException("Unable to get value from: " + field, ex);
-        }
-    }
-
-    @SuppressWarnings(Sonar.ACCESSIBILITY_UPDATE_SHOULD_BE_REMOVED)
-    public static boolean hasNonNullOrNonDefaultPrimitiveValue(final Field field, final Object object) {
-        try {
-            field.setAccessible(true);
-            final Object fieldValue = field.get(object);
-            return neitherNullNorPrimitiveWithDefaultValue(field.getType(), fieldValue);
-        } catch (IllegalAccessException ex) {
-            throw new InstancioException("Unable to get value from: " + field, ex);
-        }
-    }
-
     public static boolean isArrayOrConcrete(final Class<?> klass) {
         return klass.isArray() || (!klass.isInterface() && !Modifier.isAbstract(klass.getModifiers()));
     }
@@ -27,7 +27,11 @@ public final class ServiceLoaders {
     }
 
     public static <T> List<T> loadAll(final Class<T> spi) {
-        final ServiceLoader<T> serviceLoader = ServiceLoader.load(spi, getClassLoader());
+        return loadAll(spi, getClassLoader());
+    }
+
+    public static <T> List<T> loadAll(final Class<T> spi, final ClassLoader classLoader) {
+        final ServiceLoader<T> serviceLoader = ServiceLoader.load(spi, classLoader);
         final List<T> providers = new ArrayList<>();
         for (T service : serviceLoader) {
             providers.add(service);
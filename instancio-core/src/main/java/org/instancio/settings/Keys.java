@@ -16,6 +16,7 @@
 package org.instancio.settings;
 
 import org.instancio.Mode;
+import org.instancio.RandomEngineType;
 import org.instancio.assignment.AssignmentType;
 import org.instancio.assignment.OnSetFieldError;
 import org.instancio.assignment.OnSetMethodError;
@@ -241,6 +242,25 @@ public final class Keys {
      * @since 1.3.3
      */
     public static final SettingKey MODE = register("mode", Mode.class, Mode.STRICT);
+    /**
+     * Specifies the maximum number of type hierarchies that can be cached
+     * per root class for reuse across objects with the same root type;
+     * default is 64; property name {@code node.cache.max.size}.
+     * <p>
+     * A root class can have more than one hierarchy, for example, when it is
+     * created with different type arguments or subtype mappings. Cached
+     * hierarchies do not prevent classes from being unloaded.
+     * <p>
+     * Since the cache is shared by all objects, its size is determined
+     * by the value in {@code instancio.properties}. Setting this key to zero
+     * via {@link Settings} for a particular object disables the use
+     * of the cache for that object.
+     *
+     * @since 2.5.0
+     */
+    @ExperimentalApi
+    public static final SettingKey NODE_CACHE_MAX_SIZE = register(
+            "node.cache.max.size", Integer.class, 64);
     /**
      * Specifies the default value of the {@link AfterGenerate} hint
      * supplied from custom generators to the engine;
@@ -310,6 +330,16 @@ public final class Keys {
     @ExperimentalApi
     public static final SettingKey SETTER_STYLE = register(
             "setter.style", SetterStyle.class, SetterStyle.SET);
+    /**
+     * Specifies the algorithm used for generating random values;
+     * default is {@link RandomEngineType#JDK}; property name {@code random.engine}.
+     *
+     * @see RandomEngineType
+     * @since 2.5.0
+     */
+    @ExperimentalApi
+    public static final SettingKey RANDOM_ENGINE = register(
+            "random.engine", RandomEngineType.class, RandomEngineType.JDK);
     /**
      * Specifies the seed value;
      * default is {@code null}; property name {@code seed}.
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.spi;
+
+import org.instancio.documentation.ExperimentalApi;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.BiConsumer;
+
+/**
+ * A Service Provider Interface for creating instances of a class and
+ * assigning values to its fields without using reflection.
+ *
+ * <p>Populators are typically not implemented by hand. They can be generated
+ * by the Instancio annotation processor for classes listed in
+ * {@link org.instancio.InstancioMetamodel} by enabling the
+ * {@code -Ainstancio.populators=true} compiler option. The processor
+ * also registers the generated classes under
+ * {@code /META-INF/services/org.instancio.spi.Populator}.</p>
+ *
+ * <p>A populator is used in place of reflection where possible:
+ * for creating instances of the target class and for assigning values
+ * to fields declared by the target class. Everything else, such as
+ * selectors, callbacks, and assignment settings, works as usual.
+ * Fields that the populator cannot write, for example private fields,
+ * are assigned via reflection.</p>
+ *
+ * @param <T> the target class
+ * @since 2.5.0
+ */
+@ExperimentalApi
+public interface Populator<T> {
+
+    /**
+     * Returns the class whose instances this populator handles.
+     *
+     * @return the target class
+     * @since 2.5.0
+     */
+    Class<T> getTargetClass();
+
+    /**
+     * Creates a new instance of the target class.
+     *
+     * @return a new instance, or {@code null} if this populator
+     * cannot create instances of the target class
+     * @since 2.5.0
+     */
+    @Nullable
+    T newInstance();
+
+    /**
+     * Returns a function that assigns a value to the given field
+     * of an instance of the target class.
+     *
+     * <p>The function should convert values of primitive fields using
+     * widening conversions, as {@link java.lang.reflect.Field#set(Object, Object)}
+     * does, and throw an {@link IllegalArgumentException} if a value
+     * cannot be assigned to the field.</p>
+     *
+     * @param fieldName name of a field declared by the target class
+     * @return a function that assigns the field, or {@code null}
+     * if this populator cannot assign the field
+     * @since 2.5.0
+     */
+    @Nullable
+    BiConsumer<T, Object> getFieldWriter(String fieldName);
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.spi;
+
+import org.instancio.documentation.ExperimentalApi;
+
+/**
+ * A source of random numbers used for generating values.
+ *
+ * <p>Only {@link #nextLong()} must be implemented.
+ * The remaining methods have default implementations based on it,
+ * which can be overridden if the underlying algorithm provides
+ * more efficient alternatives. An engine is used by a single thread
+ * at a time and does not need to be thread-safe.</p>
+ *
+ * <p>The default bounded methods use Lemire's multiply-shift method with
+ * rejection (D. Lemire, "Fast Random Integer Generation in an Interval",
+ * ACM Transactions on Modeling and Computer Simulation, 2019), which is
+ * unbiased and rarely requires a division.</p>
+ *
+ * @see RandomEngineProvider
+ * @since 2.5.0
+ */
+@ExperimentalApi
+public interface RandomEngine {
+
+    /**
+     * Returns a random {@code long} value.
+     * All values should be produced with approximately equal probability.
+     *
+     * @return a random value
+     * @since 2.5.0
+     */
+    long nextLong();
+
+    /**
+     * Returns a random {@code int} value between zero (inclusive)
+     * and the given bound (exclusive).
+     *
+     * @param bound upper bound, must be positive
+     * @return a random value
+     * @since 2.5.0
+     */
+    default int nextInt(final int bound) {
+        // the high 32 bits of the product of a random 32-bit value and the bound
+        // are uniform once products whose low bits are below 2^32 mod bound are rejected
+        long m = (nextLong() >>> 32) * bound;
+        long low = m & 0xffffffffL;
+        if (low < bound) {
+            final long threshold = (0x100000000L - bound) % bound;
+            while (low < threshold) {
+                m = (nextLong() >>> 32) * bound;
+                low = m & 0xffffffffL;
+            }
+        }
+        return (int) (m >>> 32);
+    }
+
+    /**
+     * Returns a random {@code long} value between zero (inclusive)
+     * and the given bound (exclusive).
+     *
+     * @param bound upper bound, must be positive
+     * @return a random value
+     * @since 2.5.0
+     */
+    default long nextLong(final long bound) {
+        // same as nextInt(), but using the 128-bit product of a random 64-bit value and the bound
+        long x = nextLong();
+        long low = x * bound;
+        if (Long.compareUnsigned(low, bound) < 0) {
+            final long threshold = Long.remainderUnsigned(-bound, bound);
+            while (Long.compareUnsigned(low, threshold) < 0) {
+                x = nextLong();
+                low = x * bound;
+            }
+        }
+        // high 64 bits of the unsigned 128-bit product of x and the bound
+        final long x0 = x & 0xffffffffL;
+        final long x1 = x >>> 32;
+        final long y0 = bound & 0xffffffffL;
+        final long y1 = bound >>> 32;
+        final long p01 = x0 * y1;
+        final long middle = x1 * y0 + ((x0 * y0) >>> 32) + (p01 & 0xffffffffL);
+        return x1 * y1 + (middle >>> 32) + (p01 >>> 32);
+    }
+
+    /**
+     * Returns a random {@code double} value between zero (inclusive)
+     * and one (exclusive).
+     *
+     * @return a random value
+     * @since 2.5.0
+     */
+    default double nextDouble() {
+        return (nextLong() >>> 11) * 0x1.0p-53;
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.spi;
+
+import org.instancio.RandomEngineType;
+import org.instancio.documentation.ExperimentalApi;
+
+/**
+ * A Service Provider Interface for supplying a custom {@link RandomEngine}.
+ *
+ * <p>Implementations of this class can be registered by placing a file named
+ * {@code org.instancio.spi.RandomEngineProvider} under {@code /META-INF/services}.
+ * The file must contain the fully-qualified name of the implementing class.
+ * The registered provider is used when {@link org.instancio.settings.Keys#RANDOM_ENGINE}
+ * is set to {@link RandomEngineType#CUSTOM}. Exactly one provider must be registered;
+ * creating an engine fails if there are several, since their order is not defined.</p>
+ *
+ * @see RandomEngine
+ * @since 2.5.0
+ */
+@ExperimentalApi
+public interface RandomEngineProvider {
+
+    /**
+     * Creates a new engine initialised with the given seed.
+     * Engines created with the same seed must produce
+     * the same sequence of values.
+     *
+     * @param seed the seed value
+     * @return a new engine
+     * @since 2.5.0
+     */
+    RandomEngine createRandomEngine(long seed);
+}
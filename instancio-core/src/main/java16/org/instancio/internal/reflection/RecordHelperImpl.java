@@ -15,6 +15,7 @@
  */
 package org.instancio.internal.reflection;
 
+import org.instancio.internal.util.ReflectionUtils;
 import org.instancio.internal.util.Verify;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -27,6 +28,14 @@ import java.util.Optional;
 public class RecordHelperImpl implements RecordHelper {
     private static final Logger LOG = LoggerFactory.getLogger(RecordHelperImpl.class);
 
+    // Canonical constructors are resolved once per record class
+    private static final ClassValue<Optional<Constructor<?>>> CANONICAL_CONSTRUCTORS = new ClassValue<>() {
+        @Override
+        protected Optional<Constructor<?>> computeValue(final Class<?> recordClass) {
+            return resolveCanonicalConstructor(recordClass);
+        }
+    };
+
     @Override
     public boolean isRecord(final Class<?> klass) {
         return klass.isRecord();
@@ -35,12 +44,18 @@ public class RecordHelperImpl implements RecordHelper {
     @Override
     public Optional<Constructor<?>> getCanonicalConstructor(final Class<?> recordClass) {
         Verify.isTrue(recordClass.isRecord(), "Class '%s' is not a record!", recordClass.getName());
+        return CANONICAL_CONSTRUCTORS.get(recordClass);
+    }
 
+    private static Optional<Constructor<?>> resolveCanonicalConstructor(final Class<?> recordClass) {
         final Class<?>[] componentTypes = Arrays.stream(recordClass.getRecordComponents())
                 .map(RecordComponent::getType)
                 .toArray(Class<?>[]::new);
         try {
-            return Optional.of(recordClass.getDeclaredConstructor(componentTypes));
+            final Constructor<?> ctor = recordClass.getDeclaredConstructor(componentTypes);
+            // if access cannot be granted, the error is reported when the constructor is invoked
+            ReflectionUtils.trySetAccessible(ctor);
+            return Optional.of(ctor);
         } catch (NoSuchMethodException ex) {
             LOG.debug("Unable to resolve canonical constructor for record class '{}'", recordClass.getName());
             return Optional.empty();
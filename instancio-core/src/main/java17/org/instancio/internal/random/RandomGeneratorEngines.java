@@ -0,0 +1,60 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.random;
+
+import org.instancio.spi.RandomEngine;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+final class RandomGeneratorEngines {
+
+    // looking up a factory scans the available algorithms, so it is done once per algorithm
+    private static final Map<String, RandomGeneratorFactory<RandomGenerator>> FACTORIES = new ConcurrentHashMap<>();
+
+    private RandomGeneratorEngines() {
+        // non-instantiable
+    }
+
+    static RandomEngine create(final String algorithm, final long seed) {
+        final RandomGenerator generator = FACTORIES
+                .computeIfAbsent(algorithm, RandomGeneratorFactory::of)
+                .create(seed);
+        return new RandomEngine() {
+            @Override
+            public long nextLong() {
+                return generator.nextLong();
+            }
+
+            @Override
+            public int nextInt(final int bound) {
+                return generator.nextInt(bound);
+            }
+
+            @Override
+            public long nextLong(final long bound) {
+                return generator.nextLong(bound);
+            }
+
+            @Override
+            public double nextDouble() {
+                return generator.nextDouble();
+            }
+        };
+    }
+}
@@ -40,7 +40,7 @@ final class ExtensionSupport {
                                    final ThreadLocalSettings threadLocalSettings) {
         try {
             ExtensionSupport.processWithSettingsAnnotation(context, threadLocalSettings);
-            ExtensionSupport.processSeedAnnotation(context, threadLocalRandom);
+            ExtensionSupport.processSeedAnnotation(context, threadLocalRandom, threadLocalSettings);
         } catch (Exception ex) {
             threadLocalRandom.remove();
             threadLocalSettings.remove();
@@ -49,7 +49,8 @@ final class ExtensionSupport {
     }
 
     private static void processSeedAnnotation(final ExtensionContext context,
-                                              final ThreadLocalRandom threadLocalRandom) {
+                                              final ThreadLocalRandom threadLocalRandom,
+                                              final ThreadLocalSettings threadLocalSettings) {
 
         final Optional<Method> testMethod = context.getTestMethod();
         if (testMethod.isPresent()) {
@@ -66,7 +67,8 @@ final class ExtensionSupport {
 
             // each test method gets a new instance of random to avoid
             // the state of the random leaking across tests
-            threadLocalRandom.set(new DefaultRandom(seed));
+            threadLocalRandom.set(new DefaultRandom(seed,
+                    ModelContext.getRandomEngineType(threadLocalSettings.get())));
         }
     }
 
@@ -34,23 +34,37 @@ import javax.lang.model.element.TypeElement;
 import javax.lang.model.type.TypeMirror;
 import javax.lang.model.util.Elements;
 import javax.lang.model.util.Types;
+import javax.tools.StandardLocation;
 import java.io.BufferedWriter;
 import java.io.Writer;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.TreeSet;
 
-@SupportedOptions({"instancio.verbose", "instancio.suffix"})
+@SupportedOptions({"instancio.verbose", "instancio.suffix", "instancio.populators",
+        "instancio.nativeImage", "instancio.nativeImage.dir"})
 @SupportedAnnotationTypes("org.instancio.InstancioMetamodel")
 public final class InstancioAnnotationProcessor extends AbstractProcessor {
     private static final String CLASSES_ATTRIBUTE = "classes";
     private static final String TRUE = "true";
+    private static final String POPULATOR_SERVICES_FILE = "META-INF/services/org.instancio.spi.Populator";
     private final MetamodelSourceGenerator sourceGenerator = new MetamodelSourceGenerator();
+    private final PopulatorSourceGenerator populatorSourceGenerator = new PopulatorSourceGenerator();
+    private final NativeImageConfigGenerator nativeImageConfigGenerator = new NativeImageConfigGenerator();
+    private final Set<String> populatorClassNames = new LinkedHashSet<>();
+    private final Set<String> metamodelPackageNames = new TreeSet<>();
 
     private Types typeUtils;
     private Elements elementUtils;
     private Logger logger;
     private String classNameSuffix;
+    private boolean generatePopulators;
+    private boolean generateNativeImageConfig;
+    private String nativeImageDir;
+    private TypeGraphCollector typeGraphCollector;
 
     @Override
     @SuppressWarnings("PMD.AvoidSynchronizedAtMethodLevel")
@@ -61,6 +75,10 @@ public final class InstancioAnnotationProcessor extends AbstractProcessor {
         this.logger = new Logger(processingEnv.getMessager(),
                 TRUE.equalsIgnoreCase(processingEnv.getOptions().get("instancio.verbose")));
         this.classNameSuffix = processingEnv.getOptions().get("instancio.suffix");
+        this.generatePopulators = TRUE.equalsIgnoreCase(processingEnv.getOptions().get("instancio.populators"));
+        this.generateNativeImageConfig = TRUE.equalsIgnoreCase(processingEnv.getOptions().get("instancio.nativeImage"));
+        this.nativeImageDir = processingEnv.getOptions().get("instancio.nativeImage.dir");
+        this.typeGraphCollector = new TypeGraphCollector(elementUtils);
     }
 
     @Override
@@ -71,7 +89,13 @@ public final class InstancioAnnotationProcessor extends AbstractProcessor {
     @Override
     @SuppressWarnings(Sonar.METHODS_RETURNS_SHOULD_NOT_BE_INVARIANT)
     public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
-        if (roundEnv.processingOver() || roundEnv.errorRaised()) {
+        if (roundEnv.processingOver()) {
+            if (!roundEnv.errorRaised()) {
+                writeFinalRoundResources();
+            }
+            return true;
+        }
+        if (roundEnv.errorRaised()) {
             return true;
         }
 
@@ -84,19 +108,33 @@ public final class InstancioAnnotationProcessor extends AbstractProcessor {
         logger.debug("Preparing to process %s @InstancioMetamodel annotation(s)", annotatedElements.size());
 
         for (Element annotatedElement : annotatedElements) {
-            final TypeElement rootType = (TypeElement) annotatedElement;
-
-            getAnnotationValues(rootType, CLASSES_ATTRIBUTE)
-                    .stream()
-                    .filter(av -> av.getValue() instanceof TypeMirror)
-                    .map(av -> typeUtils.asElement((TypeMirror) av.getValue()))
-                    .filter(e -> e instanceof QualifiedNameable)
-                    .forEach(e -> writeSourceFile(new MetamodelClass((QualifiedNameable) e, classNameSuffix), rootType));
+            processRootType((TypeElement) annotatedElement);
         }
 
         return true;
     }
 
+    private void processRootType(final TypeElement rootType) {
+        if (generateNativeImageConfig) {
+            metamodelPackageNames.add(elementUtils.getPackageOf(rootType).getQualifiedName().toString());
+        }
+
+        getAnnotationValues(rootType, CLASSES_ATTRIBUTE)
+                .stream()
+                .filter(av -> av.getValue() instanceof TypeMirror)
+                .map(av -> typeUtils.asElement((TypeMirror) av.getValue()))
+                .filter(e -> e instanceof QualifiedNameable)
+                .forEach(e -> {
+                    writeSourceFile(new MetamodelClass((QualifiedNameable) e, classNameSuffix), rootType);
+                    if (generatePopulators && e instanceof TypeElement) {
+                        writePopulatorSourceFile((TypeElement) e, rootType);
+                    }
+                    if (generateNativeImageConfig && e instanceof TypeElement) {
+                        typeGraphCollector.collect((TypeElement) e);
+                    }
+                });
+    }
+
     private void writeSourceFile(final MetamodelClass metaModelClass, final Element element) {
         final Filer filer = processingEnv.getFiler();
         final String filename = metaModelClass.getMetamodelClassName();
@@ -109,6 +147,62 @@ public final class InstancioAnnotationProcessor extends AbstractProcessor {
         }
     }
 
+    private void writePopulatorSourceFile(final TypeElement classElement, final Element element) {
+        final PopulatorClass populatorClass = PopulatorClassResolver.resolve(classElement, typeUtils);
+        if (populatorClass == null) {
+            logger.debug("Skipping populator for: %s", classElement);
+            return;
+        }
+
+        final String filename = populatorClass.getPopulatorClassName();
+        if (!populatorClassNames.add(filename)) {
+            return; // class listed more than once
+        }
+
+        final Filer filer = processingEnv.getFiler();
+        try (Writer writer = new BufferedWriter(filer.createSourceFile(filename, element).openWriter())) {
+            logger.debug("Generating populator class: %s", filename);
+            writer.write(populatorSourceGenerator.getSource(populatorClass));
+        } catch (Exception ex) {
+            populatorClassNames.remove(filename);
+            logger.warn("Error generating populator for '%s'", populatorClass, ex);
+        }
+    }
+
+    private void writeFinalRoundResources() {
+        if (!populatorClassNames.isEmpty()) {
+            final StringBuilder sb = new StringBuilder();
+            for (String className : populatorClassNames) {
+                sb.append(className).append(System.lineSeparator());
+            }
+            logger.debug("Registering %s populator(s) in %s", populatorClassNames.size(), POPULATOR_SERVICES_FILE);
+            writeResource(POPULATOR_SERVICES_FILE, sb.toString());
+        }
+
+        if (generateNativeImageConfig && !typeGraphCollector.getClassNames().isEmpty()) {
+            final String configDir = nativeImageConfigGenerator.getConfigDir(nativeImageDir, metamodelPackageNames);
+            logger.debug("Writing native-image configuration for %s class(es) to %s",
+                    typeGraphCollector.getClassNames().size(), configDir);
+            writeResource(configDir + "reflect-config.json", nativeImageConfigGenerator.getReflectConfig(
+                    typeGraphCollector.getClassNames(), populatorClassNames));
+
+            if (!populatorClassNames.isEmpty()) {
+                writeResource(configDir + "resource-config.json", nativeImageConfigGenerator.getResourceConfig(
+                        Collections.singletonList(POPULATOR_SERVICES_FILE)));
+            }
+        }
+    }
+
+    private void writeResource(final String path, final String content) {
+        final Filer filer = processingEnv.getFiler();
+        try (Writer writer = new BufferedWriter(filer.createResource(
+                StandardLocation.CLASS_OUTPUT, "", path).openWriter())) {
+            writer.write(content);
+        } catch (Exception ex) {
+            logger.warn("Error writing %s", path, ex);
+        }
+    }
+
     private List<AnnotationValue> getAnnotationValues(final Element element, final String attributeName) {
         final TypeElement typeElement = elementUtils.getTypeElement(InstancioMetamodel.class.getCanonicalName());
         final List<AnnotationValue> annotationValues = new ArrayList<>();
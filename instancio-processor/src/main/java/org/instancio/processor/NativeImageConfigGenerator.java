@@ -0,0 +1,128 @@
+/*
+ *  Copyright 2022-2023 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.instancio.processor;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Generates GraalVM native-image configuration files
+ * for classes populated by Instancio.
+ */
+class NativeImageConfigGenerator {
+    private static final String NATIVE_IMAGE_DIR = "META-INF/native-image/";
+    private static final String DEFAULT_DIR_PREFIX = "instancio-processor/";
+    private static final String DEFAULT_PACKAGE_DIR = "generated";
+    private static final String SEPARATOR = String.format(",%n");
+
+    private static final String CLASS_TEMPLATE = String.format(""
+            + "  {%n"
+            + "    \"name\": \"%%s\",%n"
+            + "    \"allDeclaredConstructors\": true,%n"
+            + "    \"allDeclaredFields\": true,%n"
+            + "    \"allDeclaredMethods\": true,%n"
+            + "    \"unsafeAllocated\": true%n"
+            + "  }");
+
+    private static final String POPULATOR_TEMPLATE = String.format(""
+            + "  {%n"
+            + "    \"name\": \"%%s\",%n"
+            + "    \"methods\": [{\"name\": \"<init>\", \"parameterTypes\": []}]%n"
+            + "  }");
+
+    private static final String RESOURCE_TEMPLATE = "      {\"pattern\": \"\\\\Q%s\\\\E\"}";
+
+    private static final String RESOURCE_CONFIG_TEMPLATE = String.format(""
+            + "{%n"
+            + "  \"resources\": {%n"
+            + "    \"includes\": [%n"
+            + "%%s%n"
+            + "    ]%n"
+            + "  }%n"
+            + "}%n");
+
+    /**
+     * Returns the directory the configuration files are written to.
+     * <p>
+     * Native-image reads configuration from {@code META-INF/native-image/<groupId>/<artifactId>/},
+     * so the directory should be unique for each module. If a directory is specified,
+     * for example {@code com.example/my-app}, it is resolved against {@code META-INF/native-image/}.
+     * Otherwise, the directory is derived from the package of the {@code @InstancioMetamodel}
+     * annotated classes, for example {@code META-INF/native-image/instancio-processor/com.example/}.
+     *
+     * @param dir          directory specified via the processor option, may be {@code null}
+     * @param packageNames packages of the annotated classes
+     * @return directory path ending with a {@code '/'}
+     */
+    String getConfigDir(final String dir, final Collection<String> packageNames) {
+        final String trimmed = dir == null ? "" : stripSlashes(dir.trim());
+        if (!trimmed.isEmpty()) {
+            return NATIVE_IMAGE_DIR + trimmed + "/";
+        }
+        final String packageDir = packageNames.stream()
+                .filter(name -> !name.isEmpty())
+                .min(Comparator.naturalOrder())
+                .orElse(DEFAULT_PACKAGE_DIR);
+
+        return NATIVE_IMAGE_DIR + DEFAULT_DIR_PREFIX + packageDir + "/";
+    }
+
+    /**
+     * Returns {@code reflect-config.json} registering the given classes
+     * for reflective access and the given populators for instantiation
+     * by the service loader.
+     *
+     * @param classNames     binary names of classes to populate
+     * @param populatorNames binary names of populator classes
+     * @return reflection configuration
+     */
+    String getReflectConfig(final Collection<String> classNames, final Collection<String> populatorNames) {
+        final String entries = Stream.concat(
+                        classNames.stream().map(name -> String.format(CLASS_TEMPLATE, name)),
+                        populatorNames.stream().map(name -> String.format(POPULATOR_TEMPLATE, name)))
+                .collect(Collectors.joining(SEPARATOR));
+
+        return String.format("[%n%s%n]%n", entries);
+    }
+
+    /**
+     * Returns {@code resource-config.json} including the given resources.
+     *
+     * @param resources resource paths
+     * @return resource configuration
+     */
+    String getResourceConfig(final Collection<String> resources) {
+        final String entries = resources.stream()
+                .map(resource -> String.format(RESOURCE_TEMPLATE, resource))
+                .collect(Collectors.joining(SEPARATOR));
+
+        return String.format(RESOURCE_CONFIG_TEMPLATE, entries);
+    }
+
+    private static String stripSlashes(final String dir) {
+        int start = 0;
+        int end = dir.length();
+        while (start < end && dir.charAt(start) == '/') {
+            start++;
+        }
+        while (end > start && dir.charAt(end - 1) == '/') {
+            end--;
+        }
+        return dir.substring(start, end);
+    }
+}
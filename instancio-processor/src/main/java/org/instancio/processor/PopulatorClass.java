@@ -0,0 +1,110 @@
+/*
+ *  Copyright 2022-2023 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.instancio.processor;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Describes a populator generated for a class. The populator is placed
+ * in the same package as the class, so that it can access the class's
+ * non-private constructors and fields directly.
+ */
+class PopulatorClass {
+    private final String name;
+    private final String packageName;
+    private final String populatorSimpleName;
+    private final boolean instantiable;
+    private final Map<String, String> fieldTypes;
+
+    PopulatorClass(final String name,
+                   @Nullable final String packageName,
+                   final String populatorSimpleName,
+                   final boolean instantiable,
+                   final Map<String, String> fieldTypes) {
+        this.name = name;
+        this.packageName = packageName;
+        this.populatorSimpleName = populatorSimpleName;
+        this.instantiable = instantiable;
+        this.fieldTypes = Collections.unmodifiableMap(new LinkedHashMap<>(fieldTypes));
+    }
+
+    /**
+     * Returns a fully qualified name of the target class, as used in source code.
+     *
+     * @return fully qualified class name
+     */
+    String getName() {
+        return name;
+    }
+
+    /**
+     * Returns package name.
+     *
+     * @return package name, or {@code null} if none
+     */
+    @Nullable
+    String getPackageName() {
+        return packageName;
+    }
+
+    /**
+     * Simple name of the populator class.
+     *
+     * @return simple name of the populator class
+     */
+    String getPopulatorSimpleName() {
+        return populatorSimpleName;
+    }
+
+    /**
+     * Returns a fully qualified name of the populator class.
+     *
+     * @return fully qualified populator class name
+     */
+    String getPopulatorClassName() {
+        return packageName == null ? populatorSimpleName : packageName + "." + populatorSimpleName;
+    }
+
+    /**
+     * Whether the populator can create instances of the class
+     * using its no-argument constructor.
+     *
+     * @return {@code true} if the class can be instantiated
+     */
+    boolean isInstantiable() {
+        return instantiable;
+    }
+
+    /**
+     * Returns names of fields that the populator can assign directly,
+     * mapped to their (erased) types. Values are cast to reference types
+     * and converted to primitive types.
+     *
+     * @return field names mapped to type names
+     */
+    Map<String, String> getFieldTypes() {
+        return fieldTypes;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ *  Copyright 2022-2023 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.instancio.processor;
+
+import org.jetbrains.annotations.Nullable;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Types;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Resolves {@link PopulatorClass} descriptions from class elements.
+ */
+final class PopulatorClassResolver {
+    private static final String SUFFIX = "_Populator";
+
+    private PopulatorClassResolver() {
+        // non-instantiable
+    }
+
+    /**
+     * Creates a populator description for the given class.
+     *
+     * @param classElement the class to create a populator for
+     * @param typeUtils    type utilities
+     * @return the populator, or {@code null} if a populator
+     * cannot be generated for the class
+     */
+    @Nullable
+    static PopulatorClass resolve(final TypeElement classElement, final Types typeUtils) {
+        if (classElement.getKind() != ElementKind.CLASS || !isAccessibleFromOwnPackage(classElement)) {
+            return null;
+        }
+
+        final PackageElement packageElement = getPackage(classElement);
+        final String pkg = packageElement.getQualifiedName().toString();
+        final Map<String, String> fieldTypes = new LinkedHashMap<>();
+
+        for (Element e : classElement.getEnclosedElements()) {
+            final Set<Modifier> modifiers = e.getModifiers();
+            if (e.getKind() == ElementKind.FIELD
+                    && !modifiers.contains(Modifier.STATIC)
+                    && !modifiers.contains(Modifier.PRIVATE)
+                    && !modifiers.contains(Modifier.FINAL)) {
+
+                final String typeName = getAccessibleTypeName(e.asType(), pkg, typeUtils);
+                if (typeName != null) {
+                    fieldTypes.put(e.getSimpleName().toString(), typeName);
+                }
+            }
+        }
+
+        return new PopulatorClass(
+                classElement.getQualifiedName().toString(),
+                getPackageName(pkg),
+                getNestedSimpleName(classElement) + SUFFIX,
+                isInstantiable(classElement),
+                fieldTypes);
+    }
+
+    @Nullable
+    private static String getPackageName(final String pkg) {
+        return pkg.isEmpty() ? null : pkg;
+    }
+
+    private static boolean isInstantiable(final TypeElement classElement) {
+        if (classElement.getModifiers().contains(Modifier.ABSTRACT)
+                || !isTopLevelOrStatic(classElement)) {
+            return false;
+        }
+        for (Element e : classElement.getEnclosedElements()) {
+            if (e.getKind() == ElementKind.CONSTRUCTOR
+                    && ((ExecutableElement) e).getParameters().isEmpty()
+                    && !e.getModifiers().contains(Modifier.PRIVATE)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isTopLevelOrStatic(final TypeElement classElement) {
+        return classElement.getEnclosingElement().getKind() == ElementKind.PACKAGE
+                || classElement.getModifiers().contains(Modifier.STATIC);
+    }
+
+    /**
+     * Checks whether the class and all of its enclosing classes are non-private.
+     */
+    private static boolean isAccessibleFromOwnPackage(final TypeElement classElement) {
+        Element e = classElement;
+        while (e.getKind() != ElementKind.PACKAGE) {
+            if (e.getModifiers().contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            e = e.getEnclosingElement();
+        }
+        return true;
+    }
+
+    /**
+     * Returns the name of the type's erasure as used in source code
+     * (primitive types are returned as is), or {@code null} if the type is not accessible from the given package.
+     */
+    @Nullable
+    private static String getAccessibleTypeName(final TypeMirror type, final String pkg, final Types typeUtils) {
+        final TypeMirror erasure = typeUtils.erasure(type);
+        final TypeKind kind = erasure.getKind();
+
+        if (kind.isPrimitive()) {
+            return kind.name().toLowerCase(Locale.ROOT);
+        } else if (kind == TypeKind.ARRAY) {
+            final TypeMirror componentType = ((ArrayType) erasure).getComponentType();
+            final String componentName = getAccessibleTypeName(componentType, pkg, typeUtils);
+            return componentName == null ? null : componentName + "[]";
+        } else if (kind == TypeKind.DECLARED) {
+            final TypeElement typeElement = (TypeElement) ((DeclaredType) erasure).asElement();
+            return isAccessibleFrom(typeElement, pkg) ? typeElement.getQualifiedName().toString() : null;
+        }
+        return null;
+    }
+
+    private static boolean isAccessibleFrom(final TypeElement typeElement, final String pkg) {
+        final boolean samePackage = getPackage(typeElement).getQualifiedName().contentEquals(pkg);
+        Element e = typeElement;
+        while (e.getKind() != ElementKind.PACKAGE) {
+            final Set<Modifier> modifiers = e.getModifiers();
+            if (modifiers.contains(Modifier.PRIVATE) || !samePackage && !modifiers.contains(Modifier.PUBLIC)) {
+                return false;
+            }
+            e = e.getEnclosingElement();
+        }
+        return true;
+    }
+
+    private static PackageElement getPackage(final Element element) {
+        Element e = element;
+        while (e.getKind() != ElementKind.PACKAGE) {
+            e = e.getEnclosingElement();
+        }
+        return (PackageElement) e;
+    }
+
+    /**
+     * Returns the simple names of the class and its enclosing
+     * classes joined with underscores, e.g. {@code Outer_Inner}.
+     */
+    private static String getNestedSimpleName(final TypeElement classElement) {
+        final List<String> names = new ArrayList<>();
+        Element e = classElement;
+        while (e.getKind() != ElementKind.PACKAGE) {
+            names.add(0, e.getSimpleName().toString());
+            e = e.getEnclosingElement();
+        }
+        return String.join("_", names);
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ *  Copyright 2022-2023 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.instancio.processor;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+class PopulatorSourceGenerator {
+    private static final String PACKAGE_TEMPLATE = "package %s;";
+    private static final String IMPORTS = String.format(""
+            + "import org.instancio.spi.Populator;%n"
+            + "import java.util.function.BiConsumer;"
+    );
+    private static final String CLASS_BODY_TEMPLATE = "" // class name, target class, new instance, field cases
+            + "@SuppressWarnings({\"rawtypes\", \"unchecked\"})%n"
+            + "public final class %1$s implements Populator<%2$s> {%n%n"
+            + "\t@Override%n"
+            + "\tpublic Class<%2$s> getTargetClass() {%n"
+            + "\t\treturn %2$s.class;%n"
+            + "\t}%n%n"
+            + "\t@Override%n"
+            + "\tpublic %2$s newInstance() {%n"
+            + "\t\treturn %3$s;%n"
+            + "\t}%n%n"
+            + "\t@Override%n"
+            + "\tpublic BiConsumer<%2$s, Object> getFieldWriter(final String fieldName) {%n"
+            + "\t\tswitch (fieldName) {%n"
+            + "%4$s"
+            + "\t\t\tdefault: return null;%n"
+            + "\t\t}%n"
+            + "\t}%n"
+            + "%5$s"
+            + "}";
+    private static final String FIELD_CASE_TEMPLATE = "\t\t\tcase \"%1$s\": return (obj, value) -> obj.%1$s = %2$s;%n";
+    private static final String CONVERTER_TEMPLATE = "" // primitive type, method name, conversion statements
+            + "%n\tprivate static %1$s %2$s(final Object value) {%n"
+            + "%3$s"
+            + "\t\tthrow new IllegalArgumentException(\"Can not set %1$s field to \"%n"
+            + "\t\t\t\t+ (value == null ? \"null value\" : value.getClass().getName()));%n"
+            + "\t}%n";
+    private static final String CONVERSION_TEMPLATE = "\t\tif (value instanceof %1$s) return (%1$s) value;%n";
+
+    /**
+     * Wrapper types of values that can be assigned to a primitive field,
+     * consistent with the widening conversions performed by
+     * {@link java.lang.reflect.Field#set(Object, Object)}.
+     */
+    private static final Map<String, List<String>> PRIMITIVE_SOURCE_TYPES = getPrimitiveSourceTypes();
+    private static final String CLASS_TEMPLATE = "%s%n%n%s%n%n%s"; // package, imports, class body
+
+    String getSource(final PopulatorClass populatorClass) {
+        return String.format(CLASS_TEMPLATE,
+                packageDeclaration(populatorClass.getPackageName()),
+                IMPORTS,
+                classBody(populatorClass));
+    }
+
+    private static Map<String, List<String>> getPrimitiveSourceTypes() {
+        final Map<String, List<String>> map = new LinkedHashMap<>();
+        map.put("boolean", Collections.singletonList("Boolean"));
+        map.put("byte", Collections.singletonList("Byte"));
+        map.put("short", Arrays.asList("Short", "Byte"));
+        map.put("char", Collections.singletonList("Character"));
+        map.put("int", Arrays.asList("Integer", "Short", "Byte", "Character"));
+        map.put("long", Arrays.asList("Long", "Integer", "Short", "Byte", "Character"));
+        map.put("float", Arrays.asList("Float", "Long", "Integer", "Short", "Byte", "Character"));
+        map.put("double", Arrays.asList("Double", "Float", "Long", "Integer", "Short", "Byte", "Character"));
+        return Collections.unmodifiableMap(map);
+    }
+
+    private String classBody(final PopulatorClass populatorClass) {
+        final String newInstance = populatorClass.isInstantiable()
+                ? "new " + populatorClass.getName() + "()"
+                : "null";
+
+        return String.format(CLASS_BODY_TEMPLATE,
+                populatorClass.getPopulatorSimpleName(),
+                populatorClass.getName(),
+                newInstance,
+                getFieldCases(populatorClass),
+                getConverters(populatorClass));
+    }
+
+    private String getFieldCases(final PopulatorClass populatorClass) {
+        return populatorClass.getFieldTypes().entrySet().stream()
+                .map(entry -> String.format(FIELD_CASE_TEMPLATE, entry.getKey(), getValueExpression(entry.getValue())))
+                .collect(Collectors.joining());
+    }
+
+    /**
+     * Primitive values are converted explicitly, so that values that
+     * can be widened to the field's type are accepted as with reflection.
+     */
+    private static String getValueExpression(final String typeName) {
+        return PRIMITIVE_SOURCE_TYPES.containsKey(typeName)
+                ? getConverterName(typeName) + "(value)"
+                : "(" + typeName + ") value";
+    }
+
+    private static String getConverters(final PopulatorClass populatorClass) {
+        return PRIMITIVE_SOURCE_TYPES.entrySet().stream()
+                .filter(entry -> populatorClass.getFieldTypes().containsValue(entry.getKey()))
+                .map(entry -> String.format(CONVERTER_TEMPLATE,
+                        entry.getKey(),
+                        getConverterName(entry.getKey()),
+                        entry.getValue().stream()
+                                .map(sourceType -> String.format(CONVERSION_TEMPLATE, sourceType))
+                                .collect(Collectors.joining())))
+                .collect(Collectors.joining());
+    }
+
+    private static String getConverterName(final String primitiveTypeName) {
+        return "to" + Character.toUpperCase(primitiveTypeName.charAt(0)) + primitiveTypeName.substring(1);
+    }
+
+    private String packageDeclaration(@Nullable final String packageName) {
+        return packageName == null ? "" : String.format(PACKAGE_TEMPLATE, packageName);
+    }
+}
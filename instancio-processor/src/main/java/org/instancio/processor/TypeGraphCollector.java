@@ -0,0 +1,115 @@
+/*
+ *  Copyright 2022-2023 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.instancio.processor;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.IntersectionType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.TypeVariable;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.Elements;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Collects binary names of classes reachable from root classes
+ * via field types, type arguments, and superclasses. These are the
+ * classes Instancio accesses reflectively when populating the roots.
+ * JDK classes are not collected, but their type arguments are,
+ * for example {@code Address} in {@code List<Address>}.
+ */
+class TypeGraphCollector {
+    private static final String[] JDK_PACKAGE_PREFIXES = {"java.", "javax.", "jdk.", "sun.", "com.sun."};
+
+    private final Elements elementUtils;
+    private final Set<String> classNames = new TreeSet<>();
+    private final Set<TypeElement> visited = new HashSet<>();
+
+    TypeGraphCollector(final Elements elementUtils) {
+        this.elementUtils = elementUtils;
+    }
+
+    /**
+     * Collects the given class and the classes reachable from it.
+     *
+     * @param rootType the root class
+     */
+    void collect(final TypeElement rootType) {
+        visitElement(rootType);
+    }
+
+    /**
+     * Returns binary names of the collected classes in sorted order.
+     *
+     * @return collected class names
+     */
+    Set<String> getClassNames() {
+        return Collections.unmodifiableSet(classNames);
+    }
+
+    private void visitType(final TypeMirror type) {
+        final TypeKind kind = type.getKind();
+        if (kind == TypeKind.DECLARED) {
+            final DeclaredType declaredType = (DeclaredType) type;
+            visitElement((TypeElement) declaredType.asElement());
+            declaredType.getTypeArguments().forEach(this::visitType);
+        } else if (kind == TypeKind.ARRAY) {
+            visitType(((ArrayType) type).getComponentType());
+        } else if (kind == TypeKind.TYPEVAR) {
+            visitType(((TypeVariable) type).getUpperBound());
+        } else if (kind == TypeKind.WILDCARD) {
+            final TypeMirror bound = ((WildcardType) type).getExtendsBound();
+            if (bound != null) {
+                visitType(bound);
+            }
+        } else if (kind == TypeKind.INTERSECTION) {
+            ((IntersectionType) type).getBounds().forEach(this::visitType);
+        }
+    }
+
+    private void visitElement(final TypeElement typeElement) {
+        if (!visited.add(typeElement) || isJdkClass(typeElement)) {
+            return;
+        }
+
+        classNames.add(elementUtils.getBinaryName(typeElement).toString());
+        visitType(typeElement.getSuperclass());
+
+        for (Element e : typeElement.getEnclosedElements()) {
+            if (e.getKind() == ElementKind.FIELD && !e.getModifiers().contains(Modifier.STATIC)) {
+                visitType(e.asType());
+            }
+        }
+    }
+
+    private static boolean isJdkClass(final TypeElement typeElement) {
+        final String name = typeElement.getQualifiedName().toString();
+        for (String prefix : JDK_PACKAGE_PREFIXES) {
+            if (name.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
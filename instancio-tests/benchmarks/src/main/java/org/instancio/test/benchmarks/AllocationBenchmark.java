@@ -0,0 +1,103 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.test.benchmarks;
+
+import org.instancio.Instancio;
+import org.instancio.Model;
+import org.instancio.test.support.pojo.basic.PrimitiveFields;
+import org.instancio.test.support.pojo.basic.StringHolder;
+import org.instancio.test.support.pojo.person.Person;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+import static org.instancio.Select.allBooleans;
+import static org.instancio.Select.allBytes;
+import static org.instancio.Select.allChars;
+import static org.instancio.Select.allDoubles;
+import static org.instancio.Select.allFloats;
+import static org.instancio.Select.allInts;
+import static org.instancio.Select.allLongs;
+import static org.instancio.Select.allShorts;
+import static org.instancio.Select.allStrings;
+
+/**
+ * Allocations of the engine's hot path, to be run with {@code -prof gc}.
+ * <p>
+ * Uses the same models as {@code InstancioEngineAllocationTest}, with
+ * all leaf values set to constants, so that {@code gc.alloc.rate.norm}
+ * can be compared against the limits enforced by that test.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class AllocationBenchmark {
+
+    private Iterator<StringHolder> stringHolders;
+    private Iterator<PrimitiveFields> primitiveFields;
+    private Iterator<Person> persons;
+
+    @Setup
+    public void setup() {
+        stringHolders = Instancio.stream(createModel(StringHolder.class)).iterator();
+        primitiveFields = Instancio.stream(createModel(PrimitiveFields.class)).iterator();
+        persons = Instancio.stream(createModel(Person.class)).iterator();
+    }
+
+    @Benchmark
+    public StringHolder stringHolder() {
+        return stringHolders.next();
+    }
+
+    @Benchmark
+    public PrimitiveFields primitiveFields() {
+        return primitiveFields.next();
+    }
+
+    @Benchmark
+    public Person person() {
+        return persons.next();
+    }
+
+    private static <T> Model<T> createModel(final Class<T> klass) {
+        return Instancio.of(klass)
+                .withSeed(1)
+                .lenient()
+                .set(allStrings(), "foo")
+                .set(allInts(), 1)
+                .set(allLongs(), 1L)
+                .set(allShorts(), (short) 1)
+                .set(allBytes(), (byte) 1)
+                .set(allFloats(), 1f)
+                .set(allDoubles(), 1d)
+                .set(allBooleans(), true)
+                .set(allChars(), 'a')
+                .toModel();
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.test.benchmarks;
+
+import org.instancio.Instancio;
+import org.instancio.Random;
+import org.instancio.RandomEngineType;
+import org.instancio.internal.random.DefaultRandom;
+import org.instancio.settings.Keys;
+import org.instancio.settings.Settings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+import static org.instancio.Select.allLongs;
+
+/**
+ * Bounded {@code long} generation for ranges wider than {@code Integer.MAX_VALUE},
+ * on {@code Instant}- and {@code long}-heavy models.
+ * <p>
+ * The {@code legacyLongRange} benchmark is a copy of the previous algorithm,
+ * which allocated a {@code byte[8]} on every attempt. Using the JDK engine,
+ * it produces the same values as {@code longRange}.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class LongRangeBenchmark {
+
+    private static final long MIN = 0;
+    private static final long MAX = 1L << 40;
+
+    @Param({"JDK", "XOROSHIRO128PP"})
+    private RandomEngineType engine;
+
+    private Random random;
+    private java.util.Random legacyRandom;
+    private long[] values;
+    private Iterator<InstantFields> instants;
+    private Iterator<LongFields> longs;
+
+    @Setup
+    public void setup() {
+        random = new DefaultRandom(1, engine);
+        legacyRandom = new java.util.Random(1);
+        values = new long[8];
+
+        final Settings settings = Settings.create().set(Keys.RANDOM_ENGINE, engine);
+
+        instants = Instancio.of(InstantFields.class)
+                .withSettings(settings)
+                .stream()
+                .iterator();
+
+        longs = Instancio.of(LongFields.class)
+                .withSettings(settings)
+                .generate(allLongs(), gen -> gen.longs().range(MIN, MAX))
+                .stream()
+                .iterator();
+    }
+
+    @Benchmark
+    public long longRange() {
+        return random.longRange(MIN, MAX);
+    }
+
+    @Benchmark
+    public long legacyLongRange() {
+        return MIN + legacyNextLong(legacyRandom, MAX - MIN + 1);
+    }
+
+    @Benchmark
+    public long[] fillLongRange() {
+        random.fillLongRange(values, MIN, MAX);
+        return values;
+    }
+
+    @Benchmark
+    public InstantFields instantHeavy() {
+        return instants.next();
+    }
+
+    @Benchmark
+    public LongFields longHeavy() {
+        return longs.next();
+    }
+
+    private static long legacyNextLong(final java.util.Random random, final long bound) {
+        final byte[] byteArray = new byte[8];
+        long bits;
+        long val;
+        do {
+            random.nextBytes(byteArray);
+            bits = 0;
+            for (final byte b : byteArray) {
+                bits = (bits << 8) | (b & 0xffL);
+            }
+            bits &= 0x7fffffffffffffffL;
+            val = bits % bound;
+        } while (bits - val + (bound - 1) < 0);
+        return val;
+    }
+
+    public static class InstantFields {
+        private Instant instant1;
+        private Instant instant2;
+        private Instant instant3;
+        private Instant instant4;
+        private Instant instant5;
+        private Instant instant6;
+        private Instant instant7;
+        private Instant instant8;
+    }
+
+    public static class LongFields {
+        private long long1;
+        private long long2;
+        private long long3;
+        private long long4;
+        private long long5;
+        private long long6;
+        private long long7;
+        private long long8;
+    }
+}
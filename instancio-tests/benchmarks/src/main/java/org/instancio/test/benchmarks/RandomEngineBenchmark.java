@@ -0,0 +1,87 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.test.benchmarks;
+
+import org.instancio.Instancio;
+import org.instancio.RandomEngineType;
+import org.instancio.settings.Keys;
+import org.instancio.settings.Settings;
+import org.instancio.test.support.pojo.basic.StringHolder;
+import org.instancio.test.support.pojo.basic.SupportedNumericTypes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+import static org.instancio.Select.allStrings;
+
+/**
+ * Compares the built-in random engines on a string-heavy model,
+ * where every character is drawn from the engine, and on a model
+ * consisting of numeric fields.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class RandomEngineBenchmark {
+
+    private static final int STRING_LENGTH = 100;
+
+    @Param({"JDK", "SPLITTABLE", "XOROSHIRO128PP", "L64X128MIX"})
+    private RandomEngineType engine;
+
+    private Iterator<StringHolder> strings;
+    private Iterator<SupportedNumericTypes> numbers;
+
+    @Setup
+    public void setup() {
+        final Settings settings = Settings.create().set(Keys.RANDOM_ENGINE, engine);
+
+        strings = Instancio.of(StringHolder.class)
+                .withSettings(settings)
+                .generate(allStrings(), gen -> gen.string().length(STRING_LENGTH))
+                .stream()
+                .iterator();
+
+        numbers = Instancio.of(SupportedNumericTypes.class)
+                .withSettings(settings)
+                .stream()
+                .iterator();
+    }
+
+    @Benchmark
+    public StringHolder stringHeavy() {
+        return strings.next();
+    }
+
+    @Benchmark
+    public SupportedNumericTypes numericHeavy() {
+        return numbers.next();
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.test.benchmarks;
+
+import org.instancio.Instancio;
+import org.instancio.test.support.java16.record.PersonRecord;
+import org.instancio.test.support.java16.record.PhoneRecord;
+import org.instancio.test.support.java16.record.PrimitivesRecord;
+import org.instancio.test.support.pojo.person.Phone;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+import static org.instancio.Select.allStrings;
+
+/**
+ * Record construction, using the record fixtures from {@code java16-tests}.
+ * <p>
+ * {@link PhoneRecord} and {@link Phone} have the same fields,
+ * so {@code phoneRecord} and {@code phonePojo} compare creating a record
+ * through its canonical constructor with populating the fields of a POJO.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class RecordBenchmark {
+
+    private Iterator<PhoneRecord> phoneRecords;
+    private Iterator<Phone> phonePojos;
+    private Iterator<PrimitivesRecord> primitivesRecords;
+    private Iterator<PersonRecord> personRecords;
+
+    @Setup
+    public void setup() {
+        phoneRecords = Instancio.of(PhoneRecord.class).set(allStrings(), "foo").stream().iterator();
+        phonePojos = Instancio.of(Phone.class).set(allStrings(), "foo").stream().iterator();
+        primitivesRecords = Instancio.stream(PrimitivesRecord.class).iterator();
+        personRecords = Instancio.stream(PersonRecord.class).iterator();
+    }
+
+    @Benchmark
+    public PhoneRecord phoneRecord() {
+        return phoneRecords.next();
+    }
+
+    @Benchmark
+    public Phone phonePojo() {
+        return phonePojos.next();
+    }
+
+    @Benchmark
+    public PrimitivesRecord primitivesRecord() {
+        return primitivesRecords.next();
+    }
+
+    @Benchmark
+    public PersonRecord personRecord() {
+        return personRecords.next();
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.test.benchmarks;
+
+import org.instancio.InstancioMetamodel;
+import org.instancio.Select;
+import org.instancio.Selector;
+import org.instancio.test.support.pojo.person.Address;
+import org.instancio.test.support.pojo.person.Address_;
+import org.instancio.test.support.pojo.person.Person;
+import org.instancio.test.support.pojo.person.Person_;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of obtaining field selectors using a field name,
+ * a method reference, and the generated metamodel.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@InstancioMetamodel(classes = {Person.class, Address.class})
+public class SelectorBenchmark {
+
+    @Benchmark
+    public void fieldName(final Blackhole blackhole) {
+        blackhole.consume(Select.field(Person.class, "name"));
+        blackhole.consume(Select.field(Address.class, "city"));
+    }
+
+    @Benchmark
+    public void methodReference(final Blackhole blackhole) {
+        blackhole.consume(Select.field(Person::getName));
+        blackhole.consume(Select.field(Address::getCity));
+    }
+
+    @Benchmark
+    public void metamodel(final Blackhole blackhole) {
+        final Selector name = Person_.name;
+        final Selector city = Address_.city;
+        blackhole.consume(name);
+        blackhole.consume(city);
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.test.benchmarks;
+
+import org.instancio.Instancio;
+import org.instancio.Model;
+import org.instancio.test.support.pojo.person.Person;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Elements per second created by {@link Instancio#stream(Model)}.
+ * <p>
+ * The {@code enginePerElement} benchmark creates each element using
+ * {@link Instancio#create(Model)}, which builds a new engine for every call,
+ * as {@code stream()} did before the engine was shared by all elements.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class StreamBenchmark {
+
+    private static final int ELEMENTS = 1000;
+
+    private Model<Person> model;
+
+    @Setup
+    public void setup() {
+        model = Instancio.of(Person.class).withSeed(1).toModel();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ELEMENTS)
+    public void enginePerElement(final Blackhole blackhole) {
+        for (int i = 0; i < ELEMENTS; i++) {
+            blackhole.consume(Instancio.create(model));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ELEMENTS)
+    public void stream(final Blackhole blackhole) {
+        Instancio.stream(model).limit(ELEMENTS).forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ELEMENTS)
+    public void parallelStream(final Blackhole blackhole) {
+        Instancio.stream(model).parallel().limit(ELEMENTS).forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ELEMENTS)
+    public void createList(final Blackhole blackhole) {
+        blackhole.consume(Instancio.of(model).createList(ELEMENTS));
+    }
+}
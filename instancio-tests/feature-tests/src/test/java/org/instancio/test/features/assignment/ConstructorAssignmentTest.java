@@ -0,0 +1,182 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.test.features.assignment;
+
+import org.instancio.Instancio;
+import org.instancio.assignment.AssignmentType;
+import org.instancio.internal.util.SystemProperties;
+import org.instancio.junit.InstancioExtension;
+import org.instancio.settings.Keys;
+import org.instancio.settings.Settings;
+import org.instancio.test.support.tags.Feature;
+import org.instancio.test.support.tags.FeatureTag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledIfSystemProperty;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.instancio.Select.all;
+import static org.instancio.Select.allStrings;
+import static org.instancio.Select.field;
+
+@FeatureTag(Feature.ASSIGNMENT)
+@ExtendWith(InstancioExtension.class)
+@DisabledIfSystemProperty(named = SystemProperties.ASSIGNMENT_TYPE, matches = "FIELD|METHOD")
+class ConstructorAssignmentTest {
+
+    private static final long SEED = 123;
+
+    private static final Settings SETTINGS = Settings.create()
+            .set(Keys.ASSIGNMENT_TYPE, AssignmentType.CONSTRUCTOR);
+
+    private static class Item {
+        private final String name;
+        private final int quantity;
+        private final List<String> tags;
+
+        Item(final String name, final int quantity, final List<String> tags) {
+            this.name = name;
+            this.quantity = quantity;
+            this.tags = tags == null ? null : Collections.unmodifiableList(new ArrayList<>(tags));
+        }
+    }
+
+    private static class Name {
+        private final String first;
+        private final String last;
+
+        Name(final String last, final String first) {
+            this.first = first;
+            this.last = last;
+        }
+    }
+
+    private static class Shipment {
+        private final Item item;
+        private final Name recipient;
+
+        Shipment(final Item item, final Name recipient) {
+            this.item = item;
+            this.recipient = recipient;
+        }
+    }
+
+    private static class Order {
+        private final Item item;
+        private String comment;
+
+        Order(final Item item) {
+            this.item = item;
+        }
+    }
+
+    @Test
+    void shouldCreateObjectViaConstructor() {
+        final Item result = Instancio.of(Item.class)
+                .withSettings(SETTINGS)
+                .create();
+
+        assertThat(result.name).isNotBlank();
+        assertThat(result.quantity).isPositive();
+        assertThat(result.tags).isNotEmpty();
+        assertThat(result.tags.getClass().getName()).contains("Unmodifiable");
+    }
+
+    @Test
+    void shouldPassSelectedValuesToConstructor() {
+        final Item result = Instancio.of(Item.class)
+                .withSettings(SETTINGS)
+                .set(field(Item.class, "name"), "foo")
+                .ignore(field(Item.class, "quantity"))
+                .set(field(Item.class, "tags"), null)
+                .create();
+
+        assertThat(result.name).isEqualTo("foo");
+        assertThat(result.quantity).isZero();
+        assertThat(result.tags).isNull();
+    }
+
+    @Test
+    void shouldNotMatchSameTypedFieldsByParameterOrder() {
+        final Name result = Instancio.of(Name.class)
+                .withSettings(SETTINGS)
+                .set(field(Name.class, "first"), "Bob")
+                .set(field(Name.class, "last"), "Smith")
+                .create();
+
+        assertThat(result.first).isEqualTo("Bob");
+        assertThat(result.last).isEqualTo("Smith");
+    }
+
+    @Test
+    void shouldFallBackToFieldAssignmentIfNoMatchingConstructor() {
+        final Order result = Instancio.of(Order.class)
+                .withSettings(SETTINGS)
+                .create();
+
+        assertThat(result.comment).isNotBlank();
+        assertThat(result.item.tags.getClass().getName()).contains("Unmodifiable");
+    }
+
+    @Test
+    void callbacksShouldBeInvokedInSameOrderAsWithFieldAssignment() {
+        final Settings fieldSettings = Settings.create().set(Keys.ASSIGNMENT_TYPE, AssignmentType.FIELD);
+
+        final List<String> expected = completedObjects(fieldSettings);
+
+        assertThat(completedObjects(SETTINGS))
+                .containsExactlyElementsOf(expected)
+                .contains(Shipment.class.getSimpleName(), Item.class.getSimpleName(), Name.class.getSimpleName());
+    }
+
+    private static List<String> completedObjects(final Settings settings) {
+        final List<String> completed = new ArrayList<>();
+        Instancio.of(Shipment.class)
+                .withSettings(settings)
+                .withSeed(SEED)
+                .onComplete(all(Shipment.class), (Shipment shipment) -> completed.add(Shipment.class.getSimpleName()))
+                .onComplete(all(Item.class), (Item item) -> completed.add(Item.class.getSimpleName()))
+                .onComplete(all(Name.class), (Name name) -> completed.add(Name.class.getSimpleName()))
+                .onComplete(allStrings(), (String s) -> completed.add(s))
+                .create();
+        return completed;
+    }
+
+    @Test
+    void userSuppliedObjectShouldTakePrecedence() {
+        final Item item = new Item("foo", 1, null);
+        final Order result = Instancio.of(Order.class)
+                .withSettings(SETTINGS)
+                .set(all(Item.class), item)
+                .create();
+
+        assertThat(result.item).isSameAs(item);
+    }
+
+    @Test
+    void ignoredObjectShouldNotBeCreated() {
+        final Order result = Instancio.of(Order.class)
+                .withSettings(SETTINGS)
+                .ignore(all(Item.class))
+                .create();
+
+        assertThat(result.item).isNull();
+    }
+}
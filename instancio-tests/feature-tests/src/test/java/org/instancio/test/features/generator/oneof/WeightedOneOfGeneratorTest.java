@@ -0,0 +1,178 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.test.features.generator.oneof;
+
+import org.instancio.Instancio;
+import org.instancio.exception.InstancioApiException;
+import org.instancio.junit.InstancioExtension;
+import org.instancio.test.support.pojo.person.Gender;
+import org.instancio.test.support.pojo.person.Person;
+import org.instancio.test.support.tags.Feature;
+import org.instancio.test.support.tags.FeatureTag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.instancio.Select.all;
+import static org.instancio.Select.allStrings;
+import static org.instancio.Select.field;
+
+@FeatureTag({Feature.GENERATE, Feature.WEIGHTED_ONE_OF_GENERATOR})
+@ExtendWith(InstancioExtension.class)
+class WeightedOneOfGeneratorTest {
+
+    private static final int SAMPLE_SIZE = 5000;
+
+    @Test
+    void singleChoice() {
+        final String result = Instancio.of(String.class)
+                .generate(allStrings(), gen -> gen.weightedOneOf().choice("one", 1))
+                .create();
+
+        assertThat(result).isEqualTo("one");
+    }
+
+    @Test
+    void enumWithWeights() {
+        final List<Person> results = Instancio.ofList(Person.class)
+                .size(SAMPLE_SIZE)
+                .generate(all(Gender.class), gen -> gen.weightedOneOf()
+                        .choice(Gender.MALE, 80)
+                        .choice(Gender.FEMALE, 15)
+                        .choice(Gender.OTHER, 5))
+                .create();
+
+        final Map<Gender, Long> counts = results.stream()
+                .collect(Collectors.groupingBy(Person::getGender, Collectors.counting()));
+
+        assertFrequency(counts.get(Gender.MALE), 0.80);
+        assertFrequency(counts.get(Gender.FEMALE), 0.15);
+        assertFrequency(counts.get(Gender.OTHER), 0.05);
+    }
+
+    @Test
+    void weightsFromMap() {
+        final Map<String, Integer> weights = new LinkedHashMap<>();
+        weights.put("US", 60);
+        weights.put("CA", 30);
+        weights.put("MX", 10);
+
+        final List<Person> results = Instancio.ofList(Person.class)
+                .size(SAMPLE_SIZE)
+                .generate(field(Person::getName), gen -> gen.weightedOneOf(weights))
+                .create();
+
+        final Map<String, Long> counts = results.stream()
+                .collect(Collectors.groupingBy(Person::getName, Collectors.counting()));
+
+        assertThat(counts).containsOnlyKeys(weights.keySet());
+        assertFrequency(counts.get("US"), 0.60);
+        assertFrequency(counts.get("CA"), 0.30);
+        assertFrequency(counts.get("MX"), 0.10);
+    }
+
+    @Test
+    void mapCombinedWithChoice() {
+        final Map<Gender, Double> weights = new EnumMap<>(Gender.class);
+        weights.put(Gender.MALE, 1d);
+
+        final List<Gender> results = Instancio.ofList(Gender.class)
+                .size(SAMPLE_SIZE)
+                .generate(all(Gender.class), gen -> gen.weightedOneOf(weights).choice(Gender.FEMALE, 3))
+                .create();
+
+        final Map<Gender, Long> counts = results.stream()
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+
+        assertThat(counts).containsOnlyKeys(Gender.MALE, Gender.FEMALE);
+        assertFrequency(counts.get(Gender.MALE), 0.25);
+        assertFrequency(counts.get(Gender.FEMALE), 0.75);
+    }
+
+    @Test
+    void duplicateChoicesShouldSumWeights() {
+        final List<String> results = Instancio.ofList(String.class)
+                .size(SAMPLE_SIZE)
+                .generate(allStrings(), gen -> gen.weightedOneOf()
+                        .choice("foo", 1)
+                        .choice("bar", 2)
+                        .choice("foo", 1))
+                .create();
+
+        assertFrequency(results.stream().filter("foo"::equals).count(), 0.5);
+    }
+
+    @Test
+    void zeroWeightShouldNeverBeSelected() {
+        final List<String> results = Instancio.ofList(String.class)
+                .size(SAMPLE_SIZE)
+                .generate(allStrings(), gen -> gen.weightedOneOf()
+                        .choice("never", 0)
+                        .choice("always", 1))
+                .create();
+
+        assertThat(results).containsOnly("always");
+    }
+
+    @Test
+    void negativeWeight() {
+        assertThatThrownBy(() -> Instancio.of(String.class)
+                .generate(allStrings(), gen -> gen.weightedOneOf().choice("foo", -1))
+                .create())
+                .isExactlyInstanceOf(InstancioApiException.class)
+                .hasMessage("Weight must be non-negative and finite: -1.0");
+    }
+
+    @Test
+    void noChoices() {
+        assertThatThrownBy(() -> Instancio.of(String.class)
+                .generate(allStrings(), gen -> gen.weightedOneOf())
+                .create())
+                .isExactlyInstanceOf(InstancioApiException.class)
+                .hasMessage("Weighted choices must have at least one element");
+    }
+
+    @Test
+    void allWeightsZero() {
+        assertThatThrownBy(() -> Instancio.of(String.class)
+                .generate(allStrings(), gen -> gen.weightedOneOf().choice("foo", 0))
+                .create())
+                .isExactlyInstanceOf(InstancioApiException.class)
+                .hasMessage("Sum of weights must be positive and finite: 0.0");
+    }
+
+    @Test
+    void choicesNotAssignableToTargetType() {
+        assertThatThrownBy(() -> Instancio.of(Person.class)
+                .generate(field(Person::getAge), gen -> gen.weightedOneOf().choice("foo", 1))
+                .create())
+                .isExactlyInstanceOf(InstancioApiException.class)
+                .hasMessageContaining("Method 'weightedOneOf()' cannot be used for type: int");
+    }
+
+    private static void assertFrequency(final long count, final double expected) {
+        assertThat((double) count / SAMPLE_SIZE).isCloseTo(expected, within(0.05));
+    }
+}
@@ -16,17 +16,26 @@
 package org.instancio.test.features.oncomplete;
 
 import org.instancio.Instancio;
+import org.instancio.internal.util.SystemProperties;
 import org.instancio.test.support.pojo.basic.StringHolder;
+import org.instancio.test.support.pojo.misc.StringAndPrimitiveFields;
+import org.instancio.test.support.pojo.misc.StringFields;
 import org.instancio.test.support.tags.Feature;
 import org.instancio.test.support.tags.FeatureTag;
 import org.junit.jupiter.api.Test;
+import org.junitpioneer.jupiter.SetSystemProperty;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.instancio.Select.allInts;
 import static org.instancio.Select.allStrings;
+import static org.instancio.Select.field;
 
 @FeatureTag({
         Feature.GENERATOR,
@@ -56,4 +65,35 @@ class OnCompleteStreamTest {
         assertThat(callbacksCount.get()).isEqualTo(100);
     }
 
+    /**
+     * Results collected for callbacks must not leak from an element
+     * whose generation failed (and the error was suppressed)
+     * into the callbacks of the next element.
+     */
+    @Test
+    @SetSystemProperty(key = SystemProperties.FAIL_ON_ERROR, value = "false")
+    void callbacksShouldNotBeInvokedWithResultsOfFailedElements() {
+        final AtomicInteger counter = new AtomicInteger();
+        final List<Integer> callbackResults = new ArrayList<>();
+
+        final List<StringAndPrimitiveFields> result = Instancio.of(StringAndPrimitiveFields.class)
+                .supply(field(StringFields.class, "four"), () -> {
+                    if (counter.incrementAndGet() % 2 == 0) {
+                        throw new IllegalStateException("expected error");
+                    }
+                    return "foo";
+                })
+                .onComplete(allInts(), (Integer i) -> callbackResults.add(i))
+                .stream()
+                .limit(10)
+                .collect(toList());
+
+        final List<Integer> expected = result.stream()
+                .filter(Objects::nonNull)
+                .flatMap(obj -> Stream.of(obj.getIntOne(), obj.getIntTwo(), obj.getIntThree(), obj.getIntFour()))
+                .collect(toList());
+
+        assertThat(result).hasSize(10).containsNull();
+        assertThat(callbackResults).containsExactlyInAnyOrderElementsOf(expected);
+    }
 }
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.test.features.populator;
+
+import org.instancio.internal.reflection.Populators;
+import org.instancio.test.support.pojo.person.Person;
+import org.instancio.test.support.tags.Feature;
+import org.instancio.test.support.tags.FeatureTag;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Feature tests are compiled without the {@code instancio.populators} option,
+ * so that they cover the default, reflection-based assignment of fields.
+ * Populators are covered by a separate test module.
+ */
+@FeatureTag(Feature.POPULATOR)
+class ReflectionAssignmentTest {
+
+    @Test
+    void populatorsShouldNotBeGeneratedByDefault() {
+        // Person is listed in @InstancioMetamodel
+        assertThat(Populators.get(Person.class)).isNull();
+    }
+}
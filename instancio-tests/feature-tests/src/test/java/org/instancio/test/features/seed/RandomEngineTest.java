@@ -0,0 +1,96 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.test.features.seed;
+
+import org.instancio.Instancio;
+import org.instancio.RandomEngineType;
+import org.instancio.settings.Keys;
+import org.instancio.settings.Settings;
+import org.instancio.test.support.pojo.person.Person;
+import org.instancio.test.support.tags.Feature;
+import org.instancio.test.support.tags.FeatureTag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.List;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@FeatureTag({Feature.RANDOM_ENGINE, Feature.WITH_SEED})
+class RandomEngineTest {
+
+    private static final long SEED = 123;
+    private static final int LIMIT = 10;
+
+    private static Settings engine(final RandomEngineType engineType) {
+        return Settings.create().set(Keys.RANDOM_ENGINE, engineType);
+    }
+
+    private static Person create(final RandomEngineType engineType) {
+        return Instancio.of(Person.class)
+                .withSettings(engine(engineType))
+                .withSeed(SEED)
+                .create();
+    }
+
+    @EnumSource(value = RandomEngineType.class, names = {"JDK", "SPLITTABLE", "XOROSHIRO128PP"})
+    @ParameterizedTest
+    void shouldProduceSameObjectsGivenSameSeed(final RandomEngineType engineType) {
+        final Person result = create(engineType);
+
+        assertThat(result).isEqualTo(create(engineType));
+        assertThat(result.getName()).isNotBlank();
+        assertThat(result.getAddress().getPhoneNumbers()).isNotEmpty();
+    }
+
+    @EnumSource(value = RandomEngineType.class, names = {"JDK", "SPLITTABLE", "XOROSHIRO128PP"})
+    @ParameterizedTest
+    void streamShouldProduceSameObjectsGivenSameSeed(final RandomEngineType engineType) {
+        final List<Person> results = Instancio.of(Person.class)
+                .withSettings(engine(engineType))
+                .withSeed(SEED)
+                .stream()
+                .limit(LIMIT)
+                .collect(toList());
+
+        assertThat(results.get(0)).isEqualTo(create(engineType));
+        assertThat(results)
+                .doesNotHaveDuplicates()
+                .isEqualTo(Instancio.of(Person.class)
+                        .withSettings(engine(engineType))
+                        .withSeed(SEED)
+                        .stream()
+                        .limit(LIMIT)
+                        .collect(toList()));
+    }
+
+    @Test
+    void defaultEngineShouldBeJdk() {
+        final Person result = Instancio.of(Person.class).withSeed(SEED).create();
+
+        assertThat(result).isEqualTo(create(RandomEngineType.JDK));
+    }
+
+    @Test
+    void differentEnginesShouldProduceDifferentObjectsGivenSameSeed() {
+        final Person jdk = create(RandomEngineType.JDK);
+
+        assertThat(create(RandomEngineType.SPLITTABLE)).isNotEqualTo(jdk);
+        assertThat(create(RandomEngineType.XOROSHIRO128PP)).isNotEqualTo(jdk);
+    }
+}
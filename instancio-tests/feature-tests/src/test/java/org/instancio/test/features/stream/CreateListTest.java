@@ -0,0 +1,160 @@
+/*
+ *  Copyright 2022-2023 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.instancio.test.features.stream;
+
+import org.instancio.Instancio;
+import org.instancio.InstancioApi;
+import org.instancio.exception.InstancioApiException;
+import org.instancio.exception.UnusedSelectorException;
+import org.instancio.generator.Generator;
+import org.instancio.junit.InstancioExtension;
+import org.instancio.test.support.pojo.person.Address;
+import org.instancio.test.support.pojo.person.Person;
+import org.instancio.test.support.tags.Feature;
+import org.instancio.test.support.tags.FeatureTag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.instancio.Select.all;
+import static org.instancio.Select.allStrings;
+import static org.instancio.Select.field;
+
+@FeatureTag({Feature.STREAM, Feature.ON_COMPLETE, Feature.MODE})
+@ExtendWith(InstancioExtension.class)
+class CreateListTest {
+
+    private static final int SIZE = 100;
+
+    @Test
+    void createList() {
+        final List<Person> results = Instancio.of(Person.class)
+                .set(field(Person::getName), "foo")
+                .createList(SIZE);
+
+        assertThat(results)
+                .hasSize(SIZE)
+                .doesNotContainNull()
+                .doesNotHaveDuplicates()
+                .allSatisfy(person -> assertThat(person.getName()).isEqualTo("foo"));
+    }
+
+    @Test
+    void shouldContainSameObjectsAsStreamGivenSameSeed() {
+        final long seed = Instancio.create(long.class);
+
+        final List<Person> streamed = Instancio.of(Person.class)
+                .withSeed(seed)
+                .stream()
+                .limit(SIZE)
+                .collect(toList());
+
+        final List<Person> results = Instancio.of(Person.class)
+                .withSeed(seed)
+                .createList(SIZE);
+
+        assertThat(results).isEqualTo(streamed);
+    }
+
+    @Test
+    void emptyList() {
+        assertThat(Instancio.of(Person.class).createList(0)).isEmpty();
+    }
+
+    @Test
+    void negativeSize() {
+        assertThatThrownBy(() -> Instancio.of(Person.class).createList(-1))
+                .isExactlyInstanceOf(InstancioApiException.class)
+                .hasMessage("Size must not be negative: -1");
+    }
+
+    @Test
+    void callbacksShouldBeInvokedOnceForEachObject() {
+        final List<Person> completed = new ArrayList<>();
+
+        final List<Person> results = Instancio.of(Person.class)
+                .onComplete(all(Person.class), (Person person) -> completed.add(person))
+                .createList(SIZE);
+
+        assertThat(completed).containsExactlyElementsOf(results);
+    }
+
+    @Test
+    void modelShouldBeCreatedOncePerBatch() {
+        final AtomicInteger specCount = new AtomicInteger();
+
+        final List<Person> results = Instancio.of(Person.class)
+                .generate(field(Person::getName), gen -> {
+                    specCount.incrementAndGet();
+                    return gen.string().prefix("foo");
+                })
+                .createList(SIZE);
+
+        assertThat(results).allSatisfy(person -> assertThat(person.getName()).startsWith("foo"));
+        assertThat(specCount.get()).isOne();
+    }
+
+    @Test
+    void selectorUsedByLaterObjectShouldNotBeReported() {
+        final List<Person> results = Instancio.of(Person.class)
+                .supply(all(Person.class), addressOnlyForFirstObject())
+                .set(field(Address::getCity), "foo")
+                .createList(SIZE);
+
+        // the existing address is not populated, therefore the selector is not used by the first object
+        assertThat(results.get(0).getAddress().getCity()).isNull();
+        assertThat(results.subList(1, SIZE))
+                .allSatisfy(person -> assertThat(person.getAddress().getCity()).isEqualTo("foo"));
+    }
+
+    @Test
+    void streamShouldReportSelectorUnusedByFirstObject() {
+        final Stream<Person> stream = Instancio.of(Person.class)
+                .supply(all(Person.class), addressOnlyForFirstObject())
+                .set(field(Address::getCity), "foo")
+                .stream()
+                .limit(SIZE);
+
+        assertThatThrownBy(() -> stream.collect(toList()))
+                .isExactlyInstanceOf(UnusedSelectorException.class);
+    }
+
+    private static Generator<Person> addressOnlyForFirstObject() {
+        final AtomicInteger count = new AtomicInteger();
+        return random -> {
+            final Person person = new Person();
+            if (count.getAndIncrement() == 0) {
+                person.setAddress(new Address());
+            }
+            return person;
+        };
+    }
+
+    @Test
+    void unusedSelectorsShouldBeReported() {
+        final InstancioApi<Integer> api = Instancio.of(Integer.class).ignore(allStrings());
+
+        assertThatThrownBy(() -> api.createList(SIZE))
+                .isExactlyInstanceOf(UnusedSelectorException.class);
+    }
+}
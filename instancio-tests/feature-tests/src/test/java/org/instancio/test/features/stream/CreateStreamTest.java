@@ -16,9 +16,12 @@
 package org.instancio.test.features.stream;
 
 import org.instancio.Instancio;
+import org.instancio.InstancioApi;
 import org.instancio.Model;
 import org.instancio.TypeToken;
+import org.instancio.exception.InstancioApiException;
 import org.instancio.junit.InstancioExtension;
+import org.instancio.test.support.pojo.person.Person;
 import org.instancio.test.support.pojo.person.Phone;
 import org.instancio.test.support.tags.Feature;
 import org.instancio.test.support.tags.FeatureTag;
@@ -32,6 +35,7 @@ import java.util.stream.Stream;
 
 import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.instancio.Select.allStrings;
 import static org.instancio.Select.field;
 
@@ -130,6 +134,21 @@ class CreateStreamTest {
         }
     }
 
+    @Test
+    void eachElementShouldBeNewInstance() {
+        final List<Person> results = Instancio.of(Person.class)
+                .stream()
+                .limit(LIMIT)
+                .collect(toList());
+
+        assertThat(results)
+                .doesNotContainNull()
+                .doesNotHaveDuplicates()
+                .extracting(Person::getAddress)
+                .doesNotContainNull()
+                .doesNotHaveDuplicates();
+    }
+
     @Test
     void withSeed() {
         final long seed = Instancio.create(long.class);
@@ -148,4 +167,90 @@ class CreateStreamTest {
 
         assertThat(list1).isEqualTo(list2).hasSize(LIMIT);
     }
-}
\ No newline at end of file
+
+    @Test
+    void parallelStreamShouldProduceSameElementsAsSequential() {
+        final long seed = Instancio.create(long.class);
+
+        final List<Person> sequential = Instancio.of(Person.class)
+                .withSeed(seed)
+                .stream()
+                .limit(LIMIT)
+                .collect(toList());
+
+        final List<Person> parallel = Instancio.of(Person.class)
+                .withSeed(seed)
+                .stream()
+                .parallel()
+                .limit(LIMIT)
+                .collect(toList());
+
+        assertThat(parallel).isEqualTo(sequential).hasSize(LIMIT);
+    }
+
+    @Test
+    void firstElementShouldBeSameAsCreatedObjectGivenSameSeed() {
+        final long seed = Instancio.create(long.class);
+
+        final Person created = Instancio.of(Person.class).withSeed(seed).create();
+        final Person streamed = Instancio.of(Person.class).withSeed(seed).stream().findFirst().orElse(null);
+
+        assertThat(streamed).isEqualTo(created);
+    }
+
+    @Nested
+    class IndexedStreamTest {
+        private final long seed = Instancio.create(long.class);
+
+        private final List<Person> expected = Instancio.of(Person.class)
+                .withSeed(seed)
+                .stream()
+                .limit(LIMIT)
+                .collect(toList());
+
+        @Test
+        void createAt() {
+            for (int i = 0; i < LIMIT; i += 10) {
+                final Person result = Instancio.of(Person.class).withSeed(seed).createAt(i);
+                assertThat(result).isEqualTo(expected.get(i));
+            }
+        }
+
+        @Test
+        void streamRange() {
+            final List<Person> results = Instancio.of(Person.class)
+                    .withSeed(seed)
+                    .stream(LIMIT / 4, LIMIT / 2)
+                    .collect(toList());
+
+            assertThat(results).isEqualTo(expected.subList(LIMIT / 4, LIMIT / 2));
+        }
+
+        @Test
+        void emptyStreamRange() {
+            assertThat(Instancio.of(Person.class).stream(LIMIT, LIMIT)).isEmpty();
+        }
+
+        @Test
+        void negativeIndex() {
+            final InstancioApi<Person> api = Instancio.of(Person.class);
+
+            assertThatThrownBy(() -> api.createAt(-1))
+                    .isExactlyInstanceOf(InstancioApiException.class)
+                    .hasMessage("Index must not be negative: -1");
+
+            assertThatThrownBy(() -> api.stream(-1, 1))
+                    .isExactlyInstanceOf(InstancioApiException.class)
+                    .hasMessage("Index must not be negative: -1");
+        }
+
+        @Test
+        void startIndexGreaterThanEndIndex() {
+            final InstancioApi<Person> api = Instancio.of(Person.class);
+
+            assertThatThrownBy(() -> api.stream(2, 1))
+                    .isExactlyInstanceOf(InstancioApiException.class)
+                    .hasMessage("Start index must not be greater than end index: 2, 1");
+        }
+    }
+}
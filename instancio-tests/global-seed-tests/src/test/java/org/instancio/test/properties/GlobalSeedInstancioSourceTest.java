@@ -64,7 +64,10 @@ class GlobalSeedInstancioSourceTest {
         assertThat(nonParam1.get()).isEqualTo(param1);
         assertThat(nonParam1.getSeed()).isEqualTo(ANNOTATION_SEED);
 
-        assertThat(nonParam2.get()).isEqualTo(param2);
+        // param2 is generated using a seed derived from the annotation seed
+        // and the parameter's index, therefore it differs from nonParam2,
+        // which continues the sequence of the reset Random instance
+        assertThat(nonParam2.get()).isNotEqualTo(param2);
         assertThat(nonParam2.getSeed()).isEqualTo(ANNOTATION_SEED);
     }
 }
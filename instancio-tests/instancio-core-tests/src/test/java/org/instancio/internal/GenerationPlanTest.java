@@ -0,0 +1,93 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal;
+
+import org.instancio.internal.context.SubtypeSelectorMap;
+import org.instancio.internal.nodes.Node;
+import org.instancio.internal.nodes.NodeContext;
+import org.instancio.internal.nodes.NodeFactory;
+import org.instancio.test.support.pojo.person.Person;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GenerationPlanTest {
+
+    private static final NodeFactory NODE_FACTORY = new NodeFactory(NodeContext.builder()
+            .subtypeSelectorMap(new SubtypeSelectorMap(Collections.emptyMap()))
+            .build());
+
+    private final Node rootNode = NODE_FACTORY.createRootNode(Person.class);
+    private final GenerationPlan plan = GenerationPlan.compile(rootNode);
+
+    @Test
+    void rootNodeShouldBeAtIndexZero() {
+        assertThat(plan.getRoot()).isZero();
+        assertThat(plan.getNode(plan.getRoot())).isSameAs(rootNode);
+        assertThat(plan.getOp(plan.getRoot())).isEqualTo(GenerationPlan.Op.POJO);
+    }
+
+    @Test
+    void childIndexesShouldMatchNodeChildren() {
+        for (int i = 0; i < plan.size(); i++) {
+            final List<Node> children = new ArrayList<>();
+            for (int child : plan.getChildren(i)) {
+                assertThat(child).isGreaterThan(i);
+                children.add(plan.getNode(child));
+            }
+            assertThat(children).isEqualTo(plan.getNode(i).getChildren());
+        }
+    }
+
+    @Test
+    void shouldResolveOperations() {
+        assertThat(getOp("name")).isEqualTo(GenerationPlan.Op.VALUE);
+        assertThat(getOp("age")).isEqualTo(GenerationPlan.Op.VALUE);
+        assertThat(getOp("address")).isEqualTo(GenerationPlan.Op.POJO);
+        assertThat(getOp("phoneNumbers")).isEqualTo(GenerationPlan.Op.COLLECTION);
+        assertThat(getOp("pets")).isEqualTo(GenerationPlan.Op.ARRAY);
+    }
+
+    @Test
+    void getOnlyChild() {
+        final int pets = indexOf("pets");
+        assertThat(plan.getNode(plan.getOnlyChild(pets)).getTargetClass())
+                .isEqualTo(plan.getNode(pets).getTargetClass().getComponentType());
+
+        assertThatThrownBy(() -> plan.getOnlyChild(plan.getRoot()))
+                .isExactlyInstanceOf(IllegalStateException.class)
+                .hasMessageStartingWith("Expected one child, but were");
+    }
+
+    private GenerationPlan.Op getOp(final String fieldName) {
+        return plan.getOp(indexOf(fieldName));
+    }
+
+    private int indexOf(final String fieldName) {
+        for (int i = 0; i < plan.size(); i++) {
+            final Node node = plan.getNode(i);
+            if (node.getField() != null && node.getField().getName().equals(fieldName)) {
+                return i;
+            }
+        }
+        throw new AssertionError("No node for field: " + fieldName);
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal;
+
+import org.instancio.Instancio;
+import org.instancio.generator.GeneratorContext;
+import org.instancio.generator.Hints;
+import org.instancio.internal.context.ModelContext;
+import org.instancio.internal.generator.GeneratorResolver;
+import org.instancio.internal.generator.GeneratorResult;
+import org.instancio.internal.handlers.NodeHandler;
+import org.instancio.internal.nodes.Node;
+import org.instancio.test.support.pojo.person.Person;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class GeneratorFacadeTest {
+
+    private static final GeneratorResult RESULT = GeneratorResult.create("foo", Hints.builder().build());
+
+    private final NodeHandler first = mock(NodeHandler.class);
+    private final NodeHandler second = mock(NodeHandler.class);
+    private final NodeHandler third = mock(NodeHandler.class);
+
+    private Node node;
+    private GeneratorFacade generatorFacade;
+
+    @BeforeEach
+    void setUp() {
+        final InternalModel<Person> model = (InternalModel<Person>) Instancio.of(Person.class).toModel();
+        final ModelContext<?> context = model.getModelContext();
+        final GeneratorResolver generatorResolver = new GeneratorResolver(
+                new GeneratorContext(context.getSettings(), context.getRandom()));
+
+        node = model.getRootNode();
+        generatorFacade = new GeneratorFacade(context, generatorResolver, Arrays.asList(first, second, third));
+    }
+
+    @Test
+    void shouldBindHandlerThatProducedResult() {
+        when(second.getResult(node)).thenReturn(RESULT);
+
+        assertThat(generatorFacade.generateNodeValue(node)).isSameAs(RESULT);
+        assertThat(generatorFacade.generateNodeValue(node)).isSameAs(RESULT);
+        assertThat(generatorFacade.generateNodeValue(node)).isSameAs(RESULT);
+
+        verify(first, times(1)).getResult(node);
+        verify(second, times(3)).getResult(node);
+        verify(third, times(0)).getResult(node);
+    }
+
+    @Test
+    void shouldEvaluateChainIfBoundHandlerProducesNoResult() {
+        when(second.getResult(node)).thenReturn(RESULT).thenReturn(null);
+        when(third.getResult(node)).thenReturn(RESULT);
+
+        assertThat(generatorFacade.generateNodeValue(node)).isSameAs(RESULT);
+        assertThat(generatorFacade.generateNodeValue(node)).isSameAs(RESULT);
+        assertThat(generatorFacade.generateNodeValue(node)).isSameAs(RESULT);
+
+        // second call: bound handler, then the chain
+        verify(first, times(2)).getResult(node);
+        verify(second, times(3)).getResult(node);
+        // third call: 'third' is now bound
+        verify(third, times(2)).getResult(node);
+    }
+
+    @Test
+    void shouldReturnNullIfNoHandlerProducesResult() {
+        assertThat(generatorFacade.generateNodeValue(node)).isNull();
+        assertThat(generatorFacade.generateNodeValue(node)).isNull();
+
+        verify(first, times(2)).getResult(node);
+        verify(second, times(2)).getResult(node);
+        verify(third, times(2)).getResult(node);
+    }
+}
@@ -24,6 +24,7 @@ import org.instancio.internal.generator.lang.StringGenerator;
 import org.instancio.internal.generator.util.CollectionGenerator;
 import org.instancio.internal.generator.util.EnumSetGenerator;
 import org.instancio.internal.generator.util.MapGenerator;
+import org.instancio.internal.generator.util.WeightedOneOfGenerator;
 import org.instancio.internal.random.DefaultRandom;
 import org.instancio.settings.Settings;
 import org.instancio.test.support.pojo.generics.foobarbaz.Foo;
@@ -54,6 +55,13 @@ class GeneratorSupportTest {
     private final Generator<?> enumSetGenerator = new EnumSetGenerator<>(context, Gender.class);
     private final Generator<?> collectionGenerator = new CollectionGenerator<>(context);
     private final MapGenerator<?, ?> mapGenerator = new MapGenerator<>(context);
+    private final WeightedOneOfGenerator<Integer> weightedIntegerGenerator = new WeightedOneOfGenerator<>(context);
+    private final WeightedOneOfGenerator<Gender> weightedEnumGenerator = new WeightedOneOfGenerator<>(context);
+
+    GeneratorSupportTest() {
+        weightedIntegerGenerator.choice(1, 1);
+        weightedEnumGenerator.choice(Gender.MALE, 1);
+    }
 
     @Test
     void supportsIsTrue() {
@@ -64,6 +72,8 @@ class GeneratorSupportTest {
         assertSupportsAll(collectionGenerator, Collection.class, List.class, Set.class, SortedSet.class, HashSet.class);
         assertSupportsAll(mapGenerator, Map.class, TreeMap.class, HashMap.class);
         assertSupportsAll(stringGenerator, String.class);
+        assertSupportsAll(weightedIntegerGenerator, int.class, Integer.class, Number.class, Object.class);
+        assertSupportsAll(weightedEnumGenerator, Gender.class, Enum.class);
     }
 
     @Test
@@ -75,6 +85,8 @@ class GeneratorSupportTest {
         assertSupportsNone(enumSetGenerator, Object.class, Foo.class, Gender.class, Collection.class);
         assertSupportsNone(mapGenerator, Object.class, Collection.class);
         assertSupportsNone(stringGenerator, CharSequence.class, StringBuilder.class);
+        assertSupportsNone(weightedIntegerGenerator, long.class, String.class);
+        assertSupportsNone(weightedEnumGenerator, String.class);
     }
 
     private static void assertSupportsAll(final Generator<?> generator, final Class<?>... types) {
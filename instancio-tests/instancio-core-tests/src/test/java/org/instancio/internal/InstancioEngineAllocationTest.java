@@ -0,0 +1,118 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal;
+
+import org.instancio.Instancio;
+import org.instancio.test.support.pojo.basic.PrimitiveFields;
+import org.instancio.test.support.pojo.basic.StringHolder;
+import org.instancio.test.support.pojo.person.Person;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.lang.management.ManagementFactory;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assumptions.assumeThat;
+import static org.instancio.Select.allBooleans;
+import static org.instancio.Select.allBytes;
+import static org.instancio.Select.allChars;
+import static org.instancio.Select.allDoubles;
+import static org.instancio.Select.allFloats;
+import static org.instancio.Select.allInts;
+import static org.instancio.Select.allLongs;
+import static org.instancio.Select.allShorts;
+import static org.instancio.Select.allStrings;
+
+/**
+ * Fails if the number of bytes allocated per generated object regresses.
+ * <p>
+ * All leaf values are set to constants, so that the allocations measured
+ * are those of the generated POJOs and of the engine itself. The limits
+ * leave less headroom than one additional object per node, for example,
+ * an {@code Optional} wrapping each result.
+ * <p>
+ * This test is run by a separate surefire execution with escape analysis
+ * disabled, since otherwise the allocations measured depend on what the
+ * JIT compiler has inlined.
+ */
+class InstancioEngineAllocationTest {
+
+    private static final int WARM_UP_ITERATIONS = 20_000;
+    private static final int ITERATIONS = 10_000;
+    private static final int ROUNDS = 5;
+
+    private static com.sun.management.ThreadMXBean threadBean;
+
+    @BeforeAll
+    static void beforeAll() {
+        assumeThat(ManagementFactory.getThreadMXBean())
+                .as("Allocated bytes are reported by HotSpot's ThreadMXBean only")
+                .isInstanceOf(com.sun.management.ThreadMXBean.class);
+
+        threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeThat(threadBean.isThreadAllocatedMemorySupported()).isTrue();
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    private static Stream<Arguments> bytesPerObjectLimits() {
+        return Stream.of(
+                Arguments.of(StringHolder.class, 336),
+                Arguments.of(PrimitiveFields.class, 864),
+                Arguments.of(Person.class, 6656));
+    }
+
+    @MethodSource("bytesPerObjectLimits")
+    @ParameterizedTest(name = "{0}: {1} bytes")
+    void bytesAllocatedPerObject(final Class<?> klass, final int maxBytesPerObject) {
+        final InstancioEngine engine = new InstancioEngine(createModel(klass));
+
+        for (int i = 0; i < WARM_UP_ITERATIONS; i++) {
+            engine.createRootObject();
+        }
+
+        // the minimum of several rounds excludes allocations made while compiling
+        long minBytes = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            final long before = threadBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+            for (int i = 0; i < ITERATIONS; i++) {
+                engine.createRootObject();
+            }
+            final long after = threadBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+            minBytes = Math.min(minBytes, after - before);
+        }
+
+        assertThat(minBytes / ITERATIONS).isLessThanOrEqualTo(maxBytesPerObject);
+    }
+
+    private static InternalModel<?> createModel(final Class<?> klass) {
+        return (InternalModel<?>) Instancio.of(klass)
+                .withSeed(1)
+                .lenient()
+                .set(allStrings(), "foo")
+                .set(allInts(), 1)
+                .set(allLongs(), 1L)
+                .set(allShorts(), (short) 1)
+                .set(allBytes(), (byte) 1)
+                .set(allFloats(), 1f)
+                .set(allDoubles(), 1d)
+                .set(allBooleans(), true)
+                .set(allChars(), 'a')
+                .toModel();
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal;
+
+import org.instancio.Instancio;
+import org.instancio.TypeTokenSupplier;
+import org.instancio.settings.Keys;
+import org.instancio.settings.Settings;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.FutureTask;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InstancioEngineTest {
+
+    private static final int DEPTH = 1000;
+    private static final long LARGE_STACK_SIZE = 256L * 1024 * 1024;
+    private static final long SMALL_STACK_SIZE = 128L * 1024;
+
+    /**
+     * Building the node tree is recursive, therefore the model is created
+     * using a thread with a large stack. The object is then generated
+     * using a thread with a stack that is too small for recursing the tree.
+     */
+    @Test
+    void shouldGenerateDeepObjectGraphWithoutRecursion() throws Exception {
+        final Type type = nestedListType(DEPTH);
+
+        final InternalModel<List<?>> model = callWithStackSize(LARGE_STACK_SIZE, () ->
+                (InternalModel<List<?>>) Instancio.of((TypeTokenSupplier<List<?>>) () -> type)
+                        .withSettings(Settings.create()
+                                .set(Keys.COLLECTION_MIN_SIZE, 1)
+                                .set(Keys.COLLECTION_MAX_SIZE, 1))
+                        .toModel());
+
+        final List<?> result = callWithStackSize(SMALL_STACK_SIZE,
+                () -> new InstancioEngine(model).createRootObject());
+
+        int depth = 0;
+        Object current = result;
+        while (current instanceof List) {
+            assertThat((List<?>) current).hasSize(1);
+            current = ((List<?>) current).get(0);
+            depth++;
+        }
+        assertThat(depth).isEqualTo(DEPTH);
+        assertThat(current).isInstanceOf(String.class);
+    }
+
+    /**
+     * Creates a type such as {@code List<List<List<String>>>}. The types are
+     * only equal to themselves, so that comparing them does not recurse either.
+     */
+    private static Type nestedListType(final int depth) {
+        Type type = String.class;
+        for (int i = 0; i < depth; i++) {
+            final Type elementType = type;
+            type = new ParameterizedType() {
+                @Override
+                public Type[] getActualTypeArguments() {
+                    return new Type[]{elementType};
+                }
+
+                @Override
+                public Type getRawType() {
+                    return List.class;
+                }
+
+                @Override
+                public Type getOwnerType() {
+                    return null;
+                }
+            };
+        }
+        return type;
+    }
+
+    private static <T> T callWithStackSize(final long stackSize, final Callable<T> callable) throws Exception {
+        final FutureTask<T> task = new FutureTask<>(callable);
+        final Thread thread = new Thread(null, task, InstancioEngineTest.class.getSimpleName(), stackSize);
+        thread.start();
+        thread.join();
+        return task.get();
+    }
+}
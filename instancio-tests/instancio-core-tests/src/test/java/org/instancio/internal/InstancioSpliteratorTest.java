@@ -0,0 +1,88 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal;
+
+import org.instancio.exception.UnusedSelectorException;
+import org.instancio.internal.context.ModelContext;
+import org.instancio.internal.random.SplitRandom;
+import org.instancio.test.support.pojo.person.Phone;
+import org.junit.jupiter.api.Test;
+
+import java.util.Spliterator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.instancio.Select.all;
+import static org.instancio.Select.field;
+
+class InstancioSpliteratorTest {
+
+    private static final long SEED = 123;
+
+    private final ModelContext<Phone> context = ModelContext.<Phone>builder(Phone.class)
+            .withSeed(SEED)
+            .withSupplier(field(Phone::getNumber), () -> "foo")
+            .buildSplittable();
+
+    private final InternalModel<Phone> model = new InternalModel<>(context);
+
+    @Test
+    void splitsShouldShareUnusedSelectorTracking() {
+        final InstancioSpliterator<Phone> suffix = new InstancioSpliterator<>(model, SEED, 0, 4);
+        final Spliterator<Phone> prefix = suffix.trySplit();
+        assertThat(prefix).isNotNull();
+
+        // the selector is used by one split only
+        final Phone phone = suffix.createObject(3);
+
+        assertThat(phone.getNumber()).isEqualTo("foo");
+        context.reportUnusedSelectorWarnings(); // should not throw
+    }
+
+    @Test
+    void unusedSelectorShouldBeReportedFromSharedContext() {
+        final ModelContext<Phone> ctx = ModelContext.<Phone>builder(Phone.class)
+                .withSupplier(all(Long.class), () -> 1L)
+                .buildSplittable();
+
+        final InstancioSpliterator<Phone> spliterator = new InstancioSpliterator<>(new InternalModel<>(ctx), SEED, 0, 2);
+
+        assertThatThrownBy(() -> spliterator.createObject(0))
+                .isExactlyInstanceOf(UnusedSelectorException.class);
+    }
+
+    @Test
+    void shouldRestoreUnboundRandomAfterCreatingObject() {
+        final SplitRandom random = (SplitRandom) context.getRandom();
+        final InstancioSpliterator<Phone> spliterator = new InstancioSpliterator<>(model, SEED, 0, 2);
+
+        spliterator.createObject(1);
+
+        assertThat(random.bind(null)).isNull();
+    }
+
+    @Test
+    void objectAtIndexShouldNotDependOnSplit() {
+        final InstancioSpliterator<Phone> suffix = new InstancioSpliterator<>(model, SEED, 0, 4);
+        final InstancioSpliterator<Phone> prefix = (InstancioSpliterator<Phone>) suffix.trySplit();
+        assertThat(prefix).isNotNull();
+
+        final Phone fromPrefix = prefix.createObject(2);
+        final Phone fromSuffix = suffix.createObject(2);
+
+        assertThat(fromSuffix).isEqualTo(fromPrefix);
+    }
+}
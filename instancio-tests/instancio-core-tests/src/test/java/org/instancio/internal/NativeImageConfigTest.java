@@ -0,0 +1,134 @@
+/*
+ *  Copyright 2022-2023 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.instancio.internal;
+
+import org.instancio.generator.Generator;
+import org.instancio.generator.GeneratorContext;
+import org.instancio.internal.generator.GeneratorResolver;
+import org.instancio.internal.generator.InternalGeneratorHint;
+import org.instancio.internal.random.DefaultRandom;
+import org.instancio.settings.Settings;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Queue;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.TransferQueue;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that the native-image metadata shipped with instancio-core
+ * refers to classes and constructors that exist.
+ */
+class NativeImageConfigTest {
+    private static final String CONFIG_DIR = "META-INF/native-image/org.instancio/instancio-core/";
+    private static final Pattern NAME = Pattern.compile("\"name\": \"([^\"<]+)\"");
+    private static final Pattern NO_ARG_CONSTRUCTOR = Pattern.compile(
+            "\"name\": \"([^\"<]+)\",\\s*\"methods\": \\[\\{\"name\": \"<init>\", \"parameterTypes\": \\[]}]");
+    private static final Pattern PATTERN = Pattern.compile("\"pattern\": \"\\\\+Q([^\\\\]+)\\\\+E\"");
+
+    @Test
+    void reflectConfig() throws Exception {
+        final String config = readResource(CONFIG_DIR + "reflect-config.json");
+        final List<String> classNames = findAll(NAME, config);
+
+        assertThat(classNames).isNotEmpty();
+
+        for (String className : classNames) {
+            final Class<?> klass = Class.forName(className);
+            if (className.startsWith("org.instancio")) {
+                assertThat(klass.getConstructor(GeneratorContext.class)).isNotNull();
+            }
+        }
+        for (String className : findAll(NO_ARG_CONSTRUCTOR, config)) {
+            assertThat(Class.forName(className).getDeclaredConstructor()).isNotNull();
+        }
+    }
+
+    /**
+     * Collection and map generators instantiate their implementation
+     * types reflectively, therefore the no-argument constructor of every
+     * implementation that {@link GeneratorResolver} maps to must be registered.
+     */
+    @ValueSource(classes = {
+            Collection.class, List.class, Set.class, SortedSet.class, NavigableSet.class,
+            Queue.class, Deque.class, BlockingQueue.class, BlockingDeque.class, TransferQueue.class,
+            Map.class, SortedMap.class, NavigableMap.class, EnumMap.class,
+            ConcurrentMap.class, ConcurrentNavigableMap.class
+    })
+    @ParameterizedTest
+    void reflectConfigShouldRegisterContainerImplementations(final Class<?> containerType) throws Exception {
+        final GeneratorResolver resolver = new GeneratorResolver(
+                new GeneratorContext(Settings.defaults(), new DefaultRandom()));
+
+        final Generator<?> generator = resolver.get(containerType).orElseThrow(AssertionError::new);
+        final Class<?> implementation = generator.hints().get(InternalGeneratorHint.class).targetClass();
+
+        final String config = readResource(CONFIG_DIR + "reflect-config.json");
+        assertThat(findAll(NO_ARG_CONSTRUCTOR, config)).contains(implementation.getName());
+    }
+
+    @Test
+    void resourceConfig() throws Exception {
+        final String config = readResource(CONFIG_DIR + "resource-config.json");
+
+        assertThat(findAll(PATTERN, config)).contains(
+                "instancio.properties",
+                "META-INF/services/org.instancio.spi.GeneratorProvider",
+                "META-INF/services/org.instancio.spi.TypeResolver");
+    }
+
+    private static List<String> findAll(final Pattern pattern, final String input) {
+        final List<String> results = new ArrayList<>();
+        final Matcher matcher = pattern.matcher(input);
+        while (matcher.find()) {
+            results.add(matcher.group(1));
+        }
+        return results;
+    }
+
+    private static String readResource(final String name) throws Exception {
+        try (InputStream in = NativeImageConfigTest.class.getClassLoader().getResourceAsStream(name)) {
+            assertThat(in).as("resource %s", name).isNotNull();
+            return new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))
+                    .lines()
+                    .collect(Collectors.joining("\n"));
+        }
+    }
+}
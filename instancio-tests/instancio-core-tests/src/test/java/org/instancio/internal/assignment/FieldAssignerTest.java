@@ -19,6 +19,7 @@ import org.instancio.assignment.OnSetFieldError;
 import org.instancio.exception.InstancioApiException;
 import org.instancio.internal.assigners.FieldAssigner;
 import org.instancio.internal.nodes.Node;
+import org.instancio.internal.reflection.FieldAccessor;
 import org.instancio.settings.Keys;
 import org.instancio.settings.Settings;
 import org.instancio.test.support.pojo.person.Person;
@@ -32,6 +33,7 @@ import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -44,7 +46,11 @@ class FieldAssignerTest {
         doReturn(String.class).when(mockField).getType();
         doReturn("name").when(mockField).getName();
         doThrow(EXPECTED_ERROR).when(mockField).setAccessible(true);
-        return when(mock(Node.class).getField()).thenReturn(mockField).getMock();
+        final FieldAccessor accessor = new FieldAccessor(mockField);
+        final Node mockNode = mock(Node.class);
+        when(mockNode.getField()).thenReturn(mockField);
+        when(mockNode.getFieldAccessor()).thenReturn(accessor);
+        return mockNode;
     }
 
     private static FieldAssigner createAssigner(final OnSetFieldError onSetFieldError) {
@@ -58,7 +64,8 @@ class FieldAssignerTest {
         final FieldAssigner assigner = createAssigner(OnSetFieldError.IGNORE);
         assigner.assign(mockNode, "any-target", "any-value");
 
-        verify(mockNode.getField()).setAccessible(true);
+        // attempted when the accessor is created and again on assignment
+        verify(mockNode.getField(), times(2)).setAccessible(true);
         verify(mockNode.getField(), never()).set(anyString(), anyString());
     }
 
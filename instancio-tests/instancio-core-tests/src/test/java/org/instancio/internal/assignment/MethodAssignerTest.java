@@ -0,0 +1,181 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.assignment;
+
+import org.instancio.assignment.OnSetMethodError;
+import org.instancio.assignment.OnSetMethodNotFound;
+import org.instancio.assignment.SetterStyle;
+import org.instancio.exception.InstancioApiException;
+import org.instancio.internal.assigners.MethodAssigner;
+import org.instancio.internal.nodes.Node;
+import org.instancio.internal.reflection.FieldAccessor;
+import org.instancio.internal.reflection.FieldCache;
+import org.instancio.settings.Keys;
+import org.instancio.settings.Settings;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MethodAssignerTest {
+
+    @SuppressWarnings("unused")
+    private static class WithoutSetter {
+        private String value;
+    }
+
+    @SuppressWarnings("unused")
+    private static class WithThrowingSetter {
+        private String value;
+
+        void setValue(final String value) {
+            throw new IllegalStateException("expected error");
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static class WithSetter {
+        private String value;
+
+        void setValue(final String value) {
+            this.value = value + "-via-setter";
+        }
+
+        void withValue(final String value) {
+            this.value = value + "-via-with";
+        }
+    }
+
+    private static Node getNode(final Field field) {
+        final FieldAccessor accessor = FieldCache.getAccessor(field);
+        final Node node = mock(Node.class);
+        when(node.getField()).thenReturn(field);
+        when(node.getFieldAccessor()).thenReturn(accessor);
+        return node;
+    }
+
+    private static Node getNode(final Class<?> klass) throws NoSuchFieldException {
+        return getNode(klass.getDeclaredField("value"));
+    }
+
+    private static MethodAssigner createAssigner(final OnSetMethodNotFound onSetMethodNotFound) {
+        return new MethodAssigner(Settings.defaults()
+                .set(Keys.ON_SET_METHOD_NOT_FOUND, onSetMethodNotFound));
+    }
+
+    private static MethodAssigner createAssigner(final OnSetMethodError onSetMethodError) {
+        return new MethodAssigner(Settings.defaults()
+                .set(Keys.ON_SET_METHOD_ERROR, onSetMethodError));
+    }
+
+    @Test
+    void shouldAssignViaSetter() throws Exception {
+        final WithSetter target = new WithSetter();
+
+        createAssigner(OnSetMethodError.FAIL).assign(getNode(WithSetter.class), target, "foo");
+
+        assertThat(target.value).isEqualTo("foo-via-setter");
+    }
+
+    @Test
+    void missingSetterShouldBeReportedForEveryObject() throws Exception {
+        final Node node = getNode(WithoutSetter.class);
+        final MethodAssigner assigner = createAssigner(OnSetMethodNotFound.FAIL);
+
+        for (int i = 0; i < 2; i++) {
+            final WithoutSetter target = new WithoutSetter();
+            assertThatThrownBy(() -> assigner.assign(node, target, "foo"))
+                    .isExactlyInstanceOf(InstancioApiException.class)
+                    .hasMessageContaining("Setter method could not be resolved for field");
+
+            assertThat(target.value).isNull();
+        }
+    }
+
+    @Test
+    void missingSetterWithAssignField() throws Exception {
+        final WithoutSetter target = new WithoutSetter();
+
+        createAssigner(OnSetMethodNotFound.ASSIGN_FIELD).assign(getNode(WithoutSetter.class), target, "foo");
+
+        assertThat(target.value).isEqualTo("foo");
+    }
+
+    @Test
+    void throwingSetterWithFail() throws Exception {
+        final Node node = getNode(WithThrowingSetter.class);
+        final MethodAssigner assigner = createAssigner(OnSetMethodError.FAIL);
+
+        for (int i = 0; i < 2; i++) {
+            final WithThrowingSetter target = new WithThrowingSetter();
+            assertThatThrownBy(() -> assigner.assign(node, target, "foo"))
+                    .isExactlyInstanceOf(InstancioApiException.class)
+                    .hasMessageContaining("Keys.ON_SET_METHOD_ERROR = " + OnSetMethodError.FAIL)
+                    .hasRootCauseMessage("expected error");
+        }
+    }
+
+    @Test
+    void throwingSetterWithAssignField() throws Exception {
+        final WithThrowingSetter target = new WithThrowingSetter();
+
+        createAssigner(OnSetMethodError.ASSIGN_FIELD).assign(getNode(WithThrowingSetter.class), target, "foo");
+
+        assertThat(target.value).isEqualTo("foo");
+    }
+
+    @Test
+    void throwingSetterWithIgnore() throws Exception {
+        final WithThrowingSetter target = new WithThrowingSetter();
+
+        createAssigner(OnSetMethodError.IGNORE).assign(getNode(WithThrowingSetter.class), target, "foo");
+
+        assertThat(target.value).isNull();
+    }
+
+    @Test
+    void setterShouldBeResolvedOncePerFieldAndSetterStyle() throws Exception {
+        final Field field = mock(Field.class);
+        doReturn(WithSetter.class).when(field).getDeclaringClass();
+        doReturn(String.class).when(field).getType();
+        doReturn("value").when(field).getName();
+        doReturn(Modifier.PRIVATE).when(field).getModifiers();
+        final Node node = getNode(field);
+
+        // new assigners, as created for each object
+        createAssigner(OnSetMethodError.FAIL).assign(node, new WithSetter(), "foo");
+        createAssigner(OnSetMethodError.FAIL).assign(node, new WithSetter(), "bar");
+
+        // name is used for resolving the setter only
+        verify(field, times(1)).getName();
+
+        // resolved again for a different setter style
+        final WithSetter target = new WithSetter();
+        new MethodAssigner(Settings.defaults().set(Keys.SETTER_STYLE, SetterStyle.WITH))
+                .assign(node, target, "baz");
+
+        assertThat(target.value).isEqualTo("baz-via-with");
+        verify(field, times(2)).getName();
+    }
+}
@@ -40,6 +40,7 @@ import java.lang.reflect.Field;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -183,6 +184,30 @@ class SelectorMapTest {
         assertThat(selectorMap.getValue(stringNode)).isEmpty();
     }
 
+    @Test
+    void predicateShouldBeEvaluatedOncePerNode() {
+        final AtomicInteger count = new AtomicInteger();
+        selectorMap.put(Select.fields(f -> {
+            count.incrementAndGet();
+            return f.getName().equals("name");
+        }), "foo");
+
+        assertThat(selectorMap.getValue(personNameNode)).contains("foo");
+        assertThat(selectorMap.getValue(personNameNode)).contains("foo");
+        assertThat(count.get()).isOne();
+    }
+
+    @Test
+    void putShouldInvalidatePreviouslyResolvedValues() {
+        put(field(Person.class, "name"), "foo");
+        assertThat(selectorMap.getValue(personNameNode)).contains("foo");
+        assertThat(selectorMap.getValues(personNameNode)).containsOnly("foo");
+
+        put(field(Person.class, "name"), "bar");
+        assertThat(selectorMap.getValue(personNameNode)).contains("bar");
+        assertThat(selectorMap.getValues(personNameNode)).containsOnly("bar");
+    }
+
     private static Node getNodeWithField(final Node node, final Class<?> declaringClass, final String fieldName) {
         final Field field = ReflectionUtils.getField(declaringClass, fieldName);
         assertThat(field).as("null field").isNotNull();
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.generator;
+
+import org.instancio.generator.Generator;
+import org.instancio.generator.GeneratorContext;
+import org.instancio.internal.generator.array.ArrayGenerator;
+import org.instancio.internal.generator.lang.EnumGenerator;
+import org.instancio.internal.generator.lang.StringGenerator;
+import org.instancio.internal.random.DefaultRandom;
+import org.instancio.settings.Settings;
+import org.instancio.test.support.pojo.person.Gender;
+import org.instancio.test.support.pojo.person.Person;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GeneratorResolverTest {
+
+    private final GeneratorResolver generatorResolver = new GeneratorResolver(
+            new GeneratorContext(Settings.defaults(), new DefaultRandom()));
+
+    @Test
+    void builtInGenerator() {
+        assertThat(generatorResolver.get(String.class)).containsInstanceOf(StringGenerator.class);
+    }
+
+    @Test
+    void arrayGenerator() {
+        assertThat(generatorResolver.get(String[].class)).containsInstanceOf(ArrayGenerator.class);
+    }
+
+    @Test
+    void enumGenerator() {
+        assertThat(generatorResolver.get(Gender.class)).containsInstanceOf(EnumGenerator.class);
+    }
+
+    @Test
+    void noGenerator() {
+        assertThat(generatorResolver.get(Person.class)).isEmpty();
+    }
+
+    @Test
+    void shouldReturnSameGeneratorForSameClass() {
+        final Optional<Generator<?>> first = generatorResolver.get(Gender.class);
+        final Optional<Generator<?>> second = generatorResolver.get(Gender.class);
+
+        assertThat(first).isPresent();
+        assertThat(second).isPresent();
+        assertThat(first.get()).isSameAs(second.get());
+    }
+}
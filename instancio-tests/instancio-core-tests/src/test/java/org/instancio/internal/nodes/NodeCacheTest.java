@@ -0,0 +1,211 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.nodes;
+
+import org.instancio.internal.context.SubtypeSelectorMap;
+import org.instancio.test.support.pojo.generics.basic.Item;
+import org.instancio.test.support.pojo.person.Address;
+import org.instancio.test.support.pojo.person.Person;
+import org.instancio.test.support.tags.NodeTag;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@NodeTag
+class NodeCacheTest {
+    private static final NodeFactory NODE_FACTORY = new NodeFactory(NodeContext.builder()
+            .subtypeSelectorMap(new SubtypeSelectorMap(Collections.emptyMap()))
+            .build());
+
+    private static final Map<TypeVariable<?>, Class<?>> NO_TYPE_ARGS = Collections.emptyMap();
+    private static final Map<Class<?>, Class<?>> NO_SUBTYPES = Collections.emptyMap();
+
+    private final NodeCache nodeCache = new NodeCache(2);
+
+    private Node getRootNode(final Type type, final Map<Class<?>, Class<?>> subtypes) {
+        return nodeCache.getRootNode(type, NO_TYPE_ARGS, subtypes, () -> NODE_FACTORY.createRootNode(type));
+    }
+
+    @Test
+    void shouldReturnCachedNode() {
+        final Node first = getRootNode(Person.class, NO_SUBTYPES);
+        final Node second = getRootNode(Person.class, NO_SUBTYPES);
+
+        assertThat(second).isSameAs(first);
+        assertThat(nodeCache.getMissCount()).isOne();
+        assertThat(nodeCache.getHitCount()).isOne();
+        assertThat(nodeCache.size(Person.class)).isOne();
+    }
+
+    @Test
+    void differentSubtypeMappingShouldResultInCacheMiss() {
+        final Node first = getRootNode(Person.class, Collections.singletonMap(List.class, ArrayList.class));
+        final Node second = getRootNode(Person.class, Collections.singletonMap(List.class, LinkedList.class));
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(nodeCache.getMissCount()).isEqualTo(2);
+        assertThat(nodeCache.getHitCount()).isZero();
+    }
+
+    @Test
+    void differentTypeArgumentsShouldResultInCacheMiss() {
+        final TypeVariable<?> typeVar = Item.class.getTypeParameters()[0];
+
+        final Node first = nodeCache.getRootNode(Item.class, Collections.singletonMap(typeVar, String.class),
+                NO_SUBTYPES, () -> NODE_FACTORY.createRootNode(Item.class));
+        final Node second = nodeCache.getRootNode(Item.class, Collections.singletonMap(typeVar, Integer.class),
+                NO_SUBTYPES, () -> NODE_FACTORY.createRootNode(Item.class));
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(nodeCache.size(Item.class)).isEqualTo(2);
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsed() {
+        final Map<Class<?>, Class<?>> arrayList = Collections.singletonMap(List.class, ArrayList.class);
+        final Map<Class<?>, Class<?>> linkedList = Collections.singletonMap(List.class, LinkedList.class);
+
+        final Node person = getRootNode(Person.class, NO_SUBTYPES);
+        getRootNode(Person.class, arrayList);
+        getRootNode(Person.class, NO_SUBTYPES); // arrayList is now least recently used
+        getRootNode(Person.class, linkedList);
+
+        assertThat(nodeCache.size(Person.class)).isEqualTo(2);
+        assertThat(getRootNode(Person.class, NO_SUBTYPES)).isSameAs(person);
+        assertThat(nodeCache.getMissCount()).isEqualTo(3);
+
+        getRootNode(Person.class, arrayList);
+        assertThat(nodeCache.getMissCount()).isEqualTo(4);
+    }
+
+    @Test
+    void maxSizeShouldApplyPerRootClass() {
+        final Node person = getRootNode(Person.class, NO_SUBTYPES);
+        getRootNode(Address.class, NO_SUBTYPES);
+        getRootNode(String.class, NO_SUBTYPES);
+
+        assertThat(nodeCache.size(Person.class)).isOne();
+        assertThat(nodeCache.size(Address.class)).isOne();
+        assertThat(nodeCache.size(String.class)).isOne();
+        assertThat(getRootNode(Person.class, NO_SUBTYPES)).isSameAs(person);
+    }
+
+    @Test
+    void shouldNotCacheIfKeyContainsClassNotVisibleFromRootClassLoader() throws Exception {
+        final Class<?> childClass = new ChildClassLoader().loadChildClass(Address.class);
+        final TypeVariable<?> typeVar = Item.class.getTypeParameters()[0];
+        final Map<TypeVariable<?>, Class<?>> childTypeArg = Collections.singletonMap(typeVar, childClass);
+
+        // Item is loaded by the parent loader and would retain childClass
+        final Node first = nodeCache.getRootNode(Item.class, childTypeArg,
+                NO_SUBTYPES, () -> NODE_FACTORY.createRootNode(Item.class));
+        final Node second = nodeCache.getRootNode(Item.class, childTypeArg,
+                NO_SUBTYPES, () -> NODE_FACTORY.createRootNode(Item.class));
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(nodeCache.size(Item.class)).isZero();
+
+        // Same for subtype mappings
+        getRootNode(Person.class, Collections.singletonMap(Object.class, childClass));
+        assertThat(nodeCache.size(Person.class)).isZero();
+
+        // A class from the child loader can be a root type, since it can see its parent's classes
+        final Map<Class<?>, Class<?>> parentSubtype = Collections.singletonMap(List.class, ArrayList.class);
+        final Node child = getRootNode(childClass, parentSubtype);
+        assertThat(getRootNode(childClass, parentSubtype)).isSameAs(child);
+        assertThat(nodeCache.size(childClass)).isOne();
+    }
+
+    @Test
+    void cachedHierarchyShouldNotPreventClassLoaderFromBeingCollected() throws Exception {
+        final WeakReference<ClassLoader> loaderRef = cacheChildClass();
+
+        for (int i = 0; i < 20 && loaderRef.get() != null; i++) {
+            System.gc(); // NOSONAR
+            Thread.sleep(50);
+        }
+
+        assertThat(loaderRef.get()).isNull();
+    }
+
+    private WeakReference<ClassLoader> cacheChildClass() throws Exception {
+        final ChildClassLoader loader = new ChildClassLoader();
+        final Class<?> childClass = loader.loadChildClass(Address.class);
+        // a new factory, as created for each model, since factories hold type information
+        final NodeFactory nodeFactory = new NodeFactory(NodeContext.builder()
+                .subtypeSelectorMap(new SubtypeSelectorMap(Collections.emptyMap()))
+                .build());
+
+        nodeCache.getRootNode(childClass, NO_TYPE_ARGS, NO_SUBTYPES, () -> nodeFactory.createRootNode(childClass));
+        assertThat(nodeCache.size(childClass)).isOne();
+        return new WeakReference<>(loader);
+    }
+
+    @Test
+    void zeroSizeShouldDisableCaching() {
+        final NodeCache disabledCache = new NodeCache(0);
+        final Node first = disabledCache.getRootNode(Person.class, NO_TYPE_ARGS, NO_SUBTYPES,
+                () -> NODE_FACTORY.createRootNode(Person.class));
+        final Node second = disabledCache.getRootNode(Person.class, NO_TYPE_ARGS, NO_SUBTYPES,
+                () -> NODE_FACTORY.createRootNode(Person.class));
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(disabledCache.size(Person.class)).isZero();
+    }
+
+    @Test
+    void negativeSize() {
+        assertThatThrownBy(() -> new NodeCache(-1))
+                .hasMessage("Cache size must not be negative: -1");
+    }
+
+    /**
+     * Loads a copy of a class that is not visible from the parent loader.
+     */
+    private static final class ChildClassLoader extends ClassLoader {
+
+        ChildClassLoader() {
+            super(NodeCacheTest.class.getClassLoader());
+        }
+
+        Class<?> loadChildClass(final Class<?> klass) throws IOException {
+            final String resource = klass.getName().replace('.', '/') + ".class";
+            try (InputStream in = getParent().getResourceAsStream(resource)) {
+                assertThat(in).isNotNull();
+                final ByteArrayOutputStream out = new ByteArrayOutputStream();
+                final byte[] buffer = new byte[4096];
+                for (int read = in.read(buffer); read != -1; read = in.read(buffer)) {
+                    out.write(buffer, 0, read);
+                }
+                final byte[] bytes = out.toByteArray();
+                return defineClass(klass.getName(), bytes, 0, bytes.length);
+            }
+        }
+    }
+}
@@ -17,6 +17,7 @@ package org.instancio.internal.nodes;
 
 import org.instancio.TypeToken;
 import org.instancio.internal.context.SubtypeSelectorMap;
+import org.instancio.internal.spi.InternalContainerFactoryProvider;
 import org.instancio.internal.util.ReflectionUtils;
 import org.instancio.test.support.pojo.collections.lists.ListString;
 import org.instancio.test.support.pojo.generics.basic.Item;
@@ -35,6 +36,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.instancio.testsupport.asserts.NodeAssert.assertNode;
@@ -67,6 +69,61 @@ class NodeTest {
         assertThat(NODE_FACTORY.createRootNode(new TypeToken<Optional<Integer>>() {}.get()).getNodeKind()).isEqualTo(NodeKind.CONTAINER);
     }
 
+    @Test
+    void nodesOfTheSameTypeShouldShareTypeMap() {
+        final Node personNode = NODE_FACTORY.createRootNode(Person.class);
+        final Node address = getChildNode(personNode, "address");
+        final Node name = getChildNode(personNode, "name");
+        final Node city = getChildNode(address, "city");
+        final Node phoneNumbers = getChildNode(address, "phoneNumbers");
+
+        assertThat(name.getTypeMap()).isSameAs(city.getTypeMap());
+        assertThat(name.getTypeMap()).isNotSameAs(phoneNumbers.getTypeMap());
+    }
+
+    @Test
+    void nodesOfTheSameTypeShouldNotBeShared() {
+        final Node personNode = NODE_FACTORY.createRootNode(Person.class);
+        final Node address = getChildNode(personNode, "address");
+        final Node name = getChildNode(personNode, "name");
+        final Node city = getChildNode(address, "city");
+
+        assertThat(name).isNotSameAs(city);
+        assertThat(name.getParent()).isSameAs(personNode);
+        assertThat(city.getParent()).isSameAs(address);
+    }
+
+    @Test
+    void containerSubstitution() {
+        final Function<Object, Object> substitution = Function.identity();
+        final InternalContainerFactoryProvider provider = new InternalContainerFactoryProvider() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <S, T> Function<S, T> createFromOtherFunction(final Class<T> type, final List<Class<?>> typeArgs) {
+                return type == List.class && typeArgs.equals(Collections.singletonList(String.class))
+                        ? (Function<S, T>) substitution
+                        : null;
+            }
+
+            @Override
+            public boolean isContainerClass(final Class<?> type) {
+                return false;
+            }
+        };
+
+        final NodeContext nodeContext = NodeContext.builder()
+                .subtypeSelectorMap(new SubtypeSelectorMap(Collections.emptyMap()))
+                .containerFactories(Collections.singletonList(provider))
+                .build();
+
+        final Node rootNode = new NodeFactory(nodeContext).createRootNode(ListString.class);
+        final Node listNode = getChildNode(rootNode, "list");
+
+        assertThat(listNode.getContainerSubstitution()).isSameAs(substitution);
+        assertThat(listNode.getOnlyChild().getContainerSubstitution()).isNull();
+        assertThat(rootNode.getContainerSubstitution()).isNull();
+    }
+
     @Test
     void toBuilder() {
         final Node parent = createNode(Person.class, new TypeToken<Person>() {});
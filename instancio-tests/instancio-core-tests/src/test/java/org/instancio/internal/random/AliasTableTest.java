@@ -0,0 +1,134 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class AliasTableTest {
+
+    private static final int SAMPLE_SIZE = 100_000;
+
+    @Test
+    void singleValue() {
+        final AliasTable<String> table = AliasTable.of(Collections.singletonList("foo"), 0.1);
+        final DefaultRandom random = new DefaultRandom();
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(table.sample(random)).isEqualTo("foo");
+        }
+    }
+
+    @Test
+    void skewedWeights() {
+        assertDistribution(new double[]{80, 15, 5});
+    }
+
+    @Test
+    void equalWeights() {
+        assertDistribution(new double[]{1, 1, 1, 1});
+    }
+
+    @Test
+    void zeroWeights() {
+        final double[] weights = {0, 3, 0, 1, 0};
+        final int[] counts = sample(weights);
+
+        assertThat(counts[0]).isZero();
+        assertThat(counts[2]).isZero();
+        assertThat(counts[4]).isZero();
+        assertDistribution(weights);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {2, 3, 10, 100})
+    void linearWeights(final int size) {
+        final double[] weights = IntStream.rangeClosed(1, size).asDoubleStream().toArray();
+        assertDistribution(weights);
+    }
+
+    @Test
+    void shouldProduceSameResultsForSameSeed() {
+        final AliasTable<Integer> table = AliasTable.of(Arrays.asList(1, 2, 3), 0.5, 0.3, 0.2);
+        final long seed = Seeds.randomSeed();
+        final DefaultRandom random1 = new DefaultRandom(seed);
+        final DefaultRandom random2 = new DefaultRandom(seed);
+
+        for (int i = 0; i < 1000; i++) {
+            assertThat(table.sample(random1)).isEqualTo(table.sample(random2));
+        }
+    }
+
+    @Test
+    void validation() {
+        final List<String> values = Arrays.asList("foo", "bar");
+
+        assertThatThrownBy(() -> AliasTable.of(Collections.emptyList(), new double[0]))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Values must have at least one element");
+
+        assertThatThrownBy(() -> AliasTable.of(values, 1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Number of values and weights must be equal: 2, 1");
+
+        assertThatThrownBy(() -> AliasTable.of(values, 1, -1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid weight: -1.0");
+
+        assertThatThrownBy(() -> AliasTable.of(values, 1, Double.NaN))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid weight: NaN");
+
+        assertThatThrownBy(() -> AliasTable.of(values, 0, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Sum of weights must be positive and finite: 0.0");
+    }
+
+    private static void assertDistribution(final double[] weights) {
+        final double total = Arrays.stream(weights).sum();
+        final int[] counts = sample(weights);
+
+        for (int i = 0; i < weights.length; i++) {
+            assertThat((double) counts[i] / SAMPLE_SIZE)
+                    .as("frequency of value %s", i)
+                    .isCloseTo(weights[i] / total, within(0.01));
+        }
+    }
+
+    private static int[] sample(final double[] weights) {
+        final List<Integer> values = IntStream.range(0, weights.length).boxed().collect(Collectors.toList());
+        final AliasTable<Integer> table = AliasTable.of(values, weights);
+        final DefaultRandom random = new DefaultRandom();
+        final int[] counts = new int[weights.length];
+
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            counts[table.sample(random)]++;
+        }
+        assertThat(table.size()).isEqualTo(weights.length);
+        return counts;
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.random;
+
+import org.instancio.RandomEngineType;
+import org.instancio.spi.RandomEngine;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.data.Percentage.withPercentage;
+
+class CharacterClassTest {
+
+    private static final int SAMPLE_SIZE = 100_000;
+    private static final int PERCENTAGE_THRESHOLD = 10;
+
+    private final RandomEngine engine = RandomEngines.create(RandomEngineType.XOROSHIRO128PP, Seeds.randomSeed());
+
+    @EnumSource(CharacterClass.class)
+    @ParameterizedTest
+    void shouldProduceSameStringGivenSameSeed(final CharacterClass characterClass) {
+        final long seed = Seeds.randomSeed();
+        final String result = characterClass.generate(RandomEngines.create(RandomEngineType.SPLITTABLE, seed), 100);
+
+        assertThat(result)
+                .hasSize(100)
+                .isEqualTo(characterClass.generate(RandomEngines.create(RandomEngineType.SPLITTABLE, seed), 100));
+    }
+
+    @Test
+    void emptyString() {
+        assertThat(CharacterClass.DIGITS.generate(engine, 0)).isEmpty();
+    }
+
+    @Test
+    void lowerCase() {
+        assertUniform(CharacterClass.LOWER_CASE.generate(engine, SAMPLE_SIZE), "abcdefghijklmnopqrstuvwxyz");
+    }
+
+    @Test
+    void upperCase() {
+        assertUniform(CharacterClass.UPPER_CASE.generate(engine, SAMPLE_SIZE), "ABCDEFGHIJKLMNOPQRSTUVWXYZ");
+    }
+
+    @Test
+    void mixedCase() {
+        assertUniform(CharacterClass.MIXED_CASE.generate(engine, SAMPLE_SIZE),
+                "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ");
+    }
+
+    @Test
+    void digits() {
+        assertUniform(CharacterClass.DIGITS.generate(engine, SAMPLE_SIZE), "0123456789");
+    }
+
+    @Test
+    void alphanumericShouldHaveSameDistributionAsAlphanumericCharacter() {
+        final Map<Character, Integer> counts = count(CharacterClass.ALPHANUMERIC.generate(engine, SAMPLE_SIZE));
+
+        assertThat(counts).hasSize(62);
+        // one in three characters is a digit
+        counts.forEach((c, count) -> assertThat(count).isCloseTo(
+                Character.isDigit(c) ? SAMPLE_SIZE / 30 : SAMPLE_SIZE / 78,
+                withPercentage(PERCENTAGE_THRESHOLD)));
+    }
+
+    private static void assertUniform(final String result, final String expectedChars) {
+        final Map<Character, Integer> counts = count(result);
+
+        assertThat(counts).hasSize(expectedChars.length());
+        for (char c : expectedChars.toCharArray()) {
+            assertThat(counts.get(c)).isCloseTo(
+                    SAMPLE_SIZE / expectedChars.length(), withPercentage(PERCENTAGE_THRESHOLD));
+        }
+    }
+
+    private static Map<Character, Integer> count(final String s) {
+        final Map<Character, Integer> counts = new HashMap<>();
+        for (char c : s.toCharArray()) {
+            counts.merge(c, 1, Integer::sum);
+        }
+        return counts;
+    }
+}
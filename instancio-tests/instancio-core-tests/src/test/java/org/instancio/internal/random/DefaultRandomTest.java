@@ -15,6 +15,7 @@
  */
 package org.instancio.internal.random;
 
+import org.instancio.RandomEngineType;
 import org.instancio.test.support.tags.NonDeterministicTag;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -22,6 +23,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import java.util.Arrays;
@@ -68,6 +70,60 @@ class DefaultRandomTest {
         assertThat(random.alphanumeric(1)).hasSize(1);
     }
 
+    @Test
+    void fillIntRange() {
+        final long seed = Seeds.randomSeed();
+        final DefaultRandom expectedRandom = new DefaultRandom(seed);
+        final int[] expected = new int[SAMPLE_SIZE];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = expectedRandom.intRange(Integer.MIN_VALUE, Integer.MAX_VALUE);
+        }
+
+        final int[] actual = new int[SAMPLE_SIZE];
+        new DefaultRandom(seed).fillIntRange(actual, Integer.MIN_VALUE, Integer.MAX_VALUE);
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    void fillLongRange() {
+        final long seed = Seeds.randomSeed();
+        final DefaultRandom expectedRandom = new DefaultRandom(seed);
+        final long[] expected = new long[SAMPLE_SIZE];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = expectedRandom.longRange(-1, Long.MAX_VALUE / 2);
+        }
+
+        final long[] actual = new long[SAMPLE_SIZE];
+        new DefaultRandom(seed).fillLongRange(actual, -1, Long.MAX_VALUE / 2);
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    void jdkEngineShouldGenerateStringsOneCharacterAtATime() {
+        final long seed = Seeds.randomSeed();
+        final java.util.Random jdkRandom = new java.util.Random(seed);
+        final char[] expected = new char[SAMPLE_SIZE];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = (char) ('A' + jdkRandom.nextInt(26));
+        }
+
+        assertThat(new DefaultRandom(seed).upperCaseAlphabetic(SAMPLE_SIZE)).isEqualTo(new String(expected));
+    }
+
+    @EnumSource(value = RandomEngineType.class, names = {"SPLITTABLE", "XOROSHIRO128PP"})
+    @ParameterizedTest
+    void stringsWithBulkEngine(final RandomEngineType engineType) {
+        final DefaultRandom bulkRandom = new DefaultRandom(Seeds.randomSeed(), engineType);
+
+        assertThat(bulkRandom.lowerCaseAlphabetic(100)).hasSize(100).matches(LOWER_CASE_ALPHABETIC_PATTERN);
+        assertThat(bulkRandom.upperCaseAlphabetic(100)).hasSize(100).matches(UPPER_CASE_ALPHABETIC_PATTERN);
+        assertThat(bulkRandom.mixedCaseAlphabetic(100)).hasSize(100).matches(MIXED_CASE_ALPHABETIC_PATTERN);
+        assertThat(bulkRandom.alphanumeric(100)).hasSize(100).matches(ALPHANUMERIC_PATTERN);
+        assertThat(bulkRandom.digits(100)).hasSize(100).matches(DIGITS_PATTERN);
+    }
+
     @Test
     void trueOrFalse() {
         int[] counts = new int[2];
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.random;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IndexedChoiceTest {
+
+    private static final int SAMPLE_SIZE = 1000;
+
+    private static final List<Integer> VALUES = IntStream.range(0, 100).boxed().collect(Collectors.toList());
+
+    @Test
+    void randomAccessList() {
+        assertSameAsOneOf(new ArrayList<>(VALUES));
+    }
+
+    @Test
+    void sequentialList() {
+        assertSameAsOneOf(new LinkedList<>(VALUES));
+    }
+
+    @Test
+    void set() {
+        assertSameAsOneOf(new LinkedHashSet<>(VALUES));
+    }
+
+    @Test
+    void array() {
+        final long seed = Seeds.randomSeed();
+        final DefaultRandom expectedRandom = new DefaultRandom(seed);
+        final DefaultRandom actualRandom = new DefaultRandom(seed);
+        final Integer[] array = VALUES.toArray(new Integer[0]);
+        final IndexedChoice<Integer> choice = IndexedChoice.of(array);
+
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            assertThat(choice.sample(actualRandom)).isEqualTo(expectedRandom.oneOf(array));
+        }
+    }
+
+    @Test
+    void shouldCopyCollectionThatIsNotRandomAccessList() {
+        final List<Integer> list = new LinkedList<>(Collections.singletonList(1));
+        final IndexedChoice<Integer> choice = IndexedChoice.of(list);
+        list.add(2);
+
+        assertThat(choice.size()).isEqualTo(1);
+        assertThat(choice.sample(new DefaultRandom())).isEqualTo(1);
+    }
+
+    @Test
+    void shouldCopyRandomAccessList() {
+        final List<Integer> list = new ArrayList<>(Collections.singletonList(1));
+        final IndexedChoice<Integer> choice = IndexedChoice.of(list);
+        list.set(0, 2);
+        list.add(3);
+
+        assertThat(choice.size()).isEqualTo(1);
+        assertThat(choice.sample(new DefaultRandom())).isEqualTo(1);
+    }
+
+    @Test
+    void shouldCopyArray() {
+        final Integer[] array = {1};
+        final IndexedChoice<Integer> choice = IndexedChoice.of(array);
+        array[0] = 2;
+
+        assertThat(choice.sample(new DefaultRandom())).isEqualTo(1);
+    }
+
+    @Test
+    void emptyCollection() {
+        final List<Object> empty = Collections.emptyList();
+        assertThatThrownBy(() -> IndexedChoice.of(empty))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Collection must have at least one element");
+    }
+
+    @Test
+    void emptyArray() {
+        assertThatThrownBy(IndexedChoice::of)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Array must have at least one element");
+    }
+
+    private static void assertSameAsOneOf(final Collection<Integer> collection) {
+        final long seed = Seeds.randomSeed();
+        final DefaultRandom expectedRandom = new DefaultRandom(seed);
+        final DefaultRandom actualRandom = new DefaultRandom(seed);
+        final IndexedChoice<Integer> choice = IndexedChoice.of(collection);
+
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            assertThat(choice.sample(actualRandom)).isEqualTo(expectedRandom.oneOf(collection));
+        }
+        assertThat(choice.size()).isEqualTo(collection.size());
+    }
+}
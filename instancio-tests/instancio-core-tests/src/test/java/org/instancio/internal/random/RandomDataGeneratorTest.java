@@ -15,17 +15,18 @@
  */
 package org.instancio.internal.random;
 
+import org.instancio.spi.RandomEngine;
 import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Test;
 
-import java.util.Random;
+import java.math.BigInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class RandomDataGeneratorTest {
 
-    private final Random random = new Random();
+    private final RandomEngine random = new JdkRandomEngine(Seeds.randomSeed());
 
     @Test
     void nextLongValidation() {
@@ -44,4 +45,75 @@ class RandomDataGeneratorTest {
         assertThat(RandomDataGenerator.nextDouble(random, 3, 3)).isEqualTo(3);
         assertThat(RandomDataGenerator.nextDouble(random, Long.MAX_VALUE, Long.MAX_VALUE)).isEqualTo((double) Long.MAX_VALUE);
     }
+
+    @RepeatedTest(10)
+    void nextLongs() {
+        final long seed = Seeds.randomSeed();
+        final long[] expected = new long[100];
+        final RandomEngine expectedRandom = new JdkRandomEngine(seed);
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = RandomDataGenerator.nextLong(expectedRandom, Long.MIN_VALUE / 2, Long.MAX_VALUE);
+        }
+
+        final long[] actual = new long[expected.length];
+        RandomDataGenerator.nextLongs(new JdkRandomEngine(seed), actual, Long.MIN_VALUE / 2, Long.MAX_VALUE);
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    void nextIntsValidation() {
+        assertThatThrownBy(() -> RandomDataGenerator.nextInts(random, new int[1], 3, 2))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void nextIntWithBoundShouldRejectBiasedValues() {
+        // zero is rejected since the low bits of 0 * 10 are below 2^32 mod 10
+        final RandomEngine engine = sequence(0, -1);
+        assertThat(engine.nextInt(10)).isEqualTo(9);
+    }
+
+    @Test
+    void nextLongWithBoundShouldRejectBiasedValues() {
+        // zero is rejected since the low bits of 0 * 10 are below 2^64 mod 10
+        final RandomEngine engine = sequence(0, -1);
+        assertThat(engine.nextLong(10L)).isEqualTo(9);
+    }
+
+    @Test
+    void nextLongWithPowerOfTwoBoundShouldNotRejectValues() {
+        final RandomEngine engine = sequence(0, -1);
+        assertThat(engine.nextLong(16L)).isZero();
+        assertThat(engine.nextLong(16L)).isEqualTo(15);
+    }
+
+    @RepeatedTest(10)
+    void nextLongWithBoundShouldReturnHighBitsOfProduct() {
+        final java.util.Random rnd = new java.util.Random();
+        for (int i = 0; i < 1000; i++) {
+            final long x = rnd.nextLong();
+            final long bound = rnd.nextLong() & Long.MAX_VALUE;
+            if (bound == 0 || Long.compareUnsigned(x * bound, bound) < 0) {
+                continue; // possibly rejected
+            }
+            final long expected = unsigned(x).multiply(unsigned(bound)).shiftRight(64).longValue();
+            assertThat(sequence(x).nextLong(bound)).isEqualTo(expected);
+        }
+    }
+
+    private static BigInteger unsigned(final long value) {
+        return new BigInteger(Long.toUnsignedString(value));
+    }
+
+    private static RandomEngine sequence(final long... values) {
+        return new RandomEngine() {
+            private int index;
+
+            @Override
+            public long nextLong() {
+                return values[index++ % values.length];
+            }
+        };
+    }
 }
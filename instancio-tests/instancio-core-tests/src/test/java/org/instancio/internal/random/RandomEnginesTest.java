@@ -0,0 +1,195 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.random;
+
+import org.instancio.RandomEngineType;
+import org.instancio.exception.InstancioException;
+import org.instancio.spi.RandomEngine;
+import org.instancio.spi.RandomEngineProvider;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Random;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RandomEnginesTest {
+
+    private static final int SAMPLE_SIZE = 1000;
+    private static final long SEED = Seeds.randomSeed();
+
+    @EnumSource(value = RandomEngineType.class, names = {"JDK", "SPLITTABLE", "XOROSHIRO128PP"})
+    @ParameterizedTest
+    void shouldProduceSameValuesGivenSameSeed(final RandomEngineType engineType) {
+        final RandomEngine engine1 = RandomEngines.create(engineType, SEED);
+        final RandomEngine engine2 = RandomEngines.create(engineType, SEED);
+
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            assertThat(engine1.nextLong()).isEqualTo(engine2.nextLong());
+            assertThat(engine1.nextInt(10)).isEqualTo(engine2.nextInt(10));
+            assertThat(engine1.nextLong(Long.MAX_VALUE)).isEqualTo(engine2.nextLong(Long.MAX_VALUE));
+            assertThat(engine1.nextDouble()).isEqualTo(engine2.nextDouble());
+        }
+    }
+
+    @EnumSource(value = RandomEngineType.class, names = {"JDK", "SPLITTABLE", "XOROSHIRO128PP"})
+    @ParameterizedTest
+    void shouldProduceValuesWithinBounds(final RandomEngineType engineType) {
+        final RandomEngine engine = RandomEngines.create(engineType, SEED);
+
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            assertThat(engine.nextInt(1)).isZero();
+            assertThat(engine.nextInt(7)).isBetween(0, 6);
+            assertThat(engine.nextInt(8)).isBetween(0, 7);
+            assertThat(engine.nextInt(Integer.MAX_VALUE)).isBetween(0, Integer.MAX_VALUE - 1);
+            assertThat(engine.nextLong(1L)).isZero();
+            assertThat(engine.nextLong(7L)).isBetween(0L, 6L);
+            assertThat(engine.nextLong(1L << 40)).isBetween(0L, (1L << 40) - 1);
+            assertThat(engine.nextLong(Long.MAX_VALUE)).isBetween(0L, Long.MAX_VALUE - 1);
+            assertThat(engine.nextDouble()).isGreaterThanOrEqualTo(0).isLessThan(1);
+        }
+    }
+
+    @Test
+    void jdkEngineShouldProduceSameValuesAsJavaUtilRandom() {
+        final RandomEngine engine = RandomEngines.create(RandomEngineType.JDK, SEED);
+        final Random random = new Random(SEED);
+
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            assertThat(engine.nextInt(10)).isEqualTo(random.nextInt(10));
+            assertThat(engine.nextLong()).isEqualTo(random.nextLong());
+            assertThat(engine.nextDouble()).isEqualTo(random.nextDouble());
+        }
+    }
+
+    @Test
+    void splittableEngineShouldProduceSameValuesAsSplittableRandom() {
+        final RandomEngine engine = RandomEngines.create(RandomEngineType.SPLITTABLE, SEED);
+        final SplittableRandom random = new SplittableRandom(SEED);
+
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            assertThat(engine.nextLong()).isEqualTo(random.nextLong());
+            assertThat(engine.nextInt(10)).isEqualTo(random.nextInt(10));
+            assertThat(engine.nextInt(16)).isEqualTo(random.nextInt(16));
+            assertThat(engine.nextInt(Integer.MAX_VALUE)).isEqualTo(random.nextInt(Integer.MAX_VALUE));
+            assertThat(engine.nextLong(10L)).isEqualTo(random.nextLong(10L));
+            assertThat(engine.nextLong(1L << 40)).isEqualTo(random.nextLong(1L << 40));
+            assertThat(engine.nextLong(Long.MAX_VALUE)).isEqualTo(random.nextLong(Long.MAX_VALUE));
+            assertThat(engine.nextDouble()).isEqualTo(random.nextDouble());
+        }
+    }
+
+    @EnumSource(value = RandomEngineType.class, names = {"JDK", "SPLITTABLE", "XOROSHIRO128PP"})
+    @ParameterizedTest
+    void reseededEngineShouldProduceSameValuesAsNewEngine(final RandomEngineType engineType) {
+        final SeedableRandomEngine engine = (SeedableRandomEngine) RandomEngines.create(engineType, SEED);
+        engine.nextLong();
+        engine.nextInt(10);
+        engine.setSeed(SEED + 1);
+
+        final RandomEngine expected = RandomEngines.create(engineType, SEED + 1);
+
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            assertThat(engine.nextLong()).isEqualTo(expected.nextLong());
+            assertThat(engine.nextInt(10)).isEqualTo(expected.nextInt(10));
+            assertThat(engine.nextDouble()).isEqualTo(expected.nextDouble());
+        }
+    }
+
+    @Test
+    void jdkEngineShouldProduceSameBoundedLongsAsPreviousImplementation() {
+        final RandomEngine engine = RandomEngines.create(RandomEngineType.JDK, SEED);
+        final Random random = new Random(SEED);
+        final long bound = Long.MAX_VALUE / 3;
+
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            assertThat(engine.nextLong(bound)).isEqualTo(nextLongUsingBytes(random, bound));
+        }
+    }
+
+    @Test
+    void xoroshiroEngineShouldNotBeCorrelatedWithAdjacentSeeds() {
+        final RandomEngine engine1 = RandomEngines.create(RandomEngineType.XOROSHIRO128PP, 0);
+        final RandomEngine engine2 = RandomEngines.create(RandomEngineType.XOROSHIRO128PP, 1);
+
+        int same = 0;
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            if (engine1.nextInt(2) == engine2.nextInt(2)) {
+                same++;
+            }
+        }
+        // expected to be around half
+        assertThat(same).isBetween(SAMPLE_SIZE / 3, SAMPLE_SIZE * 2 / 3);
+    }
+
+    @Test
+    void customEngineWithoutProvider() {
+        assertThatThrownBy(() -> RandomEngines.create(RandomEngineType.CUSTOM, SEED))
+                .isExactlyInstanceOf(InstancioException.class)
+                .hasMessage("Random engine 'RandomEngineType.CUSTOM' requires a org.instancio.spi.RandomEngineProvider"
+                        + " to be registered via the Service Provider Interface");
+    }
+
+    @Test
+    void customEngineWithMultipleProviders() {
+        final RandomEngineProvider provider1 = new TestProvider();
+        final RandomEngineProvider provider2 = new TestProvider();
+
+        assertThatThrownBy(() -> RandomEngines.createCustom(Arrays.asList(provider1, provider2), SEED))
+                .isExactlyInstanceOf(InstancioException.class)
+                .hasMessage("Random engine 'RandomEngineType.CUSTOM' requires exactly one"
+                        + " org.instancio.spi.RandomEngineProvider, but found 2: %s, %s",
+                        TestProvider.class.getName(), TestProvider.class.getName());
+    }
+
+    @Test
+    void customEngineWithSingleProvider() {
+        final RandomEngine engine = RandomEngines.createCustom(Collections.singletonList(new TestProvider()), SEED);
+
+        assertThat(engine.nextLong()).isEqualTo(SEED);
+    }
+
+    private static class TestProvider implements RandomEngineProvider {
+        @Override
+        public RandomEngine createRandomEngine(final long seed) {
+            return () -> seed;
+        }
+    }
+
+    /**
+     * The implementation used before the byte array allocation was removed.
+     */
+    private static long nextLongUsingBytes(final Random random, final long n) {
+        final byte[] byteArray = new byte[8];
+        long bits;
+        long val;
+        do {
+            random.nextBytes(byteArray);
+            bits = 0;
+            for (final byte b : byteArray) {
+                bits = (bits << 8) | ((b) & 0xffL);
+            }
+            bits &= 0x7fffffffffffffffL;
+            val = bits % n;
+        } while (bits - val + (n - 1) < 0);
+        return val;
+    }
+}
@@ -17,6 +17,9 @@ package org.instancio.internal.random;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.HashSet;
+import java.util.Set;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 class SeedsTest {
@@ -29,4 +32,43 @@ class SeedsTest {
             assertThat(Seeds.randomSeed()).isNotNegative();
         }
     }
+
+    @Test
+    void seedAtShouldBeDeterministic() {
+        final long baseSeed = Seeds.randomSeed();
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            assertThat(Seeds.seedAt(baseSeed, i)).isEqualTo(Seeds.seedAt(baseSeed, i));
+        }
+    }
+
+    @Test
+    void seedAtShouldReturnDistinctSeeds() {
+        final long baseSeed = Seeds.randomSeed();
+        final Set<Long> seeds = new HashSet<>();
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            seeds.add(Seeds.seedAt(baseSeed, i));
+            seeds.add(Seeds.seedAt(baseSeed + 1, i));
+        }
+        assertThat(seeds).hasSize(SAMPLE_SIZE * 2);
+    }
+
+    /**
+     * Engines derive their initial state from an element's seed via
+     * {@link Seeds#splitMix64(long, int)}. Element seeds must not
+     * coincide with state derived from other elements' seeds.
+     */
+    @Test
+    void seedAtShouldNotCoincideWithEngineStateOfOtherElements() {
+        final long baseSeed = Seeds.randomSeed();
+        final Set<Long> seeds = new HashSet<>();
+        final Set<Long> stateWords = new HashSet<>();
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            final long seed = Seeds.seedAt(baseSeed, i);
+            seeds.add(seed);
+            for (int n = 1; n <= 4; n++) {
+                stateWords.add(Seeds.splitMix64(seed, n));
+            }
+        }
+        assertThat(seeds).doesNotContainAnyElementsOf(stateWords);
+    }
 }
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.random;
+
+import org.instancio.Random;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SplitRandomTest {
+
+    private final Random unbound = new DefaultRandom(1);
+    private final SplitRandom random = new SplitRandom(unbound);
+
+    @Test
+    void shouldDelegateToUnboundRandomByDefault() {
+        assertThat(random.getUnbound()).isSameAs(unbound);
+        assertThat(random.getSeed()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldDelegateToBoundRandom() {
+        final Random previous = random.bind(new DefaultRandom(2));
+        try {
+            assertThat(previous).isNull();
+            assertThat(random.getSeed()).isEqualTo(2);
+            assertThat(random.intRange(0, 1000)).isEqualTo(new DefaultRandom(2).intRange(0, 1000));
+        } finally {
+            random.restore(previous);
+        }
+        assertThat(random.getSeed()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRestorePreviouslyBoundRandom() {
+        final Random outer = random.bind(new DefaultRandom(2));
+        final Random inner = random.bind(new DefaultRandom(3));
+        assertThat(random.getSeed()).isEqualTo(3);
+
+        random.restore(inner);
+        assertThat(random.getSeed()).isEqualTo(2);
+
+        random.restore(outer);
+        assertThat(random.getSeed()).isEqualTo(1);
+    }
+
+    @Test
+    void boundRandomShouldOnlyBeVisibleToCurrentThread() {
+        final Random previous = random.bind(new DefaultRandom(2));
+        try {
+            assertThat(CompletableFuture.supplyAsync(random::getSeed).join()).isEqualTo(1);
+        } finally {
+            random.restore(previous);
+        }
+    }
+}
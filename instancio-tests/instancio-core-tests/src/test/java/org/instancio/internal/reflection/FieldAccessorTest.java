@@ -0,0 +1,97 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.reflection;
+
+import org.instancio.internal.util.ReflectionUtils;
+import org.instancio.test.support.pojo.basic.PrimitiveFields;
+import org.instancio.test.support.pojo.person.Person;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FieldAccessorTest {
+
+    private static FieldAccessor accessor(final Class<?> klass, final String fieldName) {
+        return new FieldAccessor(ReflectionUtils.getField(klass, fieldName));
+    }
+
+    @Test
+    void set() throws IllegalAccessException {
+        final Person person = new Person();
+        accessor(Person.class, "name").set(person, "foo");
+        accessor(Person.class, "age").set(person, 20);
+
+        assertThat(person.getName()).isEqualTo("foo");
+        assertThat(person.getAge()).isEqualTo(20);
+    }
+
+    @Test
+    void hasNonNullValue() {
+        final FieldAccessor accessor = accessor(Person.class, "name");
+        assertThat(accessor.hasNonNullValue(new Person())).isFalse();
+        assertThat(accessor.hasNonNullValue(Person.builder().name("foo").build())).isTrue();
+    }
+
+    @ValueSource(strings = {"byteValue", "shortValue", "intValue", "longValue",
+            "floatValue", "doubleValue", "booleanValue", "charValue",})
+    @ParameterizedTest
+    void hasNonNullValue_WithPrimitiveFields(final String fieldName) {
+        final FieldAccessor accessor = accessor(PrimitiveFields.class, fieldName);
+        assertThat(accessor.hasNonNullValue(PrimitiveFields.builder().build())).isTrue();
+    }
+
+    @Test
+    void hasNonNullOrNonDefaultValue() {
+        final FieldAccessor accessor = accessor(Person.class, "name");
+        assertThat(accessor.hasNonNullOrNonDefaultValue(new Person())).isFalse();
+        assertThat(accessor.hasNonNullOrNonDefaultValue(Person.builder().name("foo").build())).isTrue();
+    }
+
+    @ValueSource(strings = {"byteValue", "shortValue", "intValue", "longValue",
+            "floatValue", "doubleValue", "booleanValue", "charValue",})
+    @ParameterizedTest
+    void hasNonNullOrNonDefaultValue_WithPrimitiveFields(final String fieldName) {
+        final PrimitiveFields blank = PrimitiveFields.builder().build();
+        final PrimitiveFields initialised = PrimitiveFields.builder()
+                .byteValue((byte) 1)
+                .shortValue((short) 1)
+                .intValue(1)
+                .longValue(1)
+                .floatValue(0.000000001f)
+                .doubleValue(0.000000000001)
+                .booleanValue(true)
+                .charValue('0')
+                .build();
+
+        final FieldAccessor accessor = accessor(PrimitiveFields.class, fieldName);
+
+        assertThat(accessor.hasNonNullOrNonDefaultValue(blank)).isFalse();
+        assertThat(accessor.hasNonNullOrNonDefaultValue(initialised)).isTrue();
+    }
+
+    @Test
+    void negativeZeroIsNotDefaultValue() {
+        final PrimitiveFields obj = PrimitiveFields.builder()
+                .floatValue(-0f)
+                .doubleValue(-0d)
+                .build();
+
+        assertThat(accessor(PrimitiveFields.class, "floatValue").hasNonNullOrNonDefaultValue(obj)).isTrue();
+        assertThat(accessor(PrimitiveFields.class, "doubleValue").hasNonNullOrNonDefaultValue(obj)).isTrue();
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.reflection;
+
+import org.instancio.internal.util.ReflectionUtils;
+import org.instancio.test.support.pojo.inheritance.BaseClassSubClassInheritance;
+import org.instancio.test.support.pojo.person.Person;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FieldCacheTest {
+
+    @Test
+    void getFields() {
+        final List<FieldAccessor> results = FieldCache.getFields(BaseClassSubClassInheritance.SubClass.class);
+
+        assertThat(results)
+                .extracting(it -> it.getField().getName())
+                .containsExactlyInAnyOrder(
+                        "privateBaseClassField",
+                        "protectedBaseClassField",
+                        "subClassField");
+
+        assertThat(FieldCache.getFields(BaseClassSubClassInheritance.SubClass.class)).isSameAs(results);
+    }
+
+    @Test
+    void inheritedFieldsShouldShareAccessors() {
+        final List<FieldAccessor> subClassFields = FieldCache.getFields(BaseClassSubClassInheritance.SubClass.class);
+        final List<FieldAccessor> baseClassFields = FieldCache.getFields(BaseClassSubClassInheritance.BaseClass.class);
+
+        assertThat(subClassFields).containsAll(baseClassFields);
+    }
+
+    @Test
+    void getAccessor() {
+        final Field field = ReflectionUtils.getField(Person.class, "address");
+        final FieldAccessor accessor = FieldCache.getAccessor(field);
+
+        assertThat(accessor.getField()).isEqualTo(field);
+        assertThat(accessor.getGenericType()).isEqualTo(field.getGenericType());
+        assertThat(accessor.getModifiers()).isEqualTo(field.getModifiers());
+        assertThat(FieldCache.getAccessor(ReflectionUtils.getField(Person.class, "address"))).isSameAs(accessor);
+    }
+}
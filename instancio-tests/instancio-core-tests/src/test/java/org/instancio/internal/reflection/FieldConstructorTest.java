@@ -0,0 +1,108 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.reflection;
+
+import org.instancio.internal.util.ReflectionUtils;
+import org.instancio.test.support.pojo.basic.IntegerHolderWithoutDefaultConstructor;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FieldConstructorTest {
+
+    @SuppressWarnings("unused")
+    private static class Item {
+        private final String name;
+        private final int quantity;
+        private final List<String> tags;
+
+        Item(final String name) {
+            this(0, null, name);
+        }
+
+        Item(final int quantity, final List<String> tags, final String name) {
+            this.name = name;
+            this.quantity = quantity;
+            this.tags = tags;
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static class WithoutMatchingConstructor {
+        private final String name;
+        private final int quantity;
+
+        WithoutMatchingConstructor(final String name, final long quantity) {
+            this.name = name;
+            this.quantity = (int) quantity;
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static class WithSameTypedFields {
+        private final String first;
+        private final String last;
+
+        WithSameTypedFields(final String last, final String first) {
+            this.first = first;
+            this.last = last;
+        }
+    }
+
+    @Test
+    void forClass() throws Exception {
+        final FieldConstructor result = FieldConstructor.forClass(Item.class);
+
+        assertThat(result).isNotNull();
+        assertThat(result.getConstructor().getParameterCount()).isEqualTo(3);
+        assertThat(result.getParameterIndex(ReflectionUtils.getField(Item.class, "quantity"))).isZero();
+        assertThat(result.getParameterIndex(ReflectionUtils.getField(Item.class, "tags"))).isEqualTo(1);
+        assertThat(result.getParameterIndex(ReflectionUtils.getField(Item.class, "name"))).isEqualTo(2);
+        assertThat(result.getParameterIndex(ReflectionUtils.getField(WithoutMatchingConstructor.class, "name"))).isEqualTo(-1);
+
+        final Object[] args = result.createDefaultArguments();
+        assertThat(args).containsExactly(0, null, null);
+        assertThat(result.createDefaultArguments()).isNotSameAs(args);
+
+        args[2] = "foo";
+        final Item item = (Item) result.newInstance(args);
+        assertThat(item.name).isEqualTo("foo");
+        assertThat(item.quantity).isZero();
+
+        assertThat(FieldConstructor.forClass(Item.class)).isSameAs(result);
+    }
+
+    @Test
+    void forClassWithoutMatchingConstructor() {
+        assertThat(FieldConstructor.forClass(WithoutMatchingConstructor.class)).isNull();
+        assertThat(FieldConstructor.forClass(WithSameTypedFields.class))
+                .as("parameter names are not available to tell same-typed fields apart")
+                .isNull();
+        assertThat(FieldConstructor.forClass(List.class)).isNull();
+        assertThat(FieldConstructor.forClass(String[].class)).isNull();
+        assertThat(FieldConstructor.forClass(Object.class)).isNull();
+    }
+
+    @Test
+    void forClassWithAllArgsConstructor() {
+        final FieldConstructor result = FieldConstructor.forClass(IntegerHolderWithoutDefaultConstructor.class);
+
+        assertThat(result).isNotNull();
+        assertThat(result.getConstructor().getParameterCount()).isEqualTo(2);
+    }
+}
@@ -30,7 +30,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class NoArgumentConstructorInstantiationStrategyTest {
 
-    private final InstantiationStrategy strategy = new NoArgumentConstructorInstantiationStrategy();
+    private final NoArgumentConstructorInstantiationStrategy strategy = new NoArgumentConstructorInstantiationStrategy();
 
     @ValueSource(classes = {
             ArrayList.class,
@@ -43,6 +43,13 @@ class NoArgumentConstructorInstantiationStrategyTest {
         assertThat(strategy.createInstance(klass)).isNotNull();
     }
 
+    @Test
+    void isApplicable() {
+        assertThat(strategy.isApplicable(IntegerHolder.class)).isTrue();
+        assertThat(strategy.isApplicable(IntegerHolderWithPrivateDefaultConstructor.class)).isTrue();
+        assertThat(strategy.isApplicable(IntegerHolderWithoutDefaultConstructor.class)).isFalse();
+    }
+
     @Test
     void createInstanceFails() {
         final Class<?> klass = IntegerHolderWithoutDefaultConstructor.class;
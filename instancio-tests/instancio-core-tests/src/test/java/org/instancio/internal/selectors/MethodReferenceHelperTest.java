@@ -15,11 +15,15 @@
  */
 package org.instancio.internal.selectors;
 
+import org.instancio.Selector;
 import org.instancio.test.support.pojo.misc.getters.BeanStylePojo;
 import org.instancio.test.support.pojo.misc.getters.PropertyStylePojo;
 import org.instancio.test.support.pojo.person.Person;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.instancio.testsupport.asserts.SelectorAssert.assertSelector;
 
@@ -33,6 +37,18 @@ class MethodReferenceHelperTest {
                 .hasNoScope();
     }
 
+    @Test
+    void resolveFromSameCallSiteShouldReturnNewSelectors() {
+        final List<Selector> results = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            results.add(MethodReferenceHelper.resolve(Person::getAge));
+        }
+
+        assertThat(results.get(0)).isEqualTo(results.get(1)).isNotSameAs(results.get(1));
+        assertThat(((SelectorImpl) results.get(0)).getStackTraceHolder())
+                .isNotSameAs(((SelectorImpl) results.get(1)).getStackTraceHolder());
+    }
+
     @Test
     void getPropertyName() {
         // java beans style
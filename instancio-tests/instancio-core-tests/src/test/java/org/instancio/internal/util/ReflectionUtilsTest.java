@@ -17,7 +17,6 @@ package org.instancio.internal.util;
 
 import org.instancio.Instancio;
 import org.instancio.exception.InstancioApiException;
-import org.instancio.test.support.pojo.basic.PrimitiveFields;
 import org.instancio.test.support.pojo.basic.StringHolder;
 import org.instancio.test.support.pojo.person.Gender;
 import org.instancio.test.support.pojo.person.Person;
@@ -27,12 +26,15 @@ import org.junit.jupiter.params.provider.ValueSource;
 
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
+import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Field;
 import java.util.AbstractList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
 
 class ReflectionUtilsTest {
 
@@ -61,6 +63,22 @@ class ReflectionUtilsTest {
         assertThat(enumValues).containsExactly(Gender.values());
     }
 
+    @Test
+    void trySetAccessible() throws Exception {
+        final Field field = WithAnnotatedField.class.getDeclaredField("foo");
+
+        assertThat(ReflectionUtils.trySetAccessible(field)).isTrue();
+        assertThat(field.isAccessible()).isTrue();
+    }
+
+    @Test
+    void trySetAccessibleShouldReturnFalseIfAccessCannotBeGranted() {
+        final AccessibleObject member = mock(AccessibleObject.class);
+        doThrow(new SecurityException("expected")).when(member).setAccessible(true);
+
+        assertThat(ReflectionUtils.trySetAccessible(member)).isFalse();
+    }
+
     @Test
     void getField() {
         assertThat(ReflectionUtils.getField(Person.class, "name"))
@@ -77,44 +95,6 @@ class ReflectionUtilsTest {
                 .hasMessage("Invalid field 'foo' for class org.instancio.test.support.pojo.person.Person");
     }
 
-    @Test
-    void hasNonNullValue() {
-        final Field nameField = ReflectionUtils.getField(Person.class, "name");
-        assertThat(ReflectionUtils.hasNonNullValue(nameField, new Person())).isFalse();
-        assertThat(ReflectionUtils.hasNonNullValue(nameField, Person.builder().name("foo").build())).isTrue();
-    }
-
-    @Test
-    void hasNonNullOrNonDefaultPrimitiveValue() {
-        final Field nameField = ReflectionUtils.getField(Person.class, "name");
-        assertThat(ReflectionUtils.hasNonNullOrNonDefaultPrimitiveValue(nameField, new Person())).isFalse();
-        assertThat(ReflectionUtils.hasNonNullOrNonDefaultPrimitiveValue(nameField, Person.builder().name("foo").build())).isTrue();
-    }
-
-    @ValueSource(strings = {"byteValue", "shortValue", "intValue", "longValue",
-            "floatValue", "doubleValue", "booleanValue", "charValue",})
-    @ParameterizedTest
-    void hasNonNullOrNonDefaultPrimitiveValue_WithDefaultValues(final String fieldName) {
-        final PrimitiveFields blank = PrimitiveFields.builder().build();
-        final PrimitiveFields initialised = PrimitiveFields.builder()
-                .byteValue((byte) 1)
-                .shortValue((short) 1)
-                .intValue(1)
-                .longValue(1)
-                .floatValue(0.000000001f)
-                .doubleValue(0.000000000001)
-                .booleanValue(true)
-                .charValue('0')
-                .build();
-
-
-        assertThat(ReflectionUtils.hasNonNullOrNonDefaultPrimitiveValue(
-                ReflectionUtils.getField(PrimitiveFields.class, fieldName), blank)).isFalse();
-
-        assertThat(ReflectionUtils.hasNonNullOrNonDefaultPrimitiveValue(
-                ReflectionUtils.getField(PrimitiveFields.class, fieldName), initialised)).isTrue();
-    }
-
     @Test
     void getAnnotatedFields() {
         final List<Field> fields = ReflectionUtils.getAnnotatedFields(WithAnnotatedField.class, AnnotationX.class);
@@ -0,0 +1,82 @@
+/*
+ *  Copyright 2022-2023 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.instancio.processor;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NativeImageConfigGeneratorTest {
+
+    private final NativeImageConfigGenerator generator = new NativeImageConfigGenerator();
+
+    @Test
+    void getConfigDirFromOption() {
+        assertThat(generator.getConfigDir("com.example/my-app", Collections.singletonList("com.example")))
+                .isEqualTo("META-INF/native-image/com.example/my-app/");
+        assertThat(generator.getConfigDir(" /com.example/my-app/ ", Collections.emptyList()))
+                .isEqualTo("META-INF/native-image/com.example/my-app/");
+    }
+
+    @Test
+    void getConfigDirDefaultsToPackageOfAnnotatedClasses() {
+        assertThat(generator.getConfigDir(null, Arrays.asList("org.example.b", "org.example.a")))
+                .isEqualTo("META-INF/native-image/instancio-processor/org.example.a/");
+        assertThat(generator.getConfigDir("  ", Collections.singletonList("org.example")))
+                .isEqualTo("META-INF/native-image/instancio-processor/org.example/");
+    }
+
+    @Test
+    void getConfigDirWithDefaultPackage() {
+        assertThat(generator.getConfigDir(null, Collections.singletonList("")))
+                .isEqualTo("META-INF/native-image/instancio-processor/generated/");
+    }
+
+    @Test
+    void getReflectConfig() {
+        final String result = generator.getReflectConfig(
+                Arrays.asList("org.example.Foo", "org.example.Foo$Bar"),
+                Collections.singletonList("org.example.Foo_Populator"));
+
+        assertThat(result.trim())
+                .startsWith("[")
+                .endsWith("]")
+                .containsSubsequence(
+                        "\"name\": \"org.example.Foo\"",
+                        "\"allDeclaredFields\": true",
+                        "\"unsafeAllocated\": true",
+                        "},",
+                        "\"name\": \"org.example.Foo$Bar\"",
+                        "},",
+                        "\"name\": \"org.example.Foo_Populator\"",
+                        "\"methods\": [{\"name\": \"<init>\", \"parameterTypes\": []}]");
+    }
+
+    @Test
+    void getResourceConfig() {
+        final String result = generator.getResourceConfig(Arrays.asList("foo.properties", "META-INF/bar"));
+
+        assertThat(result).containsSubsequence(
+                "\"resources\": {",
+                "\"includes\": [",
+                "{\"pattern\": \"\\\\Qfoo.properties\\\\E\"},",
+                "{\"pattern\": \"\\\\QMETA-INF/bar\\\\E\"}",
+                "]");
+    }
+}
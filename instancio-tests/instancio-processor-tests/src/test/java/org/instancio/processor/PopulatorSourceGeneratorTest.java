@@ -0,0 +1,84 @@
+/*
+ *  Copyright 2022-2023 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.instancio.processor;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PopulatorSourceGeneratorTest {
+
+    private final PopulatorSourceGenerator sourceGenerator = new PopulatorSourceGenerator();
+
+    @Test
+    void getSource() {
+        final Map<String, String> fieldTypes = new LinkedHashMap<>();
+        fieldTypes.put("fieldOne", "java.lang.String");
+        fieldTypes.put("fieldTwo", "java.lang.Integer");
+        fieldTypes.put("fieldThree", "long");
+
+        final PopulatorClass populatorClass = new PopulatorClass(
+                "org.example.Outer.SomeClass", "org.example", "Outer_SomeClass_Populator", true, fieldTypes);
+
+        final String source = sourceGenerator.getSource(populatorClass);
+
+        assertThat(populatorClass.getPopulatorClassName()).isEqualTo("org.example.Outer_SomeClass_Populator");
+        assertThat(source).containsSubsequence(
+                "package org.example;",
+                "import org.instancio.spi.Populator;",
+                "public final class Outer_SomeClass_Populator implements Populator<org.example.Outer.SomeClass> {",
+                "public Class<org.example.Outer.SomeClass> getTargetClass() {",
+                "return org.example.Outer.SomeClass.class;",
+                "public org.example.Outer.SomeClass newInstance() {",
+                "return new org.example.Outer.SomeClass();",
+                "public BiConsumer<org.example.Outer.SomeClass, Object> getFieldWriter(final String fieldName) {",
+                "case \"fieldOne\": return (obj, value) -> obj.fieldOne = (java.lang.String) value;",
+                "case \"fieldTwo\": return (obj, value) -> obj.fieldTwo = (java.lang.Integer) value;",
+                "case \"fieldThree\": return (obj, value) -> obj.fieldThree = toLong(value);",
+                "default: return null;",
+                "private static long toLong(final Object value) {",
+                "if (value instanceof Long) return (Long) value;",
+                "if (value instanceof Integer) return (Integer) value;",
+                "if (value instanceof Short) return (Short) value;",
+                "if (value instanceof Byte) return (Byte) value;",
+                "if (value instanceof Character) return (Character) value;",
+                "throw new IllegalArgumentException(\"Can not set long field to \"",
+                "}");
+        assertThat(source).doesNotContain("toInt(", "toDouble(");
+    }
+
+    @Test
+    void getSourceForNonInstantiableClassInDefaultPackage() {
+        final PopulatorClass populatorClass = new PopulatorClass(
+                "SomeClass", null, "SomeClass_Populator", false, Collections.emptyMap());
+
+        final String source = sourceGenerator.getSource(populatorClass);
+
+        assertThat(populatorClass.getPopulatorClassName()).isEqualTo("SomeClass_Populator");
+        assertThat(source.trim())
+                .doesNotContain("package", "case ")
+                .startsWith("import")
+                .containsSubsequence(
+                        "public final class SomeClass_Populator implements Populator<SomeClass> {",
+                        "public SomeClass newInstance() {",
+                        "return null;",
+                        "default: return null;");
+    }
+}
@@ -72,7 +72,9 @@ public enum Feature {
     ON_COMPLETE,
     OVERWRITE_EXISTING_VALUES,
     PATH_GENERATOR,
+    POPULATOR,
     PREDICATE_SELECTOR,
+    RANDOM_ENGINE,
     ROOT_SELECTOR,
     SCOPE,
     SELECTOR,
@@ -92,6 +94,7 @@ public enum Feature {
     URL_GENERATOR,
     UUID_STRING_GENERATOR,
     VALIDATION,
+    WEIGHTED_ONE_OF_GENERATOR,
     WITH_SEED,
     WITH_SEED_ANNOTATION,
     WITH_SETTINGS_ANNOTATION,
@@ -39,6 +39,10 @@ class RecordHelperImplTest {
                 .isPresent().get()
                 .satisfies(it -> assertThat(it.getParameterTypes()).containsExactly(String.class, int.class, AddressRecord.class));
 
+        assertThat(recordHelper.getCanonicalConstructor(PersonRecord.class).get())
+                .as("should be resolved once per class")
+                .isSameAs(new RecordHelperImpl().getCanonicalConstructor(PersonRecord.class).get());
+
         assertThatThrownBy(() -> recordHelper.getCanonicalConstructor(String.class))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("Class 'java.lang.String' is not a record!");
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.test.java17.random;
+
+import org.instancio.Instancio;
+import org.instancio.RandomEngineType;
+import org.instancio.settings.Keys;
+import org.instancio.settings.Settings;
+import org.instancio.test.support.pojo.person.Person;
+import org.instancio.test.support.tags.Feature;
+import org.instancio.test.support.tags.FeatureTag;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * NOTE: this test fails in IntelliJ, run it using Maven
+ */
+@FeatureTag(Feature.RANDOM_ENGINE)
+class RandomGeneratorEngineTest {
+
+    private static final long SEED = 123;
+
+    private static Person create(final RandomEngineType engineType) {
+        return Instancio.of(Person.class)
+                .withSettings(Settings.create().set(Keys.RANDOM_ENGINE, engineType))
+                .withSeed(SEED)
+                .create();
+    }
+
+    @Test
+    void shouldProduceSameObjectsGivenSameSeed() {
+        final Person result = create(RandomEngineType.L64X128MIX);
+
+        assertThat(result).isEqualTo(create(RandomEngineType.L64X128MIX));
+        assertThat(result.getName()).isNotBlank();
+        assertThat(result.getAddress()).isNotNull();
+    }
+
+    @Test
+    void shouldProduceDifferentObjectsThanDefaultEngine() {
+        assertThat(create(RandomEngineType.L64X128MIX)).isNotEqualTo(create(RandomEngineType.JDK));
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ *  Copyright 2022-2023 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.instancio.test.populator;
+
+import org.instancio.test.support.tags.Feature;
+import org.instancio.test.support.tags.FeatureTag;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies native-image configuration generated by the annotation
+ * processor with the {@code instancio.nativeImage} option enabled
+ * and the directory set to {@code <groupId>/<artifactId>}.
+ */
+@FeatureTag(Feature.POPULATOR)
+class NativeImageConfigTest {
+    private static final String CONFIG_DIR = "META-INF/native-image/org.instancio/populator-tests/";
+
+    @Test
+    void reflectConfigShouldIncludeClassesReachableFromRootClasses() throws Exception {
+        final String config = readResource(CONFIG_DIR + "reflect-config.json");
+
+        assertThat(config)
+                // listed in @InstancioMetamodel
+                .contains("\"name\": \"org.instancio.test.support.pojo.person.Person\"")
+                .contains("\"name\": \"org.instancio.test.support.pojo.nested.OuterClass$InnerStaticClass\"")
+                // reachable via fields, including type arguments
+                .contains("\"name\": \"org.instancio.test.support.pojo.person.Pet\"")
+                .contains("\"name\": \"org.instancio.test.support.pojo.person.Gender\"")
+                // populators are instantiated by the service loader
+                .contains("\"name\": \"org.instancio.test.support.pojo.person.Person_Populator\"")
+                .doesNotContain("\"name\": \"java.");
+    }
+
+    @Test
+    void resourceConfigShouldIncludePopulatorServices() throws Exception {
+        final String config = readResource(CONFIG_DIR + "resource-config.json");
+
+        assertThat(config).contains("META-INF/services/org.instancio.spi.Populator");
+    }
+
+    private static String readResource(final String name) throws Exception {
+        try (InputStream in = NativeImageConfigTest.class.getClassLoader().getResourceAsStream(name)) {
+            assertThat(in).as("resource %s", name).isNotNull();
+            return new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))
+                    .lines()
+                    .collect(Collectors.joining("\n"));
+        }
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.test.populator;
+
+import org.instancio.Instancio;
+import org.instancio.assignment.AssignmentType;
+import org.instancio.internal.reflection.Populators;
+import org.instancio.settings.Keys;
+import org.instancio.settings.Settings;
+import org.instancio.test.support.pojo.basic.SupportedNumericTypes;
+import org.instancio.test.support.pojo.person.Person;
+import org.instancio.test.support.tags.Feature;
+import org.instancio.test.support.tags.FeatureTag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.instancio.test.support.asserts.ReflectionAssert.assertThatObject;
+
+/**
+ * Verifies that objects are fully populated when classes have generated populators.
+ */
+@FeatureTag(Feature.POPULATOR)
+class PopulatorAssignmentTest {
+
+    @EnumSource(AssignmentType.class)
+    @ParameterizedTest
+    void create(final AssignmentType assignmentType) {
+        assertThat(Populators.get(Person.class)).isNotNull();
+        assertThat(Populators.get(SupportedNumericTypes.class)).isNotNull();
+
+        final Settings settings = Settings.create().set(Keys.ASSIGNMENT_TYPE, assignmentType);
+
+        assertThatObject(Instancio.of(Person.class).withSettings(settings).create()).isFullyPopulated();
+        assertThatObject(Instancio.of(SupportedNumericTypes.class).withSettings(settings).create()).isFullyPopulated();
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.test.populator;
+
+import org.instancio.Instancio;
+import org.instancio.exception.InstancioApiException;
+import org.instancio.internal.reflection.Populators;
+import org.instancio.internal.util.ReflectionUtils;
+import org.instancio.spi.Populator;
+import org.instancio.test.support.tags.Feature;
+import org.instancio.test.support.tags.FeatureTag;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.instancio.Select.field;
+
+@FeatureTag(Feature.POPULATOR)
+class PopulatorTest {
+
+    @SuppressWarnings("unused")
+    private String unused;
+
+    @Test
+    void generatedPopulatorShouldBeRegistered() {
+        final Populator<PopulatedPojo> populator = Populators.get(PopulatedPojo.class);
+
+        assertThat(populator).isNotNull();
+        assertThat(populator.getTargetClass()).isEqualTo(PopulatedPojo.class);
+        assertThat(populator.newInstance()).isNotNull();
+        assertThat(populator.getFieldWriter("string")).isNotNull();
+        assertThat(populator.getFieldWriter("intArray")).isNotNull();
+        assertThat(populator.getFieldWriter("privateString")).isNull();
+        assertThat(populator.getFieldWriter("finalString")).isNull();
+        assertThat(Populators.getFieldWriter(ReflectionUtils.getField(PopulatedPojo.Nested.class, "value"))).isNotNull();
+    }
+
+    @Test
+    void classesWithoutPopulatorShouldNotResolveOne() {
+        assertThat(Populators.get(String.class)).isNull();
+        assertThat(Populators.get(PopulatorTest.class)).isNull();
+        assertThat(Populators.getFieldWriter(ReflectionUtils.getField(PopulatorTest.class, "unused"))).isNull();
+    }
+
+    @Test
+    void create() {
+        final PopulatedPojo result = Instancio.create(PopulatedPojo.class);
+
+        assertThat(result.string).isNotBlank();
+        assertThat(result.primitiveInt).isPositive();
+        assertThat(result.integerWrapper).isPositive();
+        assertThat(result.list).isNotEmpty().doesNotContainNull();
+        assertThat(result.intArray).isNotEmpty();
+        assertThat(result.nested.value).isPositive();
+        assertThat(result.getPrivateString()).isNotBlank();
+    }
+
+    @Test
+    void selectorsShouldApplyToFieldsAssignedByPopulator() {
+        final PopulatedPojo result = Instancio.of(PopulatedPojo.class)
+                .set(field("string"), "foo")
+                .ignore(field(PopulatedPojo.Nested.class, "value"))
+                .create();
+
+        assertThat(result.string).isEqualTo("foo");
+        assertThat(result.nested.value).isNull();
+    }
+
+    @Test
+    void wideningConversionShouldBeSupportedAsWithReflection() {
+        final PopulatedPojo result = Instancio.of(PopulatedPojo.class)
+                .supply(field("primitiveInt"), () -> (short) 5)
+                .create();
+
+        assertThat(result.primitiveInt).isEqualTo(5);
+
+        final PopulatedPojo charResult = Instancio.of(PopulatedPojo.class)
+                .supply(field("primitiveInt"), () -> 'A')
+                .create();
+
+        assertThat(charResult.primitiveInt).isEqualTo('A');
+
+        final PopulatedPojo longResult = Instancio.of(PopulatedPojo.class)
+                .supply(field("primitiveLong"), () -> 5)
+                .create();
+
+        assertThat(longResult.primitiveLong).isEqualTo(5L);
+    }
+
+    @Test
+    void nullShouldBeRejectedForPrimitiveFields() {
+        final Populator<PopulatedPojo> populator = Populators.get(PopulatedPojo.class);
+
+        assertThatThrownBy(() -> populator.getFieldWriter("primitiveInt").accept(new PopulatedPojo(), null))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Can not set int field to null value");
+    }
+
+    @Test
+    void narrowingConversionShouldBeReportedAsWithReflection() {
+        assertThatThrownBy(() -> Instancio.of(PopulatedPojo.class)
+                .supply(field("primitiveInt"), () -> 5L)
+                .create())
+                .isExactlyInstanceOf(InstancioApiException.class);
+    }
+
+    @Test
+    void typeMismatchShouldBeReported() {
+        assertThatThrownBy(() -> Instancio.of(PopulatedPojo.class)
+                .supply(field("integerWrapper"), () -> "bad")
+                .create())
+                .isExactlyInstanceOf(InstancioApiException.class);
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.test.populator;
+
+import org.instancio.InstancioMetamodel;
+import org.instancio.test.support.pojo.basic.SupportedNumericTypes;
+import org.instancio.test.support.pojo.misc.StringAndPrimitiveFields;
+import org.instancio.test.support.pojo.nested.OuterClass;
+import org.instancio.test.support.pojo.person.Address;
+import org.instancio.test.support.pojo.person.Person;
+import org.instancio.test.support.pojo.person.Phone;
+
+@InstancioMetamodel(classes = {
+        Address.class,
+        Phone.class,
+        Person.class,
+        SupportedNumericTypes.class,
+        OuterClass.InnerStaticClass.class,
+        StringAndPrimitiveFields.class
+})
+public interface PopulatorTestMetamodels {
+}
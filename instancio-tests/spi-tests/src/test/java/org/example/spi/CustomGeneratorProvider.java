@@ -16,12 +16,14 @@
 package org.example.spi;
 
 import org.example.generator.CustomIntegerGenerator;
+import org.example.generator.SequenceGenerator;
 import org.instancio.generator.Generator;
 import org.instancio.generator.GeneratorContext;
 import org.instancio.spi.GeneratorProvider;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Pattern;
 
 public class CustomGeneratorProvider implements GeneratorProvider {
@@ -36,6 +38,8 @@ public class CustomGeneratorProvider implements GeneratorProvider {
         map.put(Pattern.class, random -> PATTERN_GENERATOR_VALUE);
         map.put(int.class, new CustomIntegerGenerator());
         map.put(Integer.class, new CustomIntegerGenerator());
+        // a new instance on every call
+        map.put(AtomicLong.class, new SequenceGenerator());
         return map;
     }
 }
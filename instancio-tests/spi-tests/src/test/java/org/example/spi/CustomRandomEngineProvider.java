@@ -0,0 +1,37 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.example.spi;
+
+import org.instancio.spi.RandomEngine;
+import org.instancio.spi.RandomEngineProvider;
+
+/**
+ * Provides an engine that counts up from the seed.
+ */
+public class CustomRandomEngineProvider implements RandomEngineProvider {
+
+    @Override
+    public RandomEngine createRandomEngine(final long seed) {
+        return new RandomEngine() {
+            private long value = seed;
+
+            @Override
+            public long nextLong() {
+                return value++;
+            }
+        };
+    }
+}
@@ -23,7 +23,9 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.instancio.Select.all;
@@ -75,4 +77,15 @@ class CustomGeneratorProviderTest {
                         .isEven()
                         .isBetween(CustomIntegerGenerator.MIN, CustomIntegerGenerator.MAX));
     }
+
+    @Test
+    @DisplayName("Provider should be called for every lookup instead of sharing the first generator it returns")
+    void shouldNotCacheGeneratorsReturnedByProvider() {
+        final List<AtomicLong> result = Instancio.of(new TypeToken<List<AtomicLong>>() {})
+                .generate(all(List.class), gen -> gen.collection().size(3))
+                .create();
+
+        assertThat(result.stream().map(AtomicLong::get).collect(Collectors.toList()))
+                .containsExactly(1L, 1L, 1L);
+    }
 }
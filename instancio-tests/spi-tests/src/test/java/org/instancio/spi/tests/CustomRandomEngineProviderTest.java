@@ -0,0 +1,57 @@
+/*
+ * Copyright 2022-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.spi.tests;
+
+import org.instancio.Instancio;
+import org.instancio.RandomEngineType;
+import org.instancio.settings.Keys;
+import org.instancio.settings.Settings;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.instancio.Select.allInts;
+
+class CustomRandomEngineProviderTest {
+
+    private static final int SIZE = 5;
+
+    @Test
+    void shouldUseEngineProvidedViaSPI() {
+        final List<Integer> results = Instancio.ofList(Integer.class)
+                .size(SIZE)
+                .generate(allInts(), gen -> gen.ints().range(0, 1 << 20))
+                .withSettings(Settings.create().set(Keys.RANDOM_ENGINE, RandomEngineType.CUSTOM))
+                .withSeed(0)
+                .create();
+
+        // the custom engine counts up from the seed, so consecutive
+        // values (the top 31 bits of each long) are all zero
+        assertThat(results).hasSize(SIZE).containsOnly(0);
+    }
+
+    @Test
+    void shouldNotUseEngineProvidedViaSPIByDefault() {
+        final List<Integer> results = Instancio.ofList(Integer.class)
+                .size(SIZE)
+                .generate(allInts(), gen -> gen.ints().range(0, 1 << 20))
+                .withSeed(0)
+                .create();
+
+        assertThat(results).hasSize(SIZE).doesNotHaveDuplicates();
+    }
+}